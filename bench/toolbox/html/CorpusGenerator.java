@@ -0,0 +1,275 @@
+package toolbox.html;
+
+import java.util.Random;
+
+/***********************************************************************************************************************
+ * Gera documentos HTML e XML sinteticos para os benchmarks dos parsers. Os documentos sao deterministicos: a mesma
+ * semente e o mesmo tamanho produzem sempre o mesmo documento.
+ *
+ * <p>Todos os documentos HTML gerados tem tags balanceadas e podem ser analisados por um <code>HtmlParser</code>.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class CorpusGenerator {
+
+    private static final String[] WORDS = {
+        "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do", "eiusmod",
+        "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim", "ad", "minim", "veniam"
+    };
+
+    private static final String[] INLINE = {"span", "b", "i", "em", "strong", "a", "code"};
+
+    private final Random random;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param seed A semente do gerador pseudo-aleatorio.
+     ******************************************************************************************************************/
+    public CorpusGenerator(final long seed) {
+
+        random = new Random(seed);
+
+    }//construtor
+
+    private void words(final StringBuilder sb, final int count) {
+
+        for (int i = 0; i < count; i++) {
+
+            if (i > 0) sb.append(' ');
+
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+    }//words
+
+    private void attrs(final StringBuilder sb, final int count) {
+
+        for (int i = 0; i < count; i++) {
+
+            sb.append(" data-").append(WORDS[random.nextInt(WORDS.length)]).append(i).append("=\"");
+
+            words(sb, 1 + random.nextInt(3));
+
+            sb.append('"');
+        }
+
+    }//attrs
+
+    private void paragraph(final StringBuilder sb) {
+
+        sb.append("<p class=\"text ").append(WORDS[random.nextInt(WORDS.length)]).append("\">");
+
+        words(sb, 8 + random.nextInt(24));
+
+        String inline = INLINE[random.nextInt(INLINE.length)];
+
+        sb.append(" <").append(inline).append(inline.equals("a") ? " href=\"/page/" + random.nextInt(1000) + "\">" : ">");
+
+        words(sb, 1 + random.nextInt(4));
+
+        sb.append("</").append(inline).append("> ");
+
+        words(sb, 4 + random.nextInt(12));
+
+        sb.append("<br></p>\n");
+
+    }//paragraph
+
+    private String page(final String body) {
+
+        return
+            "<!DOCTYPE html>\n<html lang=\"en\"><head><meta charset=\"utf-8\"><title>Benchmark</title>" +
+            "<link rel=\"stylesheet\" href=\"/style.css\"></head>\n<body>\n" + body + "</body></html>\n";
+
+    }//page
+
+    /*******************************************************************************************************************
+     * Pagina de texto com elementos de bloco e inline, sem caracteristicas extremas.
+     *
+     * @param size Tamanho aproximado do documento em caracteres.
+     *
+     * @return O documento.
+     ******************************************************************************************************************/
+    public String textHeavy(final int size) {
+
+        StringBuilder sb = new StringBuilder(size + 4096);
+
+        while (sb.length() < size) {
+
+            sb.append("<div class=\"section\" id=\"s").append(sb.length()).append("\">\n");
+
+            for (int i = 0; i < 8; i++) paragraph(sb);
+
+            sb.append("</div>\n");
+        }
+
+        return page(sb.toString());
+
+    }//textHeavy
+
+    /*******************************************************************************************************************
+     * Pagina com elementos aninhados em grande profundidade.
+     *
+     * @param size Tamanho aproximado do documento em caracteres.
+     *
+     * @param depth Profundidade de cada bloco aninhado.
+     *
+     * @return O documento.
+     ******************************************************************************************************************/
+    public String deepNesting(final int size, final int depth) {
+
+        StringBuilder sb = new StringBuilder(size + 4096);
+
+        while (sb.length() < size) {
+
+            for (int i = 0; i < depth; i++) sb.append("<div class=\"level").append(i).append("\">");
+
+            words(sb, 3);
+
+            for (int i = 0; i < depth; i++) sb.append("</div>");
+
+            sb.append('\n');
+        }
+
+        return page(sb.toString());
+
+    }//deepNesting
+
+    /*******************************************************************************************************************
+     * Pagina com tags de listas de atributos extensas.
+     *
+     * @param size Tamanho aproximado do documento em caracteres.
+     *
+     * @param attrsPerTag Numero de atributos de cada tag.
+     *
+     * @return O documento.
+     ******************************************************************************************************************/
+    public String hugeAttributes(final int size, final int attrsPerTag) {
+
+        StringBuilder sb = new StringBuilder(size + 4096);
+
+        while (sb.length() < size) {
+
+            sb.append("<div class=\"item\"");
+
+            attrs(sb, attrsPerTag);
+
+            sb.append("><img src=\"/img/").append(random.nextInt(1000)).append(".png\"");
+
+            attrs(sb, attrsPerTag);
+
+            sb.append(">");
+
+            words(sb, 5);
+
+            sb.append("</div>\n");
+        }
+
+        return page(sb.toString());
+
+    }//hugeAttributes
+
+    /*******************************************************************************************************************
+     * Pagina com blocos de script e style extensos, que contem &lt; e &gt; no codigo.
+     *
+     * @param size Tamanho aproximado do documento em caracteres.
+     *
+     * @return O documento.
+     ******************************************************************************************************************/
+    public String bigScripts(final int size) {
+
+        StringBuilder sb = new StringBuilder(size + 4096);
+
+        while (sb.length() < size) {
+
+            sb.append("<script>\n");
+
+            for (int i = 0; i < 200; i++) {
+
+                sb.append("if (a").append(i).append(" < b && c > d) { html += '<span class=\"x\">' + ");
+                sb.append(random.nextInt()).append(" + '</span>'; }\n");
+            }
+
+            sb.append("</script>\n<style>\n");
+
+            for (int i = 0; i < 50; i++) sb.append("div > p.c").append(i).append(" { margin: ").append(i).append("px; }\n");
+
+            sb.append("</style>\n");
+
+            paragraph(sb);
+        }
+
+        return page(sb.toString());
+
+    }//bigScripts
+
+    /*******************************************************************************************************************
+     * Pagina em que boa parte do conteudo sao comentarios.
+     *
+     * @param size Tamanho aproximado do documento em caracteres.
+     *
+     * @return O documento.
+     ******************************************************************************************************************/
+    public String commentHeavy(final int size) {
+
+        StringBuilder sb = new StringBuilder(size + 4096);
+
+        while (sb.length() < size) {
+
+            sb.append("<!-- ");
+
+            words(sb, 40 + random.nextInt(80));
+
+            sb.append(" -->\n");
+
+            paragraph(sb);
+        }
+
+        return page(sb.toString());
+
+    }//commentHeavy
+
+    /*******************************************************************************************************************
+     * Documento XML no formato de um feed RSS.
+     *
+     * @param size Tamanho aproximado do documento em caracteres.
+     *
+     * @return O documento.
+     ******************************************************************************************************************/
+    public String xmlFeed(final int size) {
+
+        StringBuilder sb = new StringBuilder(size + 4096);
+
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss version=\"2.0\"><channel><title>Feed</title>\n");
+
+        int id = 0;
+
+        while (sb.length() < size) {
+
+            sb.append("<item id=\"").append(id++).append("\"><title>");
+
+            words(sb, 6);
+
+            sb.append("</title><link>http://example.com/item/").append(id).append("</link><description>");
+
+            words(sb, 30 + random.nextInt(30));
+
+            sb.append("</description><category domain=\"tags\">");
+
+            words(sb, 1);
+
+            sb.append("</category></item>\n");
+        }
+
+        sb.append("</channel></rss>\n");
+
+        return sb.toString();
+
+    }//xmlFeed
+
+}//classe CorpusGenerator
@@ -0,0 +1,410 @@
+package toolbox.html;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedList;
+import java.util.List;
+
+/***********************************************************************************************************************
+ * Benchmarks dos parsers do pacote toolbox.html sobre os documentos sinteticos de {@link CorpusGenerator
+ * CorpusGenerator}.
+ *
+ * <p>Cada benchmark e executado repetidamente durante um periodo de aquecimento, para que o JIT compile o codigo, e
+ * depois durante o periodo de medicao. Sao reportados a vazao em MB/s (caracteres do documento por segundo) e o numero
+ * de bytes alocados pela thread do benchmark por operacao.
+ *
+ * <pre>
+ * java -cp classes:bench-classes toolbox.html.ParserBenchmark [filtro] [segundos]
+ * </pre>
+ *
+ * <p>Sao executados apenas os benchmarks cujo nome contiver o filtro (todos, se omitido ou "all").
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class ParserBenchmark {
+
+    private static final int DOCUMENT_SIZE = 2 * 1024 * 1024;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX =
+        (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+    private ParserBenchmark() {}
+
+/*======================================================================================================================
+ * Um benchmark: uma operacao sobre um documento.
+======================================================================================================================*/
+abstract static class Benchmark {
+
+    final String name;
+
+    final String document;
+
+    Benchmark(final String name, final String document) {
+
+        this.name = name;
+        this.document = document;
+    }
+
+    abstract void run() throws Exception;
+
+}//classe Benchmark
+
+/*======================================================================================================================
+ * TagParser que so conta as tags, para medir o custo do parser.
+======================================================================================================================*/
+static final class CountingParser extends TagParser {
+
+    int count;
+
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        count++;
+
+        return null;
+    }
+
+}//classe CountingParser
+
+/*======================================================================================================================
+ * TagParser que le atributos de todas as tags.
+======================================================================================================================*/
+static final class AttributeParser extends TagParser {
+
+    int count;
+
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        if (tag.getAttrMap().get("href") != null) count++;
+
+        if (tag.isClass("text")) count++;
+
+        if (tag.isId("s0")) count++;
+
+        return null;
+    }
+
+}//classe AttributeParser
+
+/*======================================================================================================================
+ * TagParser que coleta os atributos href e src, a alternativa generica ao LinkExtractor.
+======================================================================================================================*/
+static final class LinkParser extends TagParser {
+
+    int count;
+
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        if (tag.getAttrMap().get("href") != null) count++;
+
+        if (tag.getAttrMap().get("src") != null) count++;
+
+        return null;
+    }
+
+}//classe LinkParser
+
+/*======================================================================================================================
+ * TagParser que captura o conteudo de todas as tags div e p.
+======================================================================================================================*/
+static final class CaptureParser extends TagParser {
+
+    long length;
+
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        if (tag.getTagId().equals("div") || tag.getTagId().equals("p")) tag.notifyClosing();
+
+        return null;
+    }
+
+    @Override
+    public void closeTag(final Tag tag) {
+
+        length += tag.getTagContent().length();
+    }
+
+}//classe CaptureParser
+
+    /*==================================================================================================================
+     * Os benchmarks disponiveis.
+     =================================================================================================================*/
+    static List<Benchmark> benchmarks() {
+
+        CorpusGenerator generator = new CorpusGenerator(42);
+
+        String[][] pages = {
+            {"textHeavy", generator.textHeavy(DOCUMENT_SIZE)},
+            {"deepNesting", generator.deepNesting(DOCUMENT_SIZE, 200)},
+            {"hugeAttributes", generator.hugeAttributes(DOCUMENT_SIZE, 60)},
+            {"bigScripts", generator.bigScripts(DOCUMENT_SIZE)},
+            {"commentHeavy", generator.commentHeavy(DOCUMENT_SIZE)}
+        };
+
+        List<Benchmark> list = new LinkedList<>();
+
+        for (String[] page : pages) {
+
+            list.add(new Benchmark("HtmlParser.parse:" + page[0], page[1]) {
+
+                @Override
+                void run() throws Exception {
+
+                    new HtmlParser(document, new CountingParser()).parse();
+                }
+            });
+        }
+
+        //O tokenizador do HtmlParser comparado com a regex que ele substituiu
+        for (int i : new int[] {0, 4}) {
+
+            list.add(new Benchmark("Tokenizer.regex:" + pages[i][0], pages[i][1]) {
+
+                final toolbox.regex.Regex regex = new toolbox.regex.Regex("</?([A-Za-z]+)([\\S\\s]*?)>");
+
+                int count;
+
+                @Override
+                void run() {
+
+                    regex.setTarget(document);
+
+                    while (regex.find() != null) if (regex.group(2).isEmpty()) count++;
+                }
+            });
+
+            list.add(new Benchmark("Tokenizer.scanner:" + pages[i][0], pages[i][1]) {
+
+                final HtmlScanner scanner = new HtmlScanner("");
+
+                int count;
+
+                @Override
+                void run() {
+
+                    scanner.reset(document);
+
+                    while (scanner.next(false)) if (scanner.getAttributes().isEmpty()) count++;
+                }
+            });
+        }
+
+        list.add(new Benchmark("HtmlParser.parse+stats:textHeavy", pages[0][1]) {
+
+            final ParserStats stats = new ParserStats();
+
+            @Override
+            void run() throws Exception {
+
+                HtmlParser parser = new HtmlParser(document, new CountingParser());
+
+                parser.setStats(stats);
+
+                parser.parse();
+            }
+        });
+
+        list.add(new Benchmark("XmlParser.parse:xmlFeed", generator.xmlFeed(DOCUMENT_SIZE)) {
+
+            @Override
+            void run() throws Exception {
+
+                new XmlParser(document, new CountingParser()).parse();
+            }
+        });
+
+        list.add(new Benchmark("PathEvaluator:xmlFeed", generator.xmlFeed(DOCUMENT_SIZE)) {
+
+            long length;
+
+            final PathEvaluator.MatchHandler handler = new PathEvaluator.MatchHandler() {
+
+                @Override
+                public void match(final Tag tag) {
+
+                    length += tag.getTagContent().length();
+                }
+            };
+
+            @Override
+            void run() throws Exception {
+
+                new XmlParser(document, new PathEvaluator("/rss/channel/item[@id]/title", handler)).parse();
+            }
+        });
+
+        list.add(new Benchmark("Tag.getAttrMap:hugeAttributes", pages[2][1]) {
+
+            @Override
+            void run() throws Exception {
+
+                new HtmlParser(document, new AttributeParser()).parse();
+            }
+        });
+
+        list.add(new Benchmark("Tag.getAttrMap:textHeavy", pages[0][1]) {
+
+            @Override
+            void run() throws Exception {
+
+                new HtmlParser(document, new AttributeParser()).parse();
+            }
+        });
+
+        list.add(new Benchmark("Tag.getAttrMap+pooling:hugeAttributes", pages[2][1]) {
+
+            @Override
+            void run() throws Exception {
+
+                HtmlParser parser = new HtmlParser(document, new AttributeParser());
+
+                parser.setTagPooling(true);
+
+                parser.parse();
+            }
+        });
+
+        list.add(new Benchmark("XmlParser.parse+pooling:xmlFeed", generator.xmlFeed(DOCUMENT_SIZE)) {
+
+            @Override
+            void run() throws Exception {
+
+                XmlParser parser = new XmlParser(document, new CountingParser());
+
+                parser.setTagPooling(true);
+
+                parser.parse();
+            }
+        });
+
+        list.add(new Benchmark("Tag.getTagContent:textHeavy", pages[0][1]) {
+
+            @Override
+            void run() throws Exception {
+
+                new HtmlParser(document, new CaptureParser()).parse();
+            }
+        });
+
+        for (int i : new int[] {0, 2}) {
+
+            list.add(new Benchmark("Links.HtmlParser:" + pages[i][0], pages[i][1]) {
+
+                @Override
+                void run() throws Exception {
+
+                    new HtmlParser(document, new LinkParser()).parse();
+                }
+            });
+
+            list.add(new Benchmark("Links.LinkExtractor:" + pages[i][0], pages[i][1]) {
+
+                final LinkExtractor extractor = new LinkExtractor();
+
+                final LinkExtractor.LinkHandler handler = new LinkExtractor.LinkHandler() {
+
+                    int count;
+
+                    @Override
+                    public void link(final String tagId, final String attr, final String url) {
+
+                        count++;
+                    }
+                };
+
+                @Override
+                void run() throws Exception {
+
+                    extractor.extract(document, handler);
+                }
+            });
+        }
+
+        list.add(new Benchmark("HtmlTextExtractor.extract:textHeavy", pages[0][1]) {
+
+            final HtmlTextExtractor extractor = new HtmlTextExtractor();
+
+            final StringBuilder text = new StringBuilder();
+
+            @Override
+            void run() throws Exception {
+
+                text.setLength(0);
+
+                extractor.extract(document, text);
+            }
+        });
+
+        return list;
+
+    }//benchmarks
+
+    /*==================================================================================================================
+     * Executa o benchmark durante warmup segundos sem medir e durante seconds segundos medindo.
+     =================================================================================================================*/
+    static void measure(final Benchmark benchmark, final double seconds) throws Exception {
+
+        long warmupEnd = System.nanoTime() + (long)(seconds * 0.5e9);
+
+        while (System.nanoTime() < warmupEnd) benchmark.run();
+
+        long thread = Thread.currentThread().getId();
+
+        int ops = 0;
+
+        long allocated = THREAD_MX.getThreadAllocatedBytes(thread);
+
+        long start = System.nanoTime();
+
+        long end = start + (long)(seconds * 1e9);
+
+        long now;
+
+        do {
+
+            benchmark.run();
+
+            ops++;
+
+        } while ((now = System.nanoTime()) < end);
+
+        allocated = THREAD_MX.getThreadAllocatedBytes(thread) - allocated;
+
+        double elapsed = (now - start) / 1e9;
+
+        System.out.printf(
+            "%-40s %10.1f MB/s %12.1f ms/op %16d B/op%n",
+            benchmark.name,
+            (double)benchmark.document.length() * ops / elapsed / 1e6,
+            elapsed * 1e3 / ops,
+            allocated / ops
+        );
+
+    }//measure
+
+    /*******************************************************************************************************************
+     * Executa os benchmarks.
+     *
+     * @param args Filtro opcional de nomes e duracao opcional da medicao de cada benchmark, em segundos.
+     *
+     * @throws Exception Se algum parser falhar.
+     ******************************************************************************************************************/
+    public static void main(final String[] args) throws Exception {
+
+        String filter = (args.length > 0 && !args[0].equals("all")) ? args[0] : "";
+
+        double seconds = (args.length > 1) ? Double.parseDouble(args[1]) : 3.0;
+
+        THREAD_MX.setThreadAllocatedMemoryEnabled(true);
+
+        for (Benchmark benchmark : benchmarks()) if (benchmark.name.contains(filter)) measure(benchmark, seconds);
+
+    }//main
+
+}//classe ParserBenchmark
@@ -129,12 +129,15 @@ public final class SearchFolder {
 ======================================================================================================================*/
 private class FilesFilter implements FileFilter {
 
+    private final toolbox.regex.Regex regex = 
+        (fileFilterRegex == null) ? null : new toolbox.regex.Regex(fileFilterRegex);
+
     @Override
     public boolean accept(File pathname) {
 
         if (pathname.isDirectory()) return searchDirs;
-        if (fileFilterRegex == null) return true;            
-        return pathname.getName().matches(fileFilterRegex); 
+        if (regex == null) return true;            
+        return regex.matches(pathname.getName());
 
     }
 
@@ -183,14 +183,14 @@ public final class SearchFolders {
 ======================================================================================================================*/
 private static class FilterFiles implements DirectoryStream.Filter<Path> {
     
-    private final String regex;
+    private final toolbox.regex.Regex regex;
     private final boolean searchSubdirs; 
     
     public FilterFiles(final String r, final boolean s) throws PatternSyntaxException {
         
-        if ("teste".matches(r));//Lança exceçao no caso de regex invalida
+        //Lança exceçao no caso de regex invalida
+        regex = (r == null) ? null : new toolbox.regex.Regex(r);
         
-        regex = r;
         searchSubdirs = s;
         
     }
@@ -210,7 +210,7 @@ private static class FilterFiles implements DirectoryStream.Filter<Path> {
          
          if (regex == null) return true;
          
-         return file.getFileName().toString().matches(regex);
+         return regex.matches(file.getFileName().toString());
     }
      
 }//classe FilterFiles
@@ -0,0 +1,167 @@
+package toolbox.html;
+
+/***********************************************************************************************************************
+ * Percorre os atributos de uma tag HTML diretamente no documento, sem criar objetos: cada atributo e fornecido pelas
+ * posicoes do seu nome e do seu valor. Reconhece valores entre aspas duplas, entre apostrofos e sem delimitadores, e
+ * atributos sem valor.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+final class AttributeCursor {
+
+    private String content;
+
+    private int position;
+
+    private int end;
+
+    private int nameStart;
+
+    private int nameEnd;
+
+    private int valueStart;
+
+    private int valueEnd;
+
+    /*==================================================================================================================
+     * Posiciona o cursor antes do primeiro atributo do trecho start a end de content (do fim do nome da tag ao >).
+     =================================================================================================================*/
+    void reset(final String content, final int start, final int end) {
+
+        this.content = content;
+
+        position = start;
+
+        this.end = end;
+
+    }//reset
+
+    static boolean isSpace(final char c) {
+
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+
+    }//isSpace
+
+    /*==================================================================================================================
+     * Avanca para o proximo atributo. Retorna false se nao houver mais atributos.
+     =================================================================================================================*/
+    boolean next() {
+
+        int i = position;
+
+        char c;
+
+        while (i < end && (isSpace(c = content.charAt(i)) || c == '/')) i++;
+
+        if (i >= end) {
+
+            position = end;
+
+            return false;
+        }
+
+        nameStart = i;
+
+        while (i < end && !isSpace(c = content.charAt(i)) && c != '=' && c != '/') i++;
+
+        if (i == nameStart) i++;//um = sem nome
+
+        nameEnd = i;
+
+        while (i < end && isSpace(content.charAt(i))) i++;
+
+        valueStart = -1;
+
+        valueEnd = -1;
+
+        if (i < end && content.charAt(i) == '=') {
+
+            i++;
+
+            while (i < end && isSpace(content.charAt(i))) i++;
+
+            if (i < end && ((c = content.charAt(i)) == '"' || c == '\'')) {
+
+                valueStart = i + 1;
+
+                valueEnd = content.indexOf(c, valueStart);
+
+                if (valueEnd < 0 || valueEnd > end) valueEnd = end;
+
+                i = Math.min(valueEnd + 1, end);
+            }
+            else {
+
+                valueStart = i;
+
+                while (i < end && !isSpace(content.charAt(i))) i++;
+
+                valueEnd = i;
+            }
+        }
+
+        position = i;
+
+        return true;
+
+    }//next
+
+    int getNameStart() {
+
+        return nameStart;
+
+    }//getNameStart
+
+    int getNameEnd() {
+
+        return nameEnd;
+
+    }//getNameEnd
+
+    /*==================================================================================================================
+     * Informa se o nome do atributo corrente e name, sem distinguir maiusculas de minusculas.
+     =================================================================================================================*/
+    boolean isName(final String name) {
+
+        return nameEnd - nameStart == name.length() && content.regionMatches(true, nameStart, name, 0, name.length());
+
+    }//isName
+
+    /*==================================================================================================================
+     * Informa se o atributo corrente tem valor.
+     =================================================================================================================*/
+    boolean hasValue() {
+
+        return valueStart >= 0;
+
+    }//hasValue
+
+    /*==================================================================================================================
+     * Posicao do inicio do valor, ou -1 se o atributo nao tiver valor.
+     =================================================================================================================*/
+    int getValueStart() {
+
+        return valueStart;
+
+    }//getValueStart
+
+    int getValueEnd() {
+
+        return valueEnd;
+
+    }//getValueEnd
+
+    /*==================================================================================================================
+     * O valor do atributo corrente, sem decodificacao das entidades, ou null se ele nao tiver valor.
+     =================================================================================================================*/
+    String getValue() {
+
+        return (valueStart < 0) ? null : content.substring(valueStart, valueEnd);
+
+    }//getValue
+
+}//classe AttributeCursor
@@ -0,0 +1,566 @@
+package toolbox.html;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/***********************************************************************************************************************
+ * Determina o charset de um documento HTML a partir dos seus bytes, antes de qualquer decodificacao.
+ *
+ * <p>Segue os passos de deteccao do HTML5: primeiro o BOM (UTF-8, UTF-16BE ou UTF-16LE) e, na falta dele, uma
+ * pre-analise dos primeiros 1024 bytes a procura de <code>&lt;meta charset="..."&gt;</code> ou de
+ * <code>&lt;meta http-equiv="Content-Type" content="...; charset=..."&gt;</code>. A pre-analise trabalha diretamente
+ * sobre os bytes: ignora comentarios, atributos de outras tags e tags como <code>&lt;!DOCTYPE&gt;</code>, e nao cria
+ * nenhuma <code>String</code> exceto para os atributos das tags meta. Os nomes de charset sao interpretados como no
+ * HTML5 (<code>iso-8859-1</code> e <code>us-ascii</code> sao lidos como windows-1252, e um UTF-16 declarado em uma
+ * tag meta e lido como UTF-8).
+ *
+ * <p>Com o charset conhecido, o documento e decodificado uma unica vez, em vez de ser decodificado com um charset
+ * presumido, analisado a procura da tag meta e decodificado novamente.
+ *
+ * <pre>
+ * <code>
+ * String htmlContent = CharsetSniffer.read(path, StandardCharsets.UTF_8);
+ * new HtmlParser(htmlContent, tagParser).parse();
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class CharsetSniffer {
+
+    /**
+     * Numero de bytes examinados pela pre-analise das tags meta.
+     */
+    public static final int PRESCAN_LENGTH = 1024;
+
+    //Nomes de charset que o HTML5 interpreta de modo diferente de Charset.forName
+    private static final Map<String, String> LABELS = new HashMap<>();
+
+    static {
+
+        label(
+            "windows-1252",
+            "ansi_x3.4-1968", "ascii", "cp1252", "cp819", "csisolatin1", "ibm819", "iso-8859-1", "iso-ir-100",
+            "iso8859-1", "iso88591", "iso_8859-1", "iso_8859-1:1987", "l1", "latin1", "us-ascii", "x-cp1252",
+            "x-user-defined"
+        );
+
+        label(
+            "windows-1254",
+            "cp1254", "csisolatin5", "iso-8859-9", "iso-ir-148", "iso8859-9", "iso88599", "iso_8859-9",
+            "iso_8859-9:1989", "l5", "latin5", "x-cp1254"
+        );
+
+        label("windows-874", "dos-874", "iso-8859-11", "iso8859-11", "iso885911", "tis-620");
+
+        label(
+            "gbk",
+            "chinese", "csgb2312", "csiso58gb231280", "gb2312", "gb_2312", "gb_2312-80", "iso-ir-58", "x-gbk"
+        );
+
+        label("utf-8", "unicode-1-1-utf-8", "unicode11utf8", "unicode20utf8", "utf8", "x-unicode20utf8");
+
+        label(
+            "utf-16le",
+            "csunicode", "iso-10646-ucs-2", "ucs-2", "unicode", "unicodefeff", "utf-16"
+        );
+    }
+
+    private CharsetSniffer() {}
+
+    private static void label(final String charsetName, final String... labels) {
+
+        for (String label : labels) LABELS.put(label, charsetName);
+
+    }//label
+
+    /*******************************************************************************************************************
+     * Le um arquivo HTML, decodificando-o com o charset indicado pelo BOM ou pelas tags meta.
+     *
+     * @param path O arquivo.
+     *
+     * @param fallback O charset usado se o documento nao declarar nenhum.
+     *
+     * @return O conteudo do arquivo, sem o BOM.
+     *
+     * @throws IOException Se ocorrer erro na leitura do arquivo.
+     ******************************************************************************************************************/
+    public static String read(final Path path, final Charset fallback) throws IOException {
+
+        return decode(Files.readAllBytes(path), fallback);
+
+    }//read
+
+    /*******************************************************************************************************************
+     * Decodifica um documento HTML com o charset indicado pelo BOM ou pelas tags meta.
+     *
+     * @param bytes O documento.
+     *
+     * @param fallback O charset usado se o documento nao declarar nenhum.
+     *
+     * @return O documento decodificado, sem o BOM.
+     ******************************************************************************************************************/
+    public static String decode(final byte[] bytes, final Charset fallback) {
+
+        int bom = bomLength(bytes, bytes.length);
+
+        Charset charset = sniff(bytes, bytes.length);
+
+        if (charset == null) charset = fallback;
+
+        return new String(bytes, bom, bytes.length - bom, charset);
+
+    }//decode
+
+    /*******************************************************************************************************************
+     * Determina o charset dos primeiros bytes de um arquivo, lendo apenas os bytes necessarios.
+     *
+     * @param path O arquivo.
+     *
+     * @return O charset declarado, ou <code>null</code> se o documento nao declarar nenhum.
+     *
+     * @throws IOException Se ocorrer erro na leitura do arquivo.
+     ******************************************************************************************************************/
+    public static Charset sniff(final Path path) throws IOException {
+
+        try (InputStream in = Files.newInputStream(path)) {
+
+            byte[] bytes = in.readNBytes(PRESCAN_LENGTH);
+
+            return sniff(bytes, bytes.length);
+        }
+
+    }//sniff
+
+    /*******************************************************************************************************************
+     * Determina o charset de um documento a partir do BOM ou das tags meta nos primeiros
+     * {@link #PRESCAN_LENGTH PRESCAN_LENGTH} bytes.
+     *
+     * @param bytes O inicio do documento.
+     *
+     * @param length O numero de bytes validos em <b><i>bytes</i></b>.
+     *
+     * @return O charset declarado, ou <code>null</code> se o documento nao declarar nenhum ou declarar um charset
+     * nao suportado.
+     ******************************************************************************************************************/
+    public static Charset sniff(final byte[] bytes, final int length) {
+
+        Charset charset = bomCharset(bytes, length);
+
+        if (charset != null) return charset;
+
+        return prescan(bytes, Math.min(length, PRESCAN_LENGTH));
+
+    }//sniff
+
+    /*******************************************************************************************************************
+     * Retorna o numero de bytes do BOM no inicio do documento.
+     *
+     * @param bytes O inicio do documento.
+     *
+     * @param length O numero de bytes validos em <b><i>bytes</i></b>.
+     *
+     * @return 3 para o BOM de UTF-8, 2 para os de UTF-16 ou 0 se nao houver BOM.
+     ******************************************************************************************************************/
+    public static int bomLength(final byte[] bytes, final int length) {
+
+        Charset charset = bomCharset(bytes, length);
+
+        if (charset == null) return 0;
+
+        return (charset == StandardCharsets.UTF_8) ? 3 : 2;
+
+    }//bomLength
+
+    private static Charset bomCharset(final byte[] bytes, final int length) {
+
+        if (length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF)
+            return StandardCharsets.UTF_8;
+
+        if (length >= 2 && (bytes[0] & 0xFF) == 0xFE && (bytes[1] & 0xFF) == 0xFF) return StandardCharsets.UTF_16BE;
+
+        if (length >= 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE) return StandardCharsets.UTF_16LE;
+
+        return null;
+
+    }//bomCharset
+
+    /*******************************************************************************************************************
+     * Converte um nome de charset como o HTML5.
+     *
+     * @param label O nome, como consta do atributo charset ou content.
+     *
+     * @return O charset, ou <code>null</code> se o nome for invalido ou o charset nao for suportado.
+     ******************************************************************************************************************/
+    public static Charset forLabel(final String label) {
+
+        String name = label.trim().toLowerCase(Locale.ROOT);
+
+        String mapped = LABELS.get(name);
+
+        if (mapped != null) name = mapped;
+
+        try {
+
+            return Charset.forName(name);
+        }
+        catch (IllegalArgumentException e) {//nome invalido ou charset nao suportado
+
+            return null;
+        }
+
+    }//forLabel
+
+    /*==================================================================================================================
+     * Pre-analise do HTML5: percorre os bytes a procura de uma tag meta que declare o charset, saltando comentarios e
+     * os atributos das demais tags. Retorna null se nenhuma for encontrada antes do fim dos bytes.
+     =================================================================================================================*/
+    private static Charset prescan(final byte[] bytes, final int length) {
+
+        Prescan scan = new Prescan(bytes, length);
+
+        while (scan.position < length) {
+
+            if (scan.startsWith("<!--")) {
+
+                scan.skipComment();
+            }
+            else if (scan.startsWithIgnoreCase("<meta") && scan.isSpaceOrSlash(scan.position + 5)) {
+
+                scan.position += 6;
+
+                Charset charset = scan.meta();
+
+                if (charset != null) return charset;
+            }
+            else if (
+                scan.at(scan.position) == '<' &&
+                (
+                    isAsciiLetter(scan.at(scan.position + 1)) ||
+                    (scan.at(scan.position + 1) == '/' && isAsciiLetter(scan.at(scan.position + 2)))
+                )
+            ) {
+
+                scan.skipTag();
+            }
+            else if (
+                scan.at(scan.position) == '<' &&
+                (scan.at(scan.position + 1) == '!' || scan.at(scan.position + 1) == '/' ||
+                 scan.at(scan.position + 1) == '?')
+            ) {
+
+                scan.skipTo('>');
+            }
+            else {
+
+                scan.position++;
+            }
+        }
+
+        return null;
+
+    }//prescan
+
+    private static boolean isAsciiLetter(final int b) {
+
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+
+    }//isAsciiLetter
+
+    private static boolean isSpace(final int b) {
+
+        return b == ' ' || b == '\t' || b == '\n' || b == '\f' || b == '\r';
+
+    }//isSpace
+
+    /*==================================================================================================================
+     * Extrai o charset do atributo content de uma tag meta ("text/html; charset=utf-8"). Retorna null se nao houver.
+     =================================================================================================================*/
+    private static String charsetFromContent(final String content) {
+
+        int length = content.length();
+
+        int i = 0;
+
+        while (true) {
+
+            i = content.indexOf("charset", i);
+
+            if (i < 0) return null;
+
+            i += 7;
+
+            while (i < length && isSpace(content.charAt(i))) i++;
+
+            if (i == length || content.charAt(i) != '=') continue;
+
+            i++;
+
+            while (i < length && isSpace(content.charAt(i))) i++;
+
+            if (i == length) return null;
+
+            char c = content.charAt(i);
+
+            if (c == '"' || c == '\'') {
+
+                int close = content.indexOf(c, i + 1);
+
+                return (close < 0) ? null : content.substring(i + 1, close);
+            }
+
+            int end = i;
+
+            while (end < length && !isSpace(content.charAt(end)) && content.charAt(end) != ';') end++;
+
+            return content.substring(i, end);
+        }
+
+    }//charsetFromContent
+
+/*======================================================================================================================
+ * Estado da pre-analise: os bytes, a posicao corrente e o ultimo atributo lido.
+======================================================================================================================*/
+private static final class Prescan {
+
+    final byte[] bytes;
+
+    final int length;
+
+    int position;
+
+    //Nome e valor do ultimo atributo, ja em minusculas
+    final StringBuilder name = new StringBuilder();
+
+    final StringBuilder value = new StringBuilder();
+
+    Prescan(final byte[] bytes, final int length) {
+
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    //O byte na posicao, ou -1 apos o fim
+    int at(final int i) {
+
+        return (i < length) ? bytes[i] & 0xFF : -1;
+    }
+
+    boolean startsWith(final String s) {
+
+        for (int i = 0; i < s.length(); i++) if (at(position + i) != s.charAt(i)) return false;
+
+        return true;
+    }
+
+    boolean startsWithIgnoreCase(final String s) {
+
+        for (int i = 0; i < s.length(); i++) if (lower(at(position + i)) != s.charAt(i)) return false;
+
+        return true;
+    }
+
+    boolean isSpaceOrSlash(final int i) {
+
+        int b = at(i);
+
+        return isSpace(b) || b == '/';
+    }
+
+    static int lower(final int b) {
+
+        return (b >= 'A' && b <= 'Z') ? b + 32 : b;
+    }
+
+    //Avanca ate o primeiro > precedido por -- apos o <!
+    void skipComment() {
+
+        position += 2;
+
+        while (position < length && !(at(position) == '>' && at(position - 1) == '-' && at(position - 2) == '-'))
+            position++;
+
+        position++;
+    }
+
+    void skipTo(final int b) {
+
+        while (position < length && at(position) != b) position++;
+
+        position++;
+    }
+
+    //Salta o nome e os atributos de uma tag que nao e meta
+    void skipTag() {
+
+        while (position < length && !isSpace(at(position)) && at(position) != '>') position++;
+
+        while (attribute()) {
+            //atributos descartados
+        }
+
+        position++;
+    }
+
+    /*
+     * Le os atributos de uma tag meta e retorna o charset declarado por ela, ou null.
+     */
+    Charset meta() {
+
+        Set<String> seen = new HashSet<>();
+
+        boolean gotPragma = false;
+
+        //null: nenhum charset; TRUE: declarado em content (exige http-equiv); FALSE: declarado em charset
+        Boolean needPragma = null;
+
+        String charset = null;
+
+        while (attribute()) {
+
+            String attr = name.toString();
+
+            if (!seen.add(attr)) continue;
+
+            if (attr.equals("http-equiv")) {
+
+                if (value.toString().equals("content-type")) gotPragma = true;
+            }
+            else if (attr.equals("content")) {
+
+                if (charset == null) {
+
+                    String fromContent = charsetFromContent(value.toString());
+
+                    if (fromContent != null) {
+
+                        charset = fromContent;
+
+                        needPragma = Boolean.TRUE;
+                    }
+                }
+            }
+            else if (attr.equals("charset")) {
+
+                charset = value.toString();
+
+                needPragma = Boolean.FALSE;
+            }
+        }
+
+        if (needPragma == null || (needPragma && !gotPragma)) return null;
+
+        Charset result = forLabel(charset);
+
+        if (result == null) return null;
+
+        //um documento que declara UTF-16 em uma tag meta foi lido como ASCII, logo nao e UTF-16
+        if (result == StandardCharsets.UTF_16LE || result == StandardCharsets.UTF_16BE) return StandardCharsets.UTF_8;
+
+        return result;
+    }
+
+    /*
+     * Le o proximo atributo da tag em name e value. Retorna false no fim da tag ou dos bytes.
+     */
+    boolean attribute() {
+
+        name.setLength(0);
+
+        value.setLength(0);
+
+        while (position < length && (isSpace(at(position)) || at(position) == '/')) position++;
+
+        if (position >= length || at(position) == '>') return false;
+
+        //nome
+        while (true) {
+
+            int b = at(position);
+
+            if (b < 0) return false;
+
+            if (b == '=' && name.length() > 0) {
+
+                position++;
+
+                break;
+            }
+
+            if (isSpace(b)) {
+
+                while (isSpace(at(position))) position++;
+
+                if (at(position) != '=') return position < length;
+
+                position++;
+
+                break;
+            }
+
+            if (b == '/' || b == '>') return true;
+
+            name.append((char) lower(b));
+
+            position++;
+        }
+
+        //valor
+        while (isSpace(at(position))) position++;
+
+        int b = at(position);
+
+        if (b < 0) return false;
+
+        if (b == '"' || b == '\'') {
+
+            int quote = b;
+
+            position++;
+
+            while (true) {
+
+                int c = at(position);
+
+                if (c < 0) return false;
+
+                position++;
+
+                if (c == quote) return true;
+
+                value.append((char) lower(c));
+            }
+        }
+
+        if (b == '>') return true;
+
+        while (true) {
+
+            int c = at(position);
+
+            if (c < 0) return false;
+
+            if (isSpace(c) || c == '>') return true;
+
+            value.append((char) lower(c));
+
+            position++;
+        }
+    }
+
+}//classe Prescan
+
+}//classe CharsetSniffer
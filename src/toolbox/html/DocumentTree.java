@@ -0,0 +1,735 @@
+package toolbox.html;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/***********************************************************************************************************************
+ * Arvore compacta de um documento HTML ou XML, construida por um objeto {@link DocumentTreeBuilder DocumentTreeBuilder}
+ * a partir dos eventos de um <code>HtmlParser</code> ou <code>XmlParser</code>.
+ *
+ * <p>Cada elemento do documento e um no identificado por um inteiro, que e a sua posicao na ordem em que as tags de
+ * abertura aparecem no documento. Os dados dos nos nao sao armazenados em objetos, mas em arrays de inteiros paralelos
+ * (pai, primeiro filho, proximo irmao e as posicoes das tags no documento) e os nomes das tags sao internalizados em
+ * uma tabela. Um documento com um milhao de elementos ocupa assim algumas dezenas de MB, e nao as centenas que uma
+ * arvore de objetos <code>Tag</code> exigiria.
+ *
+ * <p>Os valores dos atributos <i>id</i> e os tokens do atributo <i>class</i> sao indexados na construcao da arvore,
+ * de modo que as pesquisas por id e por classe nao percorrem os nos.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class DocumentTree {
+
+    /**
+     * Indica a ausencia de um no (pai de um no de nivel mais alto, filho de uma folha, etc...)
+     */
+    public static final int NONE = -1;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final String source;
+
+    private final int size;
+
+    private final int[] parent;
+
+    private final int[] firstChild;
+
+    private final int[] nextSibling;
+
+    private final int[] startTagBlockIndex;
+
+    private final int[] startTagContentIndex;
+
+    //-1 para tags self-closing ou tags sem fechamento no documento
+    private final int[] endTagContentIndex;
+
+    private final int[] endTagBlockIndex;
+
+    //Indice de cada no na tabela de nomes de tags
+    private final int[] tagIdIndex;
+
+    private final String[] tagIds;
+
+    //Arrays ordenados de nos, indexados pelo valor do atributo id e pelos tokens do atributo class
+    private final HashMap<String, int[]> idIndex;
+
+    private final HashMap<String, int[]> classIndex;
+
+    /*==================================================================================================================
+     * Apenas um objeto DocumentTreeBuilder cria objetos desta classe.
+     =================================================================================================================*/
+    DocumentTree(
+        final String source,
+        final int size,
+        final int[] parent,
+        final int[] firstChild,
+        final int[] nextSibling,
+        final int[] startTagBlockIndex,
+        final int[] startTagContentIndex,
+        final int[] endTagContentIndex,
+        final int[] endTagBlockIndex,
+        final int[] tagIdIndex,
+        final String[] tagIds,
+        final HashMap<String, int[]> idIndex,
+        final HashMap<String, int[]> classIndex) {
+
+        this.source = source;
+        this.size = size;
+        this.parent = parent;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.startTagBlockIndex = startTagBlockIndex;
+        this.startTagContentIndex = startTagContentIndex;
+        this.endTagContentIndex = endTagContentIndex;
+        this.endTagBlockIndex = endTagBlockIndex;
+        this.tagIdIndex = tagIdIndex;
+        this.tagIds = tagIds;
+        this.idIndex = idIndex;
+        this.classIndex = classIndex;
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Constroi a arvore de um documento HTML.
+     *
+     * @param htmlContent O conteudo do documento.
+     *
+     * @return A arvore do documento.
+     *
+     * @throws Exception Se o <code>HtmlParser</code> falhar no parsing do documento.
+     ******************************************************************************************************************/
+    public static DocumentTree parse(final String htmlContent) throws Exception {
+
+        DocumentTreeBuilder builder = new DocumentTreeBuilder(htmlContent);
+
+        new HtmlParser(htmlContent, builder).parse();
+
+        return builder.getTree();
+
+    }//parse
+
+    /*******************************************************************************************************************
+     * Atualiza a arvore apos uma edicao do documento HTML, por exemplo com um dos metodos edit() da classe
+     * <code>TextFileHandler</code>. O trecho editado e localizado comparando o inicio e o fim do documento atual com os
+     * de <b><i>newContent</i></b>, e a atualizacao e feita por {@link #update(String, int, int, int) update}.
+     *
+     * @param newContent O documento editado.
+     *
+     * @return A arvore do documento editado, ou este objeto se o documento nao foi alterado.
+     *
+     * @throws Exception Se o <code>HtmlParser</code> falhar no parsing do documento editado.
+     ******************************************************************************************************************/
+    public DocumentTree update(final String newContent) throws Exception {
+
+        int oldLength = source.length();
+
+        int newLength = newContent.length();
+
+        int max = Math.min(oldLength, newLength);
+
+        int start = 0;
+
+        while (start < max && source.charAt(start) == newContent.charAt(start)) start++;
+
+        if (start == oldLength && start == newLength) return this;
+
+        int suffix = 0;
+
+        while (
+            suffix < max - start &&
+            source.charAt(oldLength - 1 - suffix) == newContent.charAt(newLength - 1 - suffix)
+        ) suffix++;
+
+        return update(newContent, start, oldLength - suffix, newLength - suffix);
+
+    }//update
+
+    /*******************************************************************************************************************
+     * Atualiza a arvore apos a substituicao de um unico trecho do documento HTML.
+     *
+     * <p>As posicoes das tags da analise anterior sao usadas para localizar o elemento mais interno cujo escopo contem
+     * todo o trecho editado. Apenas o escopo deste elemento e analisado novamente pelo <code>HtmlParser</code>, e os
+     * nos analisados substituem os descendentes anteriores do elemento na nova arvore. Os demais nos sao copiados, com
+     * suas posicoes deslocadas se estiverem apos o trecho editado. O custo do parsing acompanha, assim, o tamanho do
+     * elemento editado, e nao o do documento.
+     *
+     * <p>Se a edicao alterar tags que nao estejam contidas no escopo de nenhum elemento, abrir ou fechar um comentario
+     * que nao termine no proprio trecho editado, ou se o escopo analisado deixar tags sem fechamento, e feito o parsing
+     * de todo o documento.
+     *
+     * @param newContent O documento editado.
+     *
+     * @param start A posicao do primeiro caractere editado.
+     *
+     * @param oldEnd A posicao, no documento anterior, do primeiro caractere apos o trecho substituido.
+     *
+     * @param newEnd A posicao, no documento editado, do primeiro caractere apos o texto inserido.
+     *
+     * @return A arvore do documento editado.
+     *
+     * @throws IllegalArgumentException Se as posicoes nao forem compativeis com os tamanhos dos documentos.
+     *
+     * @throws Exception Se o <code>HtmlParser</code> falhar no parsing do documento editado.
+     ******************************************************************************************************************/
+    public DocumentTree update(final String newContent, final int start, final int oldEnd, final int newEnd)
+        throws Exception {
+
+        int delta = newEnd - oldEnd;
+
+        if (
+            start < 0 || oldEnd < start || newEnd < start || oldEnd > source.length() ||
+            newContent.length() - source.length() != delta
+        ) throw new IllegalArgumentException(start + ", " + oldEnd + ", " + newEnd);
+
+        //O elemento mais interno cujo escopo contem o trecho editado
+        int container = NONE;
+
+        int node = getRoot();
+
+        while (node != NONE && startTagBlockIndex[node] <= start) {
+
+            if (startTagContentIndex[node] <= start && endTagContentIndex[node] >= oldEnd) {
+
+                container = node;
+
+                node = firstChild[node];
+            }
+            else {
+
+                node = nextSibling[node];
+            }
+        }
+
+        if (container == NONE) return parse(newContent);
+
+        //O primeiro no apos os descendentes do elemento
+        int end = size;
+
+        for (int a = container; a != NONE; a = parent[a]) {
+
+            if (nextSibling[a] != NONE) {
+
+                end = nextSibling[a];
+
+                break;
+            }
+        }
+
+        int regionStart = startTagContentIndex[container];
+
+        int regionEnd = endTagContentIndex[container] + delta;
+
+        String tagId = tagIds[tagIdIndex[container]];
+
+        DocumentTreeBuilder builder = new DocumentTreeBuilder(newContent, regionStart);
+
+        String region = newContent.substring(regionStart, regionEnd);
+
+        //O escopo de script e style nao contem tags, mas a edicao nao pode ter inserido uma tag que o encerre
+        if ((HtmlElements.flags(HtmlElements.indexOf(tagId, 0, tagId.length())) & HtmlElements.RAW_TEXT) != 0) {
+
+            if (
+                HtmlParser.indexOfClosingTag(region, "script", 0, true, false) >= 0 ||
+                HtmlParser.indexOfClosingTag(region, "style", 0, true, false) >= 0
+            ) return parse(newContent);
+        }
+        else {
+
+            //Um comentario aberto ou fechado pela edicao pode se estender alem do escopo do elemento
+            if (hasUnmatchedComment(source, start, oldEnd) || hasUnmatchedComment(newContent, start, newEnd)) {
+
+                return parse(newContent);
+            }
+
+            try {
+
+                new HtmlParser(region, builder).parse();
+            }
+            catch (Exception e) {
+
+                return parse(newContent);
+            }
+
+            if (!builder.isBalanced()) return parse(newContent);
+        }
+
+        return splice(newContent, container, end, builder.getTree(), delta);
+
+    }//update
+
+    /*==================================================================================================================
+     * Verifica se algum delimitador de comentario (<!-- ou -->) que toca o trecho [from, to) de text fica sem par
+     * dentro do proprio trecho. Os delimitadores que comecam ate 3 posicoes antes do trecho tambem sao considerados,
+     * pois a edicao pode ter completado ou desfeito um delimitador existente.
+     =================================================================================================================*/
+    private static boolean hasUnmatchedComment(final String text, final int from, final int to) {
+
+        boolean open = false;
+
+        for (int i = Math.max(0, from - 3); i < to; i++) {
+
+            if (!open && i + 4 > from && text.startsWith("<!--", i)) {
+
+                open = true;
+
+                i += 3;
+            }
+            else if (i + 3 > from && text.startsWith("-->", i)) {
+
+                if (!open) return true;
+
+                open = false;
+
+                i += 2;
+            }
+        }
+
+        return open;
+
+    }//hasUnmatchedComment
+
+    /*==================================================================================================================
+     * Cria a arvore do documento editado, substituindo os descendentes de container (os nos container + 1 ate end - 1)
+     * pelos nos de sub, e deslocando em delta as posicoes apos o trecho editado.
+     =================================================================================================================*/
+    private DocumentTree splice(
+        final String newContent,
+        final int container,
+        final int end,
+        final DocumentTree sub,
+        final int delta) {
+
+        int diff = sub.size - (end - container - 1);
+
+        int newSize = size + diff;
+
+        int[] newParent = new int[newSize];
+        int[] newFirstChild = new int[newSize];
+        int[] newNextSibling = new int[newSize];
+        int[] newStartTagBlockIndex = new int[newSize];
+        int[] newStartTagContentIndex = new int[newSize];
+        int[] newEndTagContentIndex = new int[newSize];
+        int[] newEndTagBlockIndex = new int[newSize];
+        int[] newTagIdIndex = new int[newSize];
+
+        //Tabela de nomes: os nomes novos de sub sao acrescentados a tabela atual
+        HashMap<String, Integer> names = new HashMap<>();
+
+        for (int i = 0; i < tagIds.length; i++) names.put(tagIds[i], i);
+
+        int[] subNames = new int[sub.tagIds.length];
+
+        for (int i = 0; i < sub.tagIds.length; i++) {
+
+            subNames[i] = names.computeIfAbsent(sub.tagIds[i], k -> names.size());
+        }
+
+        String[] newTagIds = Arrays.copyOf(tagIds, names.size());
+
+        for (int i = 0; i < sub.tagIds.length; i++) newTagIds[subNames[i]] = sub.tagIds[i];
+
+        //Nos ate o elemento: posicoes anteriores ao trecho editado, exceto o fim do elemento e de seus ancestrais
+        for (int i = 0; i <= container; i++) {
+
+            newParent[i] = parent[i];
+            newFirstChild[i] = remap(firstChild[i], container, end, diff);
+            newNextSibling[i] = remap(nextSibling[i], container, end, diff);
+            newStartTagBlockIndex[i] = startTagBlockIndex[i];
+            newStartTagContentIndex[i] = startTagContentIndex[i];
+            newEndTagContentIndex[i] = endTagContentIndex[i];
+            newEndTagBlockIndex[i] = endTagBlockIndex[i];
+            newTagIdIndex[i] = tagIdIndex[i];
+        }
+
+        newFirstChild[container] = (sub.size == 0) ? NONE : container + 1;
+
+        for (int a = container; a != NONE; a = parent[a]) {
+
+            newEndTagContentIndex[a] = shift(endTagContentIndex[a], delta);
+            newEndTagBlockIndex[a] = shift(endTagBlockIndex[a], delta);
+        }
+
+        //Nos analisados novamente, ja com as posicoes no documento editado
+        for (int j = 0; j < sub.size; j++) {
+
+            int i = container + 1 + j;
+
+            newParent[i] = (sub.parent[j] == NONE) ? container : sub.parent[j] + container + 1;
+            newFirstChild[i] = (sub.firstChild[j] == NONE) ? NONE : sub.firstChild[j] + container + 1;
+            newNextSibling[i] = (sub.nextSibling[j] == NONE) ? NONE : sub.nextSibling[j] + container + 1;
+            newStartTagBlockIndex[i] = sub.startTagBlockIndex[j];
+            newStartTagContentIndex[i] = sub.startTagContentIndex[j];
+            newEndTagContentIndex[i] = sub.endTagContentIndex[j];
+            newEndTagBlockIndex[i] = sub.endTagBlockIndex[j];
+            newTagIdIndex[i] = subNames[sub.tagIdIndex[j]];
+        }
+
+        //Nos apos o elemento: todas as posicoes sao posteriores ao trecho editado
+        for (int i = end; i < size; i++) {
+
+            int k = i + diff;
+
+            newParent[k] = remap(parent[i], container, end, diff);
+            newFirstChild[k] = remap(firstChild[i], container, end, diff);
+            newNextSibling[k] = remap(nextSibling[i], container, end, diff);
+            newStartTagBlockIndex[k] = shift(startTagBlockIndex[i], delta);
+            newStartTagContentIndex[k] = shift(startTagContentIndex[i], delta);
+            newEndTagContentIndex[k] = shift(endTagContentIndex[i], delta);
+            newEndTagBlockIndex[k] = shift(endTagBlockIndex[i], delta);
+            newTagIdIndex[k] = tagIdIndex[i];
+        }
+
+        return new DocumentTree(
+            newContent,
+            newSize,
+            newParent,
+            newFirstChild,
+            newNextSibling,
+            newStartTagBlockIndex,
+            newStartTagContentIndex,
+            newEndTagContentIndex,
+            newEndTagBlockIndex,
+            newTagIdIndex,
+            newTagIds,
+            splice(idIndex, sub.idIndex, container, end, diff),
+            splice(classIndex, sub.classIndex, container, end, diff)
+        );
+
+    }//splice
+
+    /*==================================================================================================================
+     * Combina os indices de id ou class da arvore atual e de sub, mantendo os arrays de nos ordenados.
+     =================================================================================================================*/
+    private static HashMap<String, int[]> splice(
+        final HashMap<String, int[]> index,
+        final HashMap<String, int[]> subIndex,
+        final int container,
+        final int end,
+        final int diff) {
+
+        HashMap<String, int[]> newIndex = new HashMap<>();
+
+        for (Map.Entry<String, int[]> e : index.entrySet()) {
+
+            int[] nodes = e.getValue();
+
+            int[] added = subIndex.get(e.getKey());
+
+            int[] merged = new int[nodes.length + ((added == null) ? 0 : added.length)];
+
+            int n = 0;
+
+            int i = 0;
+
+            while (i < nodes.length && nodes[i] <= container) merged[n++] = nodes[i++];
+
+            if (added != null) for (int node : added) merged[n++] = node + container + 1;
+
+            while (i < nodes.length && nodes[i] < end) i++;
+
+            while (i < nodes.length) merged[n++] = nodes[i++] + diff;
+
+            if (n > 0) newIndex.put(e.getKey(), (n == merged.length) ? merged : Arrays.copyOf(merged, n));
+        }
+
+        for (Map.Entry<String, int[]> e : subIndex.entrySet()) {
+
+            if (index.containsKey(e.getKey())) continue;
+
+            int[] nodes = e.getValue().clone();
+
+            for (int i = 0; i < nodes.length; i++) nodes[i] += container + 1;
+
+            newIndex.put(e.getKey(), nodes);
+        }
+
+        return newIndex;
+
+    }//splice
+
+    /*==================================================================================================================
+     * Numero na nova arvore de um no que nao e descendente de container.
+     =================================================================================================================*/
+    private static int remap(final int node, final int container, final int end, final int diff) {
+
+        if (node == NONE || node <= container) return node;
+
+        return (node >= end) ? node + diff : NONE;
+
+    }//remap
+
+    private static int shift(final int position, final int delta) {
+
+        return (position < 0) ? position : position + delta;
+
+    }//shift
+
+    /*******************************************************************************************************************
+     * Retorna o documento a partir do qual a arvore foi construida.
+     *
+     * @return O conteudo do documento.
+     ******************************************************************************************************************/
+    public String getSource() {
+
+        return source;
+
+    }//getSource
+
+    /*******************************************************************************************************************
+     * Retorna o numero de nos da arvore. Os nos sao identificados pelos inteiros de 0 a getNodeCount() - 1.
+     *
+     * @return O numero de elementos do documento.
+     ******************************************************************************************************************/
+    public int getNodeCount() {
+
+        return size;
+
+    }//getNodeCount
+
+    /*******************************************************************************************************************
+     * Retorna o primeiro no de nivel mais alto do documento. Os demais sao obtidos com
+     * {@link #getNextSibling(int) getNextSibling}.
+     *
+     * @return O no da primeira tag do documento ou {@link #NONE NONE} se o documento nao tiver tags.
+     ******************************************************************************************************************/
+    public int getRoot() {
+
+        return (size == 0) ? NONE : 0;
+
+    }//getRoot
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getParent(final int node) {
+
+        return parent[check(node)];
+
+    }//getParent
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getFirstChild(final int node) {
+
+        return firstChild[check(node)];
+
+    }//getFirstChild
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getNextSibling(final int node) {
+
+        return nextSibling[check(node)];
+
+    }//getNextSibling
+
+    /*******************************************************************************************************************
+     * Retorna o nome da tag de um no. As strings retornadas sao internalizadas pela arvore: nomes iguais sao sempre o
+     * mesmo objeto.
+     *
+     * @param node O no.
+     *
+     * @return O nome da tag.
+     ******************************************************************************************************************/
+    public String getTagId(final int node) {
+
+        return tagIds[tagIdIndex[check(node)]];
+
+    }//getTagId
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getStartTagBlockIndex(final int node) {
+
+        return startTagBlockIndex[check(node)];
+
+    }//getStartTagBlockIndex
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getStartTagContentIndex(final int node) {
+
+        return startTagContentIndex[check(node)];
+
+    }//getStartTagContentIndex
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getEndTagContentIndex(final int node) {
+
+        return endTagContentIndex[check(node)];
+
+    }//getEndTagContentIndex
+
+    /**
+     *
+     * @param node
+     * @return
+     */
+    public int getEndTagBlockIndex(final int node) {
+
+        return endTagBlockIndex[check(node)];
+
+    }//getEndTagBlockIndex
+
+    /*******************************************************************************************************************
+     * Retorna o escopo da tag de um no, extraido do documento.
+     *
+     * @param node O no.
+     *
+     * @return O conteudo da tag ou <code>null</code> se a tag for self-closing ou nao tiver sido fechada.
+     ******************************************************************************************************************/
+    public String getTagContent(final int node) {
+
+        if (endTagContentIndex[check(node)] < 0) return null;
+
+        return source.substring(startTagContentIndex[node], endTagContentIndex[node]);
+
+    }//getTagContent
+
+    /*******************************************************************************************************************
+     * Cria e retorna um mapa com os pares chave/valor dos atributos da tag de um no. Os atributos nao sao armazenados
+     * na arvore, e sim obtidos a cada chamada a partir da tag de abertura no documento.
+     *
+     * @param node O no.
+     *
+     * @return Um <code>HashMap</code> com os pares chaves/valor com os atributos da tag.
+     ******************************************************************************************************************/
+    public HashMap<String, String> getAttrMap(final int node) {
+
+        int start = startTagBlockIndex[check(node)] + 1 + tagIds[tagIdIndex[node]].length();
+
+        return Tag.getAttrMap(source.substring(start, startTagContentIndex[node] - 1));
+
+    }//getAttrMap
+
+    /*******************************************************************************************************************
+     * Retorna o primeiro no cujo atributo <i>id</i> tem o valor passado.
+     *
+     * @param id O valor do atributo id.
+     *
+     * @return O no ou {@link #NONE NONE} se nao houver elemento com este id.
+     ******************************************************************************************************************/
+    public int getElementById(final String id) {
+
+        int[] nodes = idIndex.get(id);
+
+        return (nodes == null) ? NONE : nodes[0];
+
+    }//getElementById
+
+    /*******************************************************************************************************************
+     * Retorna todos os nos que tem <b><i>clas</i></b> entre os tokens de seu atributo <i>class</i>.
+     *
+     * @param clas Um nome de classe.
+     *
+     * @return Os nos em ordem crescente. Um array vazio se nenhum elemento for desta classe.
+     ******************************************************************************************************************/
+    public int[] getElementsByClass(final String clas) {
+
+        int[] nodes = classIndex.get(clas);
+
+        return (nodes == null) ? EMPTY : nodes.clone();
+
+    }//getElementsByClass
+
+    /*******************************************************************************************************************
+     * Retorna todos os nos com um determinado nome de tag.
+     *
+     * @param tagId O nome da tag.
+     *
+     * @return Os nos em ordem crescente. Um array vazio se nao houver tags com este nome.
+     ******************************************************************************************************************/
+    public int[] getElementsByTagId(final String tagId) {
+
+        int index = -1;
+
+        for (int i = 0; i < tagIds.length; i++) if (tagIds[i].equals(tagId)) index = i;
+
+        if (index == -1) return EMPTY;
+
+        int count = 0;
+
+        for (int i = 0; i < size; i++) if (tagIdIndex[i] == index) count++;
+
+        int[] nodes = new int[count];
+
+        count = 0;
+
+        for (int i = 0; i < size; i++) if (tagIdIndex[i] == index) nodes[count++] = i;
+
+        return nodes;
+
+    }//getElementsByTagId
+
+    /*******************************************************************************************************************
+     * Equivalente a {@link Tag#isId(java.lang.String) Tag.isId} para um no da arvore, mas sem analisar os atributos
+     * da tag.
+     *
+     * @param node O no.
+     *
+     * @param id O valor do atributo id.
+     *
+     * @return <code>true</code> se o atributo id do no tiver este valor.
+     ******************************************************************************************************************/
+    public boolean isId(final int node, final String id) {
+
+        int[] nodes = idIndex.get(id);
+
+        return nodes != null && Arrays.binarySearch(nodes, check(node)) >= 0;
+
+    }//isId
+
+    /*******************************************************************************************************************
+     * Equivalente a {@link Tag#isClass(java.lang.String) Tag.isClass} para um no da arvore, mas sem analisar os
+     * atributos da tag.
+     *
+     * @param node O no.
+     *
+     * @param clas Um nome de classe.
+     *
+     * @return <code>true</code> se <b><i>clas</i></b> for um dos tokens do atributo class do no.
+     ******************************************************************************************************************/
+    public boolean isClass(final int node, final String clas) {
+
+        int[] nodes = classIndex.get(clas);
+
+        return nodes != null && Arrays.binarySearch(nodes, check(node)) >= 0;
+
+    }//isClass
+
+    /*==================================================================================================================
+     * Valida o indice de um no.
+     =================================================================================================================*/
+    private int check(final int node) {
+
+        if (node < 0 || node >= size) throw new IndexOutOfBoundsException("node " + node);
+
+        return node;
+
+    }//check
+
+}//classe DocumentTree
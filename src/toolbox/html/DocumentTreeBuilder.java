@@ -0,0 +1,351 @@
+package toolbox.html;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/***********************************************************************************************************************
+ * Um <code>TagParser</code> que constroi um objeto {@link DocumentTree DocumentTree} a partir dos eventos de um
+ * <code>HtmlParser</code> ou <code>XmlParser</code>.
+ *
+ * <pre>
+ * <code>
+ * DocumentTreeBuilder builder = new DocumentTreeBuilder(htmlContent);
+ * new HtmlParser(htmlContent, builder).parse();
+ * DocumentTree tree = builder.getTree();
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class DocumentTreeBuilder extends TagParser {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final String source;
+
+    //Somado as posicoes das tags, quando o parser analisa apenas um trecho do documento
+    private final int offset;
+
+    private int size;
+
+    private int[] parent;
+
+    private int[] firstChild;
+
+    private int[] lastChild;
+
+    private int[] nextSibling;
+
+    private int[] startTagBlockIndex;
+
+    private int[] startTagContentIndex;
+
+    private int[] endTagContentIndex;
+
+    private int[] endTagBlockIndex;
+
+    private int[] tagIdIndex;
+
+    //Ultimo no de nivel mais alto, ao qual o proximo no de nivel mais alto sera ligado como irmao
+    private int lastTopNode;
+
+    private final HashMap<String, Integer> tagIdMap;
+
+    private String[] tagIds;
+
+    private final HashMap<String, IntList> idIndex;
+
+    private final HashMap<String, IntList> classIndex;
+
+    //Nos abertos, e as respectivas tags, aguardando a tag de fechamento
+    private int[] nodeStack;
+
+    private Tag[] tagStack;
+
+    private int depth;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param source O mesmo conteudo que sera passado ao parser.
+     ******************************************************************************************************************/
+    public DocumentTreeBuilder(final String source) {
+
+        this(source, 0);
+
+    }//construtor
+
+    /*==================================================================================================================
+     * Construtor para o parsing de um trecho do documento que comeca na posicao offset. Usado por
+     * DocumentTree.update().
+     =================================================================================================================*/
+    DocumentTreeBuilder(final String source, final int offset) {
+
+        this.source = source;
+
+        this.offset = offset;
+
+        size = 0;
+        parent = new int[INITIAL_CAPACITY];
+        firstChild = new int[INITIAL_CAPACITY];
+        lastChild = new int[INITIAL_CAPACITY];
+        nextSibling = new int[INITIAL_CAPACITY];
+        startTagBlockIndex = new int[INITIAL_CAPACITY];
+        startTagContentIndex = new int[INITIAL_CAPACITY];
+        endTagContentIndex = new int[INITIAL_CAPACITY];
+        endTagBlockIndex = new int[INITIAL_CAPACITY];
+        tagIdIndex = new int[INITIAL_CAPACITY];
+
+        lastTopNode = DocumentTree.NONE;
+
+        tagIdMap = new HashMap<>();
+        tagIds = new String[16];
+
+        idIndex = new HashMap<>();
+        classIndex = new HashMap<>();
+
+        nodeStack = new int[64];
+        tagStack = new Tag[64];
+        depth = 0;
+
+    }//construtor
+
+    /*==================================================================================================================
+     * Dobra a capacidade dos arrays de nos.
+     =================================================================================================================*/
+    private void grow() {
+
+        int capacity = parent.length << 1;
+
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        startTagBlockIndex = Arrays.copyOf(startTagBlockIndex, capacity);
+        startTagContentIndex = Arrays.copyOf(startTagContentIndex, capacity);
+        endTagContentIndex = Arrays.copyOf(endTagContentIndex, capacity);
+        endTagBlockIndex = Arrays.copyOf(endTagBlockIndex, capacity);
+        tagIdIndex = Arrays.copyOf(tagIdIndex, capacity);
+
+    }//grow
+
+    /*==================================================================================================================
+     * Retorna o indice do nome da tag na tabela de nomes, inserindo-o se for a primeira ocorrencia.
+     =================================================================================================================*/
+    private int internTagId(final String tagId) {
+
+        Integer index = tagIdMap.get(tagId);
+
+        if (index != null) return index;
+
+        int i = tagIdMap.size();
+
+        if (i == tagIds.length) tagIds = Arrays.copyOf(tagIds, i << 1);
+
+        tagIds[i] = tagId;
+
+        tagIdMap.put(tagId, i);
+
+        return i;
+
+    }//internTagId
+
+    /*==================================================================================================================
+     * Indexa o no pelo valor do atributo id e pelos tokens do atributo class.
+     =================================================================================================================*/
+    private void index(final int node, final Map<String, String> attrMap) {
+
+        String id = attrMap.get("id");
+
+        if (id != null) idIndex.computeIfAbsent(id, k -> new IntList()).add(node);
+
+        String clas = attrMap.get("class");
+
+        if (clas == null) return;
+
+        int length = clas.length();
+
+        int i = 0;
+
+        while (i < length) {
+
+            while (i < length && Character.isWhitespace(clas.charAt(i))) i++;
+
+            int start = i;
+
+            while (i < length && !Character.isWhitespace(clas.charAt(i))) i++;
+
+            if (i > start) {
+
+                IntList nodes = classIndex.computeIfAbsent(clas.substring(start, i), k -> new IntList());
+
+                //um token repetido no mesmo atributo so e indexado uma vez
+                if (nodes.size == 0 || nodes.values[nodes.size - 1] != node) nodes.add(node);
+            }
+        }
+
+    }//index
+
+    /*******************************************************************************************************************
+     * Acrescenta a tag a arvore. Para receber o fechamento das tags com escopo, o metodo solicita a notificacao do
+     * fechamento de cada uma delas.
+     *
+     * @param tag A tag localizada pelo parser.
+     *
+     * @return Sempre <code>null</code>.
+     ******************************************************************************************************************/
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        if (size == parent.length) grow();
+
+        int node = size++;
+
+        int p = (depth == 0) ? DocumentTree.NONE : nodeStack[depth - 1];
+
+        parent[node] = p;
+        firstChild[node] = DocumentTree.NONE;
+        lastChild[node] = DocumentTree.NONE;
+        nextSibling[node] = DocumentTree.NONE;
+
+        if (p == DocumentTree.NONE) {
+
+            if (lastTopNode != DocumentTree.NONE) nextSibling[lastTopNode] = node;
+            lastTopNode = node;
+        }
+        else {
+
+            if (lastChild[p] == DocumentTree.NONE) firstChild[p] = node; else nextSibling[lastChild[p]] = node;
+            lastChild[p] = node;
+        }
+
+        startTagBlockIndex[node] = tag.getStartTagBlockIndex() + offset;
+        startTagContentIndex[node] = tag.getStartTagContentIndex() + offset;
+        tagIdIndex[node] = internTagId(tag.getTagId());
+
+        if (tag.isSelfClosing()) {
+
+            endTagContentIndex[node] = -1;
+            endTagBlockIndex[node] = tag.getStartTagContentIndex() + offset;
+        }
+        else {
+
+            endTagContentIndex[node] = -1;
+            endTagBlockIndex[node] = -1;
+
+            if (depth == nodeStack.length) {
+
+                nodeStack = Arrays.copyOf(nodeStack, depth << 1);
+                tagStack = Arrays.copyOf(tagStack, depth << 1);
+            }
+
+            nodeStack[depth] = node;
+            tagStack[depth++] = tag;
+
+            tag.notifyClosing();
+        }
+
+        index(node, tag.getAttrMap());
+
+        return null;
+
+    }//openTag
+
+    /*******************************************************************************************************************
+     * Registra na arvore as posicoes do fechamento da tag.
+     *
+     * @param tag A tag fechada.
+     ******************************************************************************************************************/
+    @Override
+    public void closeTag(final Tag tag) {
+
+        while (depth > 0) {
+
+            int node = nodeStack[--depth];
+
+            Tag top = tagStack[depth];
+
+            tagStack[depth] = null;
+
+            if (top == tag) {
+
+                endTagContentIndex[node] = tag.getEndTagContentIndex() + offset;
+                endTagBlockIndex[node] = tag.getEndTagBlockIndex() + offset;
+
+                return;
+            }
+        }
+
+    }//closeTag
+
+    /*==================================================================================================================
+     * Informa se todas as tags com escopo recebidas foram fechadas.
+     =================================================================================================================*/
+    boolean isBalanced() {
+
+        return depth == 0;
+
+    }//isBalanced
+
+    /*******************************************************************************************************************
+     * Retorna a arvore do documento. Deve ser chamado apos a execucao do metodo parse() do parser.
+     *
+     * @return A arvore com os nos recebidos ate o momento.
+     ******************************************************************************************************************/
+    public DocumentTree getTree() {
+
+        HashMap<String, int[]> ids = new HashMap<>();
+
+        for (Map.Entry<String, IntList> e : idIndex.entrySet()) ids.put(e.getKey(), e.getValue().toArray());
+
+        HashMap<String, int[]> classes = new HashMap<>();
+
+        for (Map.Entry<String, IntList> e : classIndex.entrySet()) classes.put(e.getKey(), e.getValue().toArray());
+
+        return new DocumentTree(
+            source,
+            size,
+            Arrays.copyOf(parent, size),
+            Arrays.copyOf(firstChild, size),
+            Arrays.copyOf(nextSibling, size),
+            Arrays.copyOf(startTagBlockIndex, size),
+            Arrays.copyOf(startTagContentIndex, size),
+            Arrays.copyOf(endTagContentIndex, size),
+            Arrays.copyOf(endTagBlockIndex, size),
+            Arrays.copyOf(tagIdIndex, size),
+            Arrays.copyOf(tagIds, tagIdMap.size()),
+            ids,
+            classes
+        );
+
+    }//getTree
+
+/*======================================================================================================================
+ * Lista de inteiros sem boxing para os indices de id e class.
+======================================================================================================================*/
+private static final class IntList {
+
+    private int[] values = new int[2];
+
+    private int size = 0;
+
+    void add(final int value) {
+
+        if (size == values.length) values = Arrays.copyOf(values, size << 1);
+
+        values[size++] = value;
+    }
+
+    int[] toArray() {
+
+        return Arrays.copyOf(values, size);
+    }
+
+}//classe IntList
+
+}//classe DocumentTreeBuilder
@@ -0,0 +1,461 @@
+package toolbox.html;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/***********************************************************************************************************************
+ * Realiza o parsing de varios documentos HTML em paralelo, distribuindo-os entre threads.
+ *
+ * <p>Cada documento e analisado por um objeto <code>TagParser</code> novo, obtido da fabrica passada ao construtor, e
+ * cada thread reaproveita um mesmo objeto <code>HtmlParser</code> (sua pilha de tags, o localizador de tags e, com a
+ * reciclagem ativada, as tags recicladas) para todos os documentos que analisar. O resultado de cada documento e um
+ * objeto {@link Result Result}, que fornece o <code>TagParser</code> que o analisou (e portanto os dados que este
+ * coletou) ou a excecao que interrompeu o parsing.
+ *
+ * <pre>
+ * <code>
+ * HtmlBatchParser&lt;LinkParser&gt; batch = new HtmlBatchParser&lt;&gt;(LinkParser::new);
+ * batch.setErrorPolicy(HtmlBatchParser.ErrorPolicy.COLLECT);
+ * for (HtmlBatchParser.Result&lt;LinkParser&gt; r : batch.parseFiles(paths))
+ *     if (r.isSuccess()) links.addAll(r.getParser().getLinks());
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ *
+ * @param <T> O tipo dos objetos <code>TagParser</code> criados pela fabrica.
+ **********************************************************************************************************************/
+public final class HtmlBatchParser<T extends TagParser> {
+
+    /**
+     * Ordem dos resultados na lista retornada pelos metodos parse.
+     */
+    public enum Order {
+
+        /**
+         * A mesma ordem dos documentos passados.
+         */
+        INPUT,
+
+        /**
+         * A ordem em que o parsing de cada documento terminou.
+         */
+        COMPLETION
+    };
+
+    /**
+     * Tratamento de excecoes lancadas durante o parsing de um documento.
+     */
+    public enum ErrorPolicy {
+
+        /**
+         * Interrompe o processamento dos demais documentos e relanca a excecao.
+         */
+        FAIL_FAST,
+
+        /**
+         * Registra a excecao no resultado do documento e prossegue com os demais.
+         */
+        COLLECT
+    };
+
+    private final Supplier<T> factory;
+
+    private int threads;
+
+    private Order order;
+
+    private ErrorPolicy errorPolicy;
+
+    private Charset charset;
+
+    private String[] projection;
+
+    private boolean tagPooling;
+
+    /*******************************************************************************************************************
+     * Construtor. Por default usa uma thread por processador, resultados na ordem dos documentos, a politica
+     * {@link ErrorPolicy#FAIL_FAST FAIL_FAST} e o charset default do sistema para ler arquivos.
+     *
+     * @param factory Fornece um novo <code>TagParser</code> para cada documento. Sera chamado concorrentemente por
+     * varias threads.
+     ******************************************************************************************************************/
+    public HtmlBatchParser(final Supplier<T> factory) {
+
+        this.factory = factory;
+
+        threads = Runtime.getRuntime().availableProcessors();
+
+        order = Order.INPUT;
+
+        errorPolicy = ErrorPolicy.FAIL_FAST;
+
+        charset = Charset.defaultCharset();
+
+        projection = null;
+
+        tagPooling = false;
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Define o numero de threads.
+     *
+     * @param threads O numero maximo de documentos analisados simultaneamente.
+     *
+     * @throws IllegalArgumentException Se <b><i>threads</i></b> for menor que 1.
+     ******************************************************************************************************************/
+    public void setThreads(final int threads) throws IllegalArgumentException {
+
+        if (threads < 1) throw new IllegalArgumentException("threads < 1");
+
+        this.threads = threads;
+
+    }//setThreads
+
+    /**
+     *
+     * @param order
+     */
+    public void setOrder(final Order order) {
+
+        this.order = order;
+
+    }//setOrder
+
+    /**
+     *
+     * @param errorPolicy
+     */
+    public void setErrorPolicy(final ErrorPolicy errorPolicy) {
+
+        this.errorPolicy = errorPolicy;
+
+    }//setErrorPolicy
+
+    /*******************************************************************************************************************
+     * Define o charset com que os arquivos passados ao metodo {@link #parseFiles(java.util.List) parseFiles} serao
+     * decodificados.
+     *
+     * @param charset O charset dos arquivos.
+     ******************************************************************************************************************/
+    public void setCharset(final Charset charset) {
+
+        this.charset = charset;
+
+    }//setCharset
+
+    /*******************************************************************************************************************
+     * Aplica a projecao a todos os documentos. Veja {@link HtmlParser#setProjection(java.lang.String...)
+     * HtmlParser.setProjection}.
+     *
+     * @param selectors Os seletores das tags e atributos. Sem argumentos, remove a projecao.
+     ******************************************************************************************************************/
+    public void setProjection(final String... selectors) {
+
+        projection = (selectors == null) ? null : selectors.clone();
+
+    }//setProjection
+
+    /*******************************************************************************************************************
+     * Ativa a reciclagem de tags em todos os documentos. Veja {@link HtmlParser#setTagPooling(boolean)
+     * HtmlParser.setTagPooling}.
+     *
+     * @param pooling <code>true</code> para reciclar as tags. O default e <code>false</code>.
+     ******************************************************************************************************************/
+    public void setTagPooling(final boolean pooling) {
+
+        tagPooling = pooling;
+
+    }//setTagPooling
+
+    /*******************************************************************************************************************
+     * Realiza o parsing de documentos ja carregados em memoria.
+     *
+     * @param documents O conteudo de cada documento.
+     *
+     * @return Um resultado por documento, na ordem definida por {@link #setOrder(Order) setOrder}.
+     *
+     * @throws Exception Com a politica {@link ErrorPolicy#FAIL_FAST FAIL_FAST}, a excecao lancada pelo parsing do
+     * primeiro documento que falhar.
+     ******************************************************************************************************************/
+    public List<Result<T>> parse(final List<String> documents) throws Exception {
+
+        List<Callable<Result<T>>> tasks = new ArrayList<>(documents.size());
+
+        ThreadLocal<HtmlParser> parsers = newParsers();
+
+        int index = 0;
+
+        for (String document : documents) {
+
+            final int i = index++;
+
+            tasks.add(() -> {
+
+                Result<T> result = newResult(i, null);
+
+                return result.isSuccess() ? parse(parsers.get(), result, document) : result;
+            });
+        }
+
+        return run(tasks);
+
+    }//parse
+
+    /*******************************************************************************************************************
+     * Realiza o parsing de arquivos HTML. Cada arquivo e lido pela thread que o analisa.
+     *
+     * @param files Os arquivos.
+     *
+     * @return Um resultado por arquivo, na ordem definida por {@link #setOrder(Order) setOrder}.
+     *
+     * @throws Exception Com a politica {@link ErrorPolicy#FAIL_FAST FAIL_FAST}, a excecao lancada na leitura ou no
+     * parsing do primeiro arquivo que falhar.
+     ******************************************************************************************************************/
+    public List<Result<T>> parseFiles(final List<Path> files) throws Exception {
+
+        List<Callable<Result<T>>> tasks = new ArrayList<>(files.size());
+
+        ThreadLocal<HtmlParser> parsers = newParsers();
+
+        int index = 0;
+
+        for (Path file : files) {
+
+            final int i = index++;
+
+            tasks.add(() -> {
+
+                Result<T> result = newResult(i, file);
+
+                if (!result.isSuccess()) return result;
+
+                String document;
+
+                try {
+
+                    document = Files.readString(file, charset);
+                }
+                catch (Exception e) {
+
+                    return fail(result, e);
+                }
+
+                return parse(parsers.get(), result, document);
+            });
+        }
+
+        return run(tasks);
+
+    }//parseFiles
+
+    /*==================================================================================================================
+     * Cria o resultado do documento com o TagParser fornecido pela fabrica. Se a fabrica falhar, a falha e tratada
+     * pela politica de erros, como as do parsing, e o resultado nao tem TagParser.
+     =================================================================================================================*/
+    private Result<T> newResult(final int index, final Path file) throws Exception {
+
+        T parser;
+
+        try {
+
+            parser = factory.get();
+        }
+        catch (Exception e) {
+
+            return fail(new Result<>(index, file, null), e);
+        }
+
+        return new Result<>(index, file, parser);
+
+    }//newResult
+
+    /*==================================================================================================================
+     * Um HtmlParser por thread, reaproveitado por todos os documentos analisados pela thread.
+     =================================================================================================================*/
+    private ThreadLocal<HtmlParser> newParsers() {
+
+        final String[] selectors = projection;
+
+        final boolean pooling = tagPooling;
+
+        return ThreadLocal.withInitial(() -> {
+
+            HtmlParser htmlParser = new HtmlParser("", null);
+
+            if (selectors != null) htmlParser.setProjection(selectors);
+
+            htmlParser.setTagPooling(pooling);
+
+            return htmlParser;
+        });
+
+    }//newParsers
+
+    /*==================================================================================================================
+     *
+     =================================================================================================================*/
+    private Result<T> parse(final HtmlParser htmlParser, final Result<T> result, final String document)
+        throws Exception {
+
+        try {
+
+            htmlParser.reset(document, result.parser);
+
+            htmlParser.parse();
+        }
+        catch (Exception e) {
+
+            return fail(result, e);
+        }
+        finally {
+
+            //nao retem o documento ate o proximo parsing da thread
+            htmlParser.reset("", null);
+        }
+
+        return result;
+
+    }//parse
+
+    /*==================================================================================================================
+     *
+     =================================================================================================================*/
+    private Result<T> fail(final Result<T> result, final Exception e) throws Exception {
+
+        if (errorPolicy == ErrorPolicy.FAIL_FAST) throw e;
+
+        result.exception = e;
+
+        return result;
+
+    }//fail
+
+    /*==================================================================================================================
+     * Executa as tarefas e coleta os resultados na ordem configurada.
+     =================================================================================================================*/
+    private List<Result<T>> run(final List<Callable<Result<T>>> tasks) throws Exception {
+
+        int n = tasks.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, n)));
+
+        ExecutorCompletionService<Result<T>> completion = new ExecutorCompletionService<>(executor);
+
+        try {
+
+            for (Callable<Result<T>> task : tasks) completion.submit(task);
+
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Result<T>[] results = new Result[n];
+
+            for (int i = 0; i < n; i++) {
+
+                Result<T> result;
+
+                try {
+
+                    result = completion.take().get();
+                }
+                catch (ExecutionException e) {
+
+                    Throwable cause = e.getCause();
+
+                    if (cause instanceof Exception) throw (Exception)cause;
+
+                    throw e;
+                }
+
+                results[(order == Order.INPUT) ? result.index : i] = result;
+            }
+
+            return new ArrayList<>(Arrays.asList(results));
+        }
+        finally {
+
+            executor.shutdownNow();
+        }
+
+    }//run
+
+/*======================================================================================================================
+ * O resultado do parsing de um documento.
+======================================================================================================================*/
+public static final class Result<T extends TagParser> {
+
+    private final int index;
+
+    private final Path file;
+
+    private final T parser;
+
+    private Exception exception;
+
+    private Result(final int index, final Path file, final T parser) {
+
+        this.index = index;
+        this.file = file;
+        this.parser = parser;
+        exception = null;
+    }
+
+    /**
+     * @return A posicao do documento na lista passada ao metodo parse.
+     */
+    public int getIndex() {
+
+        return index;
+    }
+
+    /**
+     * @return O arquivo analisado ou <code>null</code> se o documento foi passado como String.
+     */
+    public Path getFile() {
+
+        return file;
+    }
+
+    /**
+     * @return O <code>TagParser</code> criado pela fabrica para este documento, ou <code>null</code> se a fabrica
+     * falhou.
+     */
+    public T getParser() {
+
+        return parser;
+    }
+
+    /**
+     * @return A excecao que interrompeu o parsing do documento (ou lancada pela fabrica) ou <code>null</code> se nao
+     * houve falha.
+     */
+    public Exception getException() {
+
+        return exception;
+    }
+
+    /**
+     * @return <code>true</code> se o parsing do documento foi concluido sem excecao.
+     */
+    public boolean isSuccess() {
+
+        return exception == null;
+    }
+
+}//classe Result
+
+}//classe HtmlBatchParser
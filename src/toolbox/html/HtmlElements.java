@@ -0,0 +1,215 @@
+package toolbox.html;
+
+/***********************************************************************************************************************
+ * Tabela dos nomes de elementos HTML conhecidos pelo pacote.
+ *
+ * <p>Os nomes sao localizados diretamente a partir dos caracteres do documento, sem distinguir maiusculas de
+ * minusculas e sem criar objetos <code>String</code>, por meio de um hash perfeito: a funcao de hash e o tamanho da
+ * tabela sao escolhidos de modo que cada nome conhecido ocupe uma posicao exclusiva da tabela. Cada nome e uma
+ * constante internalizada, e seus atributos (elemento void, conteudo nao-HTML) sao obtidos pelo indice do nome.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+final class HtmlElements {
+
+    /**
+     * Elemento sem escopo e sem tag de fechamento (self-closing).
+     */
+    static final int VOID = 1;
+
+    /**
+     * Elemento cujo escopo nao contem codigo HTML (script e style).
+     */
+    static final int RAW_TEXT = 2;
+
+    /**
+     * Elemento de bloco, cujo inicio e fim interrompem a linha de texto.
+     */
+    static final int BLOCK = 4;
+
+    private static final String[] NAMES = {
+        "a", "abbr", "acronym", "address", "applet", "area", "article", "aside", "audio", "b", "base", "basefont",
+        "bdi", "bdo", "bgsound", "big", "blink", "blockquote", "body", "br", "button", "canvas", "caption", "center",
+        "cite", "code", "col", "colgroup", "command", "data", "datalist", "dd", "del", "details", "dfn", "dialog",
+        "dir", "div", "dl", "dt", "em", "embed", "fieldset", "figcaption", "figure", "font", "footer", "form", "frame",
+        "frameset", "h1", "h2", "h3", "h4", "h5", "h6", "head", "header", "hgroup", "hr", "html", "i", "iframe",
+        "image", "img", "input", "ins", "isindex", "kbd", "keygen", "label", "legend", "li", "link", "listing", "main",
+        "map", "mark", "marquee", "math", "menu", "menuitem", "meta", "meter", "multicol", "nav", "nextid", "nobr",
+        "noembed", "noframes", "noscript", "object", "ol", "optgroup", "option", "output", "p", "param", "picture",
+        "plaintext", "pre", "progress", "q", "rb", "rp", "rt", "rtc", "ruby", "s", "samp", "script", "search",
+        "section", "select", "slot", "small", "source", "spacer", "span", "strike", "strong", "style", "sub",
+        "summary", "sup", "svg", "table", "tbody", "td", "template", "textarea", "tfoot", "th", "thead", "time",
+        "title", "tr", "track", "tt", "u", "ul", "var", "video", "wbr", "xmp"
+    };
+
+    private static final String[] VOID_ELEMENTS = {
+        "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track", "wbr",
+        "command", "keygen", "menuitem", "frame"//obsoletas
+    };
+
+    private static final String[] RAW_TEXT_ELEMENTS = {"script", "style"};
+
+    private static final String[] BLOCK_ELEMENTS = {
+        "address", "article", "aside", "blockquote", "body", "br", "caption", "center", "dd", "details", "dialog",
+        "dir", "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5",
+        "h6", "head", "header", "hgroup", "hr", "html", "legend", "li", "listing", "main", "menu", "nav", "ol", "p",
+        "plaintext", "pre", "section", "summary", "table", "tbody", "tfoot", "thead", "title", "tr", "ul", "xmp"
+    };
+
+    //2^11 posicoes. A semente abaixo nao produz colisoes para os nomes de NAMES
+    private static final int BITS = 11;
+
+    private static final int PRECOMPUTED_SEED = 1694103;
+
+    private static final int SEED;
+
+    //Indice + 1 do nome em NAMES para cada posicao da tabela, 0 para posicoes vazias
+    private static final short[] TABLE = new short[1 << BITS];
+
+    private static final byte[] FLAGS = new byte[NAMES.length];
+
+    static {
+
+        int seed = PRECOMPUTED_SEED;
+
+        //So executa mais de uma vez se a lista de nomes for alterada sem que a semente seja recalculada
+        while (!fill(seed)) seed += 2;
+
+        SEED = seed;
+
+        for (String name : VOID_ELEMENTS) FLAGS[indexOf(name, 0, name.length())] |= VOID;
+
+        for (String name : RAW_TEXT_ELEMENTS) FLAGS[indexOf(name, 0, name.length())] |= RAW_TEXT;
+
+        for (String name : BLOCK_ELEMENTS) FLAGS[indexOf(name, 0, name.length())] |= BLOCK;
+    }
+
+    /*==================================================================================================================
+     * Tenta preencher a tabela com a semente. Retorna false se houver colisao.
+     =================================================================================================================*/
+    private static boolean fill(final int seed) {
+
+        java.util.Arrays.fill(TABLE, (short)0);
+
+        for (int i = 0; i < NAMES.length; i++) {
+
+            String name = NAMES[i];
+
+            int slot = slot(hash(name, 0, name.length()), seed);
+
+            if (TABLE[slot] != 0) return false;
+
+            TABLE[slot] = (short)(i + 1);
+        }
+
+        return true;
+
+    }//fill
+
+    private HtmlElements() {}
+
+    /*==================================================================================================================
+     * Hash dos caracteres convertidos para minusculas.
+     =================================================================================================================*/
+    private static int hash(final CharSequence s, final int start, final int end) {
+
+        int h = 0;
+
+        for (int i = start; i < end; i++) h = 31 * h + toLowerCase(s.charAt(i));
+
+        return h;
+
+    }//hash
+
+    private static int slot(final int hash, final int seed) {
+
+        return (hash * seed) >>> (32 - BITS);
+
+    }//slot
+
+    private static char toLowerCase(final char c) {
+
+        return (c >= 'A' && c <= 'Z') ? (char)(c + 32) : c;
+
+    }//toLowerCase
+
+    /*******************************************************************************************************************
+     * Localiza um nome de elemento conhecido em um trecho de <b><i>s</i></b>, sem distinguir maiusculas de minusculas.
+     *
+     * @param s Texto que contem o nome.
+     *
+     * @param start Indice do primeiro caractere do nome.
+     *
+     * @param end Indice do primeiro caractere apos o nome.
+     *
+     * @return O indice do elemento ou -1 se o nome nao for de um elemento conhecido.
+     ******************************************************************************************************************/
+    static int indexOf(final CharSequence s, final int start, final int end) {
+
+        int entry = TABLE[slot(hash(s, start, end), SEED)] - 1;
+
+        if (entry < 0) return -1;
+
+        String name = NAMES[entry];
+
+        if (name.length() != end - start) return -1;
+
+        for (int i = start, j = 0; i < end; i++, j++) if (toLowerCase(s.charAt(i)) != name.charAt(j)) return -1;
+
+        return entry;
+
+    }//indexOf
+
+    /*******************************************************************************************************************
+     * Retorna o nome de um elemento em minusculas. O nome retornado e sempre a mesma instancia de <code>String</code>.
+     *
+     * @param element O indice do elemento.
+     *
+     * @return O nome do elemento.
+     ******************************************************************************************************************/
+    static String name(final int element) {
+
+        return NAMES[element];
+
+    }//name
+
+    /*******************************************************************************************************************
+     * Retorna o nome de uma tag em minusculas. Para elementos conhecidos, retorna a constante da tabela sem criar
+     * objetos. Para os demais, cria uma nova <code>String</code>.
+     *
+     * @param s Texto que contem o nome.
+     *
+     * @param start Indice do primeiro caractere do nome.
+     *
+     * @param end Indice do primeiro caractere apos o nome.
+     *
+     * @return O nome em minusculas.
+     ******************************************************************************************************************/
+    static String tagId(final String s, final int start, final int end) {
+
+        int element = indexOf(s, start, end);
+
+        if (element >= 0) return NAMES[element];
+
+        return s.substring(start, end).toLowerCase();
+
+    }//tagId
+
+    /*******************************************************************************************************************
+     * Retorna os atributos de um elemento.
+     *
+     * @param element O indice do elemento, ou -1 para um elemento desconhecido.
+     *
+     * @return Uma combinacao das constantes {@link #VOID VOID}, {@link #RAW_TEXT RAW_TEXT} e {@link #BLOCK BLOCK}.
+     ******************************************************************************************************************/
+    static int flags(final int element) {
+
+        return (element < 0) ? 0 : FLAGS[element];
+
+    }//flags
+
+}//classe HtmlElements
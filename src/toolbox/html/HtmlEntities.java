@@ -0,0 +1,777 @@
+package toolbox.html;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/***********************************************************************************************************************
+ * Decodifica as referencias a caracteres (entidades) de HTML: nomeadas, como <code>&amp;amp;</code> e
+ * <code>&amp;eacute;</code>, e numericas, como <code>&amp;#39;</code> e <code>&amp;#x27;</code>.
+ *
+ * <p>Sao reconhecidas todas as 2231 entidades nomeadas do HTML5, inclusive as formas legadas sem ponto-e-virgula
+ * (<code>&amp;amp</code>, <code>&amp;copy</code>...), que sao carregadas em uma arvore de prefixos (trie) na
+ * inicializacao da classe. A decodificacao percorre o texto uma unica vez e segue as regras do HTML5: a entidade mais
+ * longa e usada, referencias numericas invalidas sao substituidas por U+FFFD e os codigos 0x80 a 0x9F sao lidos como
+ * windows-1252. Textos sem o caractere &amp; sao retornados sem copia.
+ *
+ * <p>Os valores dos atributos e o conteudo das tags sao fornecidos pela classe <code>Tag</code> sem decodificacao. Os
+ * metodos {@link Tag#getDecodedAttr(java.lang.String) getDecodedAttr} e
+ * {@link Tag#getDecodedTagContent() getDecodedTagContent} decodificam estes dados quando sao solicitados.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class HtmlEntities {
+
+    //Cada entrada: o nome da entidade, um espaco, o numero de chars do valor (1 ou 2) e o valor
+    private static final String[] ENTITIES = {
+        "AElig 1\u00c6AElig; 1\u00c6AMP 1&AMP; 1&Aacute 1\u00c1Aacute; 1\u00c1Abreve; 1\u0102" +
+        "Acirc 1\u00c2Acirc; 1\u00c2Acy; 1\u0410Afr; 2\ud835\udd04Agrave 1\u00c0Agrave; 1\u00c0" +
+        "Alpha; 1\u0391Amacr; 1\u0100And; 1\u2a53Aogon; 1\u0104Aopf; 2\ud835\udd38ApplyFunction; 1\u2061" +
+        "Aring 1\u00c5Aring; 1\u00c5Ascr; 2\ud835\udc9cAssign; 1\u2254Atilde 1\u00c3Atilde; 1\u00c3" +
+        "Auml 1\u00c4Auml; 1\u00c4Backslash; 1\u2216Barv; 1\u2ae7Barwed; 1\u2306Bcy; 1\u0411" +
+        "Because; 1\u2235Bernoullis; 1\u212cBeta; 1\u0392Bfr; 2\ud835\udd05Bopf; 2\ud835\udd39" +
+        "Breve; 1\u02d8Bscr; 1\u212cBumpeq; 1\u224eCHcy; 1\u0427COPY 1\u00a9COPY; 1\u00a9Cacute; 1\u0106" +
+        "Cap; 1\u22d2CapitalDifferentialD; 1\u2145Cayleys; 1\u212dCcaron; 1\u010cCcedil 1\u00c7" +
+        "Ccedil; 1\u00c7Ccirc; 1\u0108Cconint; 1\u2230Cdot; 1\u010aCedilla; 1\u00b8CenterDot; 1\u00b7" +
+        "Cfr; 1\u212dChi; 1\u03a7CircleDot; 1\u2299CircleMinus; 1\u2296CirclePlus; 1\u2295" +
+        "CircleTimes; 1\u2297ClockwiseContourIntegral; 1\u2232CloseCurlyDoubleQuote; 1\u201d" +
+        "CloseCurlyQuote; 1\u2019Colon; 1\u2237Colone; 1\u2a74Congruent; 1\u2261Conint; 1\u222f" +
+        "ContourIntegral; 1\u222eCopf; 1\u2102Coproduct; 1\u2210CounterClockwiseContourIntegral; 1\u2233" +
+        "Cross; 1\u2a2fCscr; 2\ud835\udc9eCup; 1\u22d3CupCap; 1\u224dDD; 1\u2145DDotrahd; 1\u2911" +
+        "DJcy; 1\u0402DScy; 1\u0405DZcy; 1\u040fDagger; 1\u2021Darr; 1\u21a1Dashv; 1\u2ae4Dcaron; 1\u010e" +
+        "Dcy; 1\u0414Del; 1\u2207Delta; 1\u0394Dfr; 2\ud835\udd07DiacriticalAcute; 1\u00b4" +
+        "DiacriticalDot; 1\u02d9DiacriticalDoubleAcute; 1\u02ddDiacriticalGrave; 1`" +
+        "DiacriticalTilde; 1\u02dcDiamond; 1\u22c4DifferentialD; 1\u2146Dopf; 2\ud835\udd3bDot; 1\u00a8" +
+        "DotDot; 1\u20dcDotEqual; 1\u2250DoubleContourIntegral; 1\u222fDoubleDot; 1\u00a8" +
+        "DoubleDownArrow; 1\u21d3DoubleLeftArrow; 1\u21d0DoubleLeftRightArrow; 1\u21d4" +
+        "DoubleLeftTee; 1\u2ae4DoubleLongLeftArrow; 1\u27f8DoubleLongLeftRightArrow; 1\u27fa" +
+        "DoubleLongRightArrow; 1\u27f9DoubleRightArrow; 1\u21d2DoubleRightTee; 1\u22a8" +
+        "DoubleUpArrow; 1\u21d1DoubleUpDownArrow; 1\u21d5DoubleVerticalBar; 1\u2225DownArrow; 1\u2193" +
+        "DownArrowBar; 1\u2913DownArrowUpArrow; 1\u21f5DownBreve; 1\u0311DownLeftRightVector; 1\u2950" +
+        "DownLeftTeeVector; 1\u295eDownLeftVector; 1\u21bdDownLeftVectorBar; 1\u2956" +
+        "DownRightTeeVector; 1\u295fDownRightVector; 1\u21c1DownRightVectorBar; 1\u2957DownTee; 1\u22a4" +
+        "DownTeeArrow; 1\u21a7Downarrow; 1\u21d3Dscr; 2\ud835\udc9fDstrok; 1\u0110ENG; 1\u014aETH 1\u00d0" +
+        "ETH; 1\u00d0Eacute 1\u00c9Eacute; 1\u00c9Ecaron; 1\u011aEcirc 1\u00caEcirc; 1\u00caEcy; 1\u042d" +
+        "Edot; 1\u0116Efr; 2\ud835\udd08Egrave 1\u00c8Egrave; 1\u00c8Element; 1\u2208Emacr; 1\u0112" +
+        "EmptySmallSquare; 1\u25fbEmptyVerySmallSquare; 1\u25abEogon; 1\u0118Eopf; 2\ud835\udd3c" +
+        "Epsilon; 1\u0395Equal; 1\u2a75EqualTilde; 1\u2242Equilibrium; 1\u21ccEscr; 1\u2130Esim; 1\u2a73" +
+        "Eta; 1\u0397Euml 1\u00cbEuml; 1\u00cbExists; 1\u2203ExponentialE; 1\u2147Fcy; 1\u0424" +
+        "Ffr; 2\ud835\udd09FilledSmallSquare; 1\u25fcFilledVerySmallSquare; 1\u25aaFopf; 2\ud835\udd3d" +
+        "ForAll; 1\u2200Fouriertrf; 1\u2131Fscr; 1\u2131GJcy; 1\u0403GT 1>GT; 1>Gamma; 1\u0393" +
+        "Gammad; 1\u03dcGbreve; 1\u011eGcedil; 1\u0122Gcirc; 1\u011cGcy; 1\u0413Gdot; 1\u0120" +
+        "Gfr; 2\ud835\udd0aGg; 1\u22d9Gopf; 2\ud835\udd3eGreaterEqual; 1\u2265GreaterEqualLess; 1\u22db" +
+        "GreaterFullEqual; 1\u2267GreaterGreater; 1\u2aa2GreaterLess; 1\u2277GreaterSlantEqual; 1\u2a7e" +
+        "GreaterTilde; 1\u2273Gscr; 2\ud835\udca2Gt; 1\u226bHARDcy; 1\u042aHacek; 1\u02c7Hat; 1^" +
+        "Hcirc; 1\u0124Hfr; 1\u210cHilbertSpace; 1\u210bHopf; 1\u210dHorizontalLine; 1\u2500Hscr; 1\u210b" +
+        "Hstrok; 1\u0126HumpDownHump; 1\u224eHumpEqual; 1\u224fIEcy; 1\u0415IJlig; 1\u0132IOcy; 1\u0401" +
+        "Iacute 1\u00cdIacute; 1\u00cdIcirc 1\u00ceIcirc; 1\u00ceIcy; 1\u0418Idot; 1\u0130Ifr; 1\u2111" +
+        "Igrave 1\u00ccIgrave; 1\u00ccIm; 1\u2111Imacr; 1\u012aImaginaryI; 1\u2148Implies; 1\u21d2" +
+        "Int; 1\u222cIntegral; 1\u222bIntersection; 1\u22c2InvisibleComma; 1\u2063InvisibleTimes; 1\u2062" +
+        "Iogon; 1\u012eIopf; 2\ud835\udd40Iota; 1\u0399Iscr; 1\u2110Itilde; 1\u0128Iukcy; 1\u0406" +
+        "Iuml 1\u00cfIuml; 1\u00cfJcirc; 1\u0134Jcy; 1\u0419Jfr; 2\ud835\udd0dJopf; 2\ud835\udd41" +
+        "Jscr; 2\ud835\udca5Jsercy; 1\u0408Jukcy; 1\u0404KHcy; 1\u0425KJcy; 1\u040cKappa; 1\u039a" +
+        "Kcedil; 1\u0136Kcy; 1\u041aKfr; 2\ud835\udd0eKopf; 2\ud835\udd42Kscr; 2\ud835\udca6LJcy; 1\u0409" +
+        "LT 1<LT; 1<Lacute; 1\u0139Lambda; 1\u039b",
+        "Lang; 1\u27eaLaplacetrf; 1\u2112Larr; 1\u219eLcaron; 1\u013dLcedil; 1\u013bLcy; 1\u041b" +
+        "LeftAngleBracket; 1\u27e8LeftArrow; 1\u2190LeftArrowBar; 1\u21e4LeftArrowRightArrow; 1\u21c6" +
+        "LeftCeiling; 1\u2308LeftDoubleBracket; 1\u27e6LeftDownTeeVector; 1\u2961LeftDownVector; 1\u21c3" +
+        "LeftDownVectorBar; 1\u2959LeftFloor; 1\u230aLeftRightArrow; 1\u2194LeftRightVector; 1\u294e" +
+        "LeftTee; 1\u22a3LeftTeeArrow; 1\u21a4LeftTeeVector; 1\u295aLeftTriangle; 1\u22b2" +
+        "LeftTriangleBar; 1\u29cfLeftTriangleEqual; 1\u22b4LeftUpDownVector; 1\u2951" +
+        "LeftUpTeeVector; 1\u2960LeftUpVector; 1\u21bfLeftUpVectorBar; 1\u2958LeftVector; 1\u21bc" +
+        "LeftVectorBar; 1\u2952Leftarrow; 1\u21d0Leftrightarrow; 1\u21d4LessEqualGreater; 1\u22da" +
+        "LessFullEqual; 1\u2266LessGreater; 1\u2276LessLess; 1\u2aa1LessSlantEqual; 1\u2a7d" +
+        "LessTilde; 1\u2272Lfr; 2\ud835\udd0fLl; 1\u22d8Lleftarrow; 1\u21daLmidot; 1\u013f" +
+        "LongLeftArrow; 1\u27f5LongLeftRightArrow; 1\u27f7LongRightArrow; 1\u27f6Longleftarrow; 1\u27f8" +
+        "Longleftrightarrow; 1\u27faLongrightarrow; 1\u27f9Lopf; 2\ud835\udd43LowerLeftArrow; 1\u2199" +
+        "LowerRightArrow; 1\u2198Lscr; 1\u2112Lsh; 1\u21b0Lstrok; 1\u0141Lt; 1\u226aMap; 1\u2905" +
+        "Mcy; 1\u041cMediumSpace; 1\u205fMellintrf; 1\u2133Mfr; 2\ud835\udd10MinusPlus; 1\u2213" +
+        "Mopf; 2\ud835\udd44Mscr; 1\u2133Mu; 1\u039cNJcy; 1\u040aNacute; 1\u0143Ncaron; 1\u0147" +
+        "Ncedil; 1\u0145Ncy; 1\u041dNegativeMediumSpace; 1\u200bNegativeThickSpace; 1\u200b" +
+        "NegativeThinSpace; 1\u200bNegativeVeryThinSpace; 1\u200bNestedGreaterGreater; 1\u226b" +
+        "NestedLessLess; 1\u226aNewLine; 1\nNfr; 2\ud835\udd11NoBreak; 1\u2060NonBreakingSpace; 1\u00a0" +
+        "Nopf; 1\u2115Not; 1\u2aecNotCongruent; 1\u2262NotCupCap; 1\u226dNotDoubleVerticalBar; 1\u2226" +
+        "NotElement; 1\u2209NotEqual; 1\u2260NotEqualTilde; 2\u2242\u0338NotExists; 1\u2204" +
+        "NotGreater; 1\u226fNotGreaterEqual; 1\u2271NotGreaterFullEqual; 2\u2267\u0338" +
+        "NotGreaterGreater; 2\u226b\u0338NotGreaterLess; 1\u2279NotGreaterSlantEqual; 2\u2a7e\u0338" +
+        "NotGreaterTilde; 1\u2275NotHumpDownHump; 2\u224e\u0338NotHumpEqual; 2\u224f\u0338" +
+        "NotLeftTriangle; 1\u22eaNotLeftTriangleBar; 2\u29cf\u0338NotLeftTriangleEqual; 1\u22ec" +
+        "NotLess; 1\u226eNotLessEqual; 1\u2270NotLessGreater; 1\u2278NotLessLess; 2\u226a\u0338" +
+        "NotLessSlantEqual; 2\u2a7d\u0338NotLessTilde; 1\u2274NotNestedGreaterGreater; 2\u2aa2\u0338" +
+        "NotNestedLessLess; 2\u2aa1\u0338NotPrecedes; 1\u2280NotPrecedesEqual; 2\u2aaf\u0338" +
+        "NotPrecedesSlantEqual; 1\u22e0NotReverseElement; 1\u220cNotRightTriangle; 1\u22eb" +
+        "NotRightTriangleBar; 2\u29d0\u0338NotRightTriangleEqual; 1\u22edNotSquareSubset; 2\u228f\u0338" +
+        "NotSquareSubsetEqual; 1\u22e2NotSquareSuperset; 2\u2290\u0338NotSquareSupersetEqual; 1\u22e3" +
+        "NotSubset; 2\u2282\u20d2NotSubsetEqual; 1\u2288NotSucceeds; 1\u2281" +
+        "NotSucceedsEqual; 2\u2ab0\u0338NotSucceedsSlantEqual; 1\u22e1NotSucceedsTilde; 2\u227f\u0338" +
+        "NotSuperset; 2\u2283\u20d2NotSupersetEqual; 1\u2289NotTilde; 1\u2241NotTildeEqual; 1\u2244" +
+        "NotTildeFullEqual; 1\u2247NotTildeTilde; 1\u2249NotVerticalBar; 1\u2224Nscr; 2\ud835\udca9" +
+        "Ntilde 1\u00d1Ntilde; 1\u00d1Nu; 1\u039dOElig; 1\u0152Oacute 1\u00d3Oacute; 1\u00d3Ocirc 1\u00d4" +
+        "Ocirc; 1\u00d4Ocy; 1\u041eOdblac; 1\u0150Ofr; 2\ud835\udd12Ograve 1\u00d2Ograve; 1\u00d2" +
+        "Omacr; 1\u014cOmega; 1\u03a9Omicron; 1\u039fOopf; 2\ud835\udd46OpenCurlyDoubleQuote; 1\u201c" +
+        "OpenCurlyQuote; 1\u2018Or; 1\u2a54Oscr; 2\ud835\udcaaOslash 1\u00d8Oslash; 1\u00d8Otilde 1\u00d5" +
+        "Otilde; 1\u00d5Otimes; 1\u2a37Ouml 1\u00d6Ouml; 1\u00d6OverBar; 1\u203eOverBrace; 1\u23de" +
+        "OverBracket; 1\u23b4OverParenthesis; 1\u23dcPartialD; 1\u2202Pcy; 1\u041fPfr; 2\ud835\udd13" +
+        "Phi; 1\u03a6Pi; 1\u03a0PlusMinus; 1\u00b1Poincareplane; 1\u210cPopf; 1\u2119Pr; 1\u2abb" +
+        "Precedes; 1\u227aPrecedesEqual; 1\u2aafPrecedesSlantEqual; 1\u227cPrecedesTilde; 1\u227e" +
+        "Prime; 1\u2033Product; 1\u220fProportion; 1\u2237Proportional; 1\u221dPscr; 2\ud835\udcab" +
+        "Psi; 1\u03a8QUOT 1\"QUOT; 1\"Qfr; 2\ud835\udd14Qopf; 1\u211aQscr; 2\ud835\udcacRBarr; 1\u2910" +
+        "REG 1\u00aeREG; 1\u00aeRacute; 1\u0154Rang; 1\u27ebRarr; 1\u21a0Rarrtl; 1\u2916Rcaron; 1\u0158" +
+        "Rcedil; 1\u0156Rcy; 1\u0420Re; 1\u211cReverseElement; 1\u220bReverseEquilibrium; 1\u21cb" +
+        "ReverseUpEquilibrium; 1\u296fRfr; 1\u211cRho; 1\u03a1RightAngleBracket; 1\u27e9" +
+        "RightArrow; 1\u2192RightArrowBar; 1\u21e5RightArrowLeftArrow; 1\u21c4RightCeiling; 1\u2309" +
+        "RightDoubleBracket; 1\u27e7RightDownTeeVector; 1\u295dRightDownVector; 1\u21c2" +
+        "RightDownVectorBar; 1\u2955RightFloor; 1\u230bRightTee; 1\u22a2RightTeeArrow; 1\u21a6" +
+        "RightTeeVector; 1\u295bRightTriangle; 1\u22b3RightTriangleBar; 1\u29d0" +
+        "RightTriangleEqual; 1\u22b5RightUpDownVector; 1\u294fRightUpTeeVector; 1\u295c" +
+        "RightUpVector; 1\u21beRightUpVectorBar; 1\u2954RightVector; 1\u21c0RightVectorBar; 1\u2953" +
+        "Rightarrow; 1\u21d2Ropf; 1\u211dRoundImplies; 1\u2970Rrightarrow; 1\u21dbRscr; 1\u211b" +
+        "Rsh; 1\u21b1RuleDelayed; 1\u29f4SHCHcy; 1\u0429SHcy; 1\u0428SOFTcy; 1\u042cSacute; 1\u015a" +
+        "Sc; 1\u2abcScaron; 1\u0160Scedil; 1\u015eScirc; 1\u015cScy; 1\u0421Sfr; 2\ud835\udd16" +
+        "ShortDownArrow; 1\u2193ShortLeftArrow; 1\u2190ShortRightArrow; 1\u2192ShortUpArrow; 1\u2191" +
+        "Sigma; 1\u03a3SmallCircle; 1\u2218",
+        "Sopf; 2\ud835\udd4aSqrt; 1\u221aSquare; 1\u25a1SquareIntersection; 1\u2293SquareSubset; 1\u228f" +
+        "SquareSubsetEqual; 1\u2291SquareSuperset; 1\u2290SquareSupersetEqual; 1\u2292" +
+        "SquareUnion; 1\u2294Sscr; 2\ud835\udcaeStar; 1\u22c6Sub; 1\u22d0Subset; 1\u22d0" +
+        "SubsetEqual; 1\u2286Succeeds; 1\u227bSucceedsEqual; 1\u2ab0SucceedsSlantEqual; 1\u227d" +
+        "SucceedsTilde; 1\u227fSuchThat; 1\u220bSum; 1\u2211Sup; 1\u22d1Superset; 1\u2283" +
+        "SupersetEqual; 1\u2287Supset; 1\u22d1THORN 1\u00deTHORN; 1\u00deTRADE; 1\u2122TSHcy; 1\u040b" +
+        "TScy; 1\u0426Tab; 1\tTau; 1\u03a4Tcaron; 1\u0164Tcedil; 1\u0162Tcy; 1\u0422Tfr; 2\ud835\udd17" +
+        "Therefore; 1\u2234Theta; 1\u0398ThickSpace; 2\u205f\u200aThinSpace; 1\u2009Tilde; 1\u223c" +
+        "TildeEqual; 1\u2243TildeFullEqual; 1\u2245TildeTilde; 1\u2248Topf; 2\ud835\udd4b" +
+        "TripleDot; 1\u20dbTscr; 2\ud835\udcafTstrok; 1\u0166Uacute 1\u00daUacute; 1\u00daUarr; 1\u219f" +
+        "Uarrocir; 1\u2949Ubrcy; 1\u040eUbreve; 1\u016cUcirc 1\u00dbUcirc; 1\u00dbUcy; 1\u0423" +
+        "Udblac; 1\u0170Ufr; 2\ud835\udd18Ugrave 1\u00d9Ugrave; 1\u00d9Umacr; 1\u016aUnderBar; 1_" +
+        "UnderBrace; 1\u23dfUnderBracket; 1\u23b5UnderParenthesis; 1\u23ddUnion; 1\u22c3" +
+        "UnionPlus; 1\u228eUogon; 1\u0172Uopf; 2\ud835\udd4cUpArrow; 1\u2191UpArrowBar; 1\u2912" +
+        "UpArrowDownArrow; 1\u21c5UpDownArrow; 1\u2195UpEquilibrium; 1\u296eUpTee; 1\u22a5" +
+        "UpTeeArrow; 1\u21a5Uparrow; 1\u21d1Updownarrow; 1\u21d5UpperLeftArrow; 1\u2196" +
+        "UpperRightArrow; 1\u2197Upsi; 1\u03d2Upsilon; 1\u03a5Uring; 1\u016eUscr; 2\ud835\udcb0" +
+        "Utilde; 1\u0168Uuml 1\u00dcUuml; 1\u00dcVDash; 1\u22abVbar; 1\u2aebVcy; 1\u0412Vdash; 1\u22a9" +
+        "Vdashl; 1\u2ae6Vee; 1\u22c1Verbar; 1\u2016Vert; 1\u2016VerticalBar; 1\u2223VerticalLine; 1|" +
+        "VerticalSeparator; 1\u2758VerticalTilde; 1\u2240VeryThinSpace; 1\u200aVfr; 2\ud835\udd19" +
+        "Vopf; 2\ud835\udd4dVscr; 2\ud835\udcb1Vvdash; 1\u22aaWcirc; 1\u0174Wedge; 1\u22c0" +
+        "Wfr; 2\ud835\udd1aWopf; 2\ud835\udd4eWscr; 2\ud835\udcb2Xfr; 2\ud835\udd1bXi; 1\u039e" +
+        "Xopf; 2\ud835\udd4fXscr; 2\ud835\udcb3YAcy; 1\u042fYIcy; 1\u0407YUcy; 1\u042eYacute 1\u00dd" +
+        "Yacute; 1\u00ddYcirc; 1\u0176Ycy; 1\u042bYfr; 2\ud835\udd1cYopf; 2\ud835\udd50" +
+        "Yscr; 2\ud835\udcb4Yuml; 1\u0178ZHcy; 1\u0416Zacute; 1\u0179Zcaron; 1\u017dZcy; 1\u0417" +
+        "Zdot; 1\u017bZeroWidthSpace; 1\u200bZeta; 1\u0396Zfr; 1\u2128Zopf; 1\u2124Zscr; 2\ud835\udcb5" +
+        "aacute 1\u00e1aacute; 1\u00e1abreve; 1\u0103ac; 1\u223eacE; 2\u223e\u0333acd; 1\u223f" +
+        "acirc 1\u00e2acirc; 1\u00e2acute 1\u00b4acute; 1\u00b4acy; 1\u0430aelig 1\u00e6aelig; 1\u00e6" +
+        "af; 1\u2061afr; 2\ud835\udd1eagrave 1\u00e0agrave; 1\u00e0alefsym; 1\u2135aleph; 1\u2135" +
+        "alpha; 1\u03b1amacr; 1\u0101amalg; 1\u2a3famp 1&amp; 1&and; 1\u2227andand; 1\u2a55andd; 1\u2a5c" +
+        "andslope; 1\u2a58andv; 1\u2a5aang; 1\u2220ange; 1\u29a4angle; 1\u2220angmsd; 1\u2221" +
+        "angmsdaa; 1\u29a8angmsdab; 1\u29a9angmsdac; 1\u29aaangmsdad; 1\u29abangmsdae; 1\u29ac" +
+        "angmsdaf; 1\u29adangmsdag; 1\u29aeangmsdah; 1\u29afangrt; 1\u221fangrtvb; 1\u22be" +
+        "angrtvbd; 1\u299dangsph; 1\u2222angst; 1\u00c5angzarr; 1\u237caogon; 1\u0105aopf; 2\ud835\udd52" +
+        "ap; 1\u2248apE; 1\u2a70apacir; 1\u2a6fape; 1\u224aapid; 1\u224bapos; 1'approx; 1\u2248" +
+        "approxeq; 1\u224aaring 1\u00e5aring; 1\u00e5ascr; 2\ud835\udcb6ast; 1*asymp; 1\u2248" +
+        "asympeq; 1\u224datilde 1\u00e3atilde; 1\u00e3auml 1\u00e4auml; 1\u00e4awconint; 1\u2233" +
+        "awint; 1\u2a11bNot; 1\u2aedbackcong; 1\u224cbackepsilon; 1\u03f6backprime; 1\u2035" +
+        "backsim; 1\u223dbacksimeq; 1\u22cdbarvee; 1\u22bdbarwed; 1\u2305barwedge; 1\u2305bbrk; 1\u23b5" +
+        "bbrktbrk; 1\u23b6bcong; 1\u224cbcy; 1\u0431bdquo; 1\u201ebecaus; 1\u2235because; 1\u2235" +
+        "bemptyv; 1\u29b0bepsi; 1\u03f6bernou; 1\u212cbeta; 1\u03b2beth; 1\u2136between; 1\u226c" +
+        "bfr; 2\ud835\udd1fbigcap; 1\u22c2bigcirc; 1\u25efbigcup; 1\u22c3bigodot; 1\u2a00" +
+        "bigoplus; 1\u2a01bigotimes; 1\u2a02bigsqcup; 1\u2a06bigstar; 1\u2605bigtriangledown; 1\u25bd" +
+        "bigtriangleup; 1\u25b3biguplus; 1\u2a04bigvee; 1\u22c1bigwedge; 1\u22c0bkarow; 1\u290d" +
+        "blacklozenge; 1\u29ebblacksquare; 1\u25aablacktriangle; 1\u25b4blacktriangledown; 1\u25be" +
+        "blacktriangleleft; 1\u25c2blacktriangleright; 1\u25b8blank; 1\u2423blk12; 1\u2592blk14; 1\u2591" +
+        "blk34; 1\u2593",
+        "block; 1\u2588bne; 2=\u20e5bnequiv; 2\u2261\u20e5bnot; 1\u2310bopf; 2\ud835\udd53bot; 1\u22a5" +
+        "bottom; 1\u22a5bowtie; 1\u22c8boxDL; 1\u2557boxDR; 1\u2554boxDl; 1\u2556boxDr; 1\u2553" +
+        "boxH; 1\u2550boxHD; 1\u2566boxHU; 1\u2569boxHd; 1\u2564boxHu; 1\u2567boxUL; 1\u255d" +
+        "boxUR; 1\u255aboxUl; 1\u255cboxUr; 1\u2559boxV; 1\u2551boxVH; 1\u256cboxVL; 1\u2563" +
+        "boxVR; 1\u2560boxVh; 1\u256bboxVl; 1\u2562boxVr; 1\u255fboxbox; 1\u29c9boxdL; 1\u2555" +
+        "boxdR; 1\u2552boxdl; 1\u2510boxdr; 1\u250cboxh; 1\u2500boxhD; 1\u2565boxhU; 1\u2568" +
+        "boxhd; 1\u252cboxhu; 1\u2534boxminus; 1\u229fboxplus; 1\u229eboxtimes; 1\u22a0boxuL; 1\u255b" +
+        "boxuR; 1\u2558boxul; 1\u2518boxur; 1\u2514boxv; 1\u2502boxvH; 1\u256aboxvL; 1\u2561" +
+        "boxvR; 1\u255eboxvh; 1\u253cboxvl; 1\u2524boxvr; 1\u251cbprime; 1\u2035breve; 1\u02d8" +
+        "brvbar 1\u00a6brvbar; 1\u00a6bscr; 2\ud835\udcb7bsemi; 1\u204fbsim; 1\u223dbsime; 1\u22cd" +
+        "bsol; 1\\bsolb; 1\u29c5bsolhsub; 1\u27c8bull; 1\u2022bullet; 1\u2022bump; 1\u224ebumpE; 1\u2aae" +
+        "bumpe; 1\u224fbumpeq; 1\u224fcacute; 1\u0107cap; 1\u2229capand; 1\u2a44capbrcup; 1\u2a49" +
+        "capcap; 1\u2a4bcapcup; 1\u2a47capdot; 1\u2a40caps; 2\u2229\ufe00caret; 1\u2041caron; 1\u02c7" +
+        "ccaps; 1\u2a4dccaron; 1\u010dccedil 1\u00e7ccedil; 1\u00e7ccirc; 1\u0109ccups; 1\u2a4c" +
+        "ccupssm; 1\u2a50cdot; 1\u010bcedil 1\u00b8cedil; 1\u00b8cemptyv; 1\u29b2cent 1\u00a2" +
+        "cent; 1\u00a2centerdot; 1\u00b7cfr; 2\ud835\udd20chcy; 1\u0447check; 1\u2713checkmark; 1\u2713" +
+        "chi; 1\u03c7cir; 1\u25cbcirE; 1\u29c3circ; 1\u02c6circeq; 1\u2257circlearrowleft; 1\u21ba" +
+        "circlearrowright; 1\u21bbcircledR; 1\u00aecircledS; 1\u24c8circledast; 1\u229b" +
+        "circledcirc; 1\u229acircleddash; 1\u229dcire; 1\u2257cirfnint; 1\u2a10cirmid; 1\u2aef" +
+        "cirscir; 1\u29c2clubs; 1\u2663clubsuit; 1\u2663colon; 1:colone; 1\u2254coloneq; 1\u2254comma; 1," +
+        "commat; 1@comp; 1\u2201compfn; 1\u2218complement; 1\u2201complexes; 1\u2102cong; 1\u2245" +
+        "congdot; 1\u2a6dconint; 1\u222ecopf; 2\ud835\udd54coprod; 1\u2210copy 1\u00a9copy; 1\u00a9" +
+        "copysr; 1\u2117crarr; 1\u21b5cross; 1\u2717cscr; 2\ud835\udcb8csub; 1\u2acfcsube; 1\u2ad1" +
+        "csup; 1\u2ad0csupe; 1\u2ad2ctdot; 1\u22efcudarrl; 1\u2938cudarrr; 1\u2935cuepr; 1\u22de" +
+        "cuesc; 1\u22dfcularr; 1\u21b6cularrp; 1\u293dcup; 1\u222acupbrcap; 1\u2a48cupcap; 1\u2a46" +
+        "cupcup; 1\u2a4acupdot; 1\u228dcupor; 1\u2a45cups; 2\u222a\ufe00curarr; 1\u21b7curarrm; 1\u293c" +
+        "curlyeqprec; 1\u22decurlyeqsucc; 1\u22dfcurlyvee; 1\u22cecurlywedge; 1\u22cfcurren 1\u00a4" +
+        "curren; 1\u00a4curvearrowleft; 1\u21b6curvearrowright; 1\u21b7cuvee; 1\u22cecuwed; 1\u22cf" +
+        "cwconint; 1\u2232cwint; 1\u2231cylcty; 1\u232ddArr; 1\u21d3dHar; 1\u2965dagger; 1\u2020" +
+        "daleth; 1\u2138darr; 1\u2193dash; 1\u2010dashv; 1\u22a3dbkarow; 1\u290fdblac; 1\u02dd" +
+        "dcaron; 1\u010fdcy; 1\u0434dd; 1\u2146ddagger; 1\u2021ddarr; 1\u21caddotseq; 1\u2a77deg 1\u00b0" +
+        "deg; 1\u00b0delta; 1\u03b4demptyv; 1\u29b1dfisht; 1\u297fdfr; 2\ud835\udd21dharl; 1\u21c3" +
+        "dharr; 1\u21c2diam; 1\u22c4diamond; 1\u22c4diamondsuit; 1\u2666diams; 1\u2666die; 1\u00a8" +
+        "digamma; 1\u03dddisin; 1\u22f2div; 1\u00f7divide 1\u00f7divide; 1\u00f7divideontimes; 1\u22c7" +
+        "divonx; 1\u22c7djcy; 1\u0452dlcorn; 1\u231edlcrop; 1\u230ddollar; 1$dopf; 2\ud835\udd55" +
+        "dot; 1\u02d9doteq; 1\u2250doteqdot; 1\u2251dotminus; 1\u2238dotplus; 1\u2214dotsquare; 1\u22a1" +
+        "doublebarwedge; 1\u2306downarrow; 1\u2193downdownarrows; 1\u21cadownharpoonleft; 1\u21c3" +
+        "downharpoonright; 1\u21c2drbkarow; 1\u2910drcorn; 1\u231fdrcrop; 1\u230cdscr; 2\ud835\udcb9" +
+        "dscy; 1\u0455dsol; 1\u29f6dstrok; 1\u0111dtdot; 1\u22f1dtri; 1\u25bfdtrif; 1\u25beduarr; 1\u21f5" +
+        "duhar; 1\u296fdwangle; 1\u29a6dzcy; 1\u045fdzigrarr; 1\u27ffeDDot; 1\u2a77eDot; 1\u2251" +
+        "eacute 1\u00e9eacute; 1\u00e9easter; 1\u2a6eecaron; 1\u011becir; 1\u2256ecirc 1\u00ea" +
+        "ecirc; 1\u00eaecolon; 1\u2255ecy; 1\u044dedot; 1\u0117ee; 1\u2147efDot; 1\u2252" +
+        "efr; 2\ud835\udd22eg; 1\u2a9a",
+        "egrave 1\u00e8egrave; 1\u00e8egs; 1\u2a96egsdot; 1\u2a98el; 1\u2a99elinters; 1\u23e7ell; 1\u2113" +
+        "els; 1\u2a95elsdot; 1\u2a97emacr; 1\u0113empty; 1\u2205emptyset; 1\u2205emptyv; 1\u2205" +
+        "emsp13; 1\u2004emsp14; 1\u2005emsp; 1\u2003eng; 1\u014bensp; 1\u2002eogon; 1\u0119" +
+        "eopf; 2\ud835\udd56epar; 1\u22d5eparsl; 1\u29e3eplus; 1\u2a71epsi; 1\u03b5epsilon; 1\u03b5" +
+        "epsiv; 1\u03f5eqcirc; 1\u2256eqcolon; 1\u2255eqsim; 1\u2242eqslantgtr; 1\u2a96" +
+        "eqslantless; 1\u2a95equals; 1=equest; 1\u225fequiv; 1\u2261equivDD; 1\u2a78eqvparsl; 1\u29e5" +
+        "erDot; 1\u2253erarr; 1\u2971escr; 1\u212fesdot; 1\u2250esim; 1\u2242eta; 1\u03b7eth 1\u00f0" +
+        "eth; 1\u00f0euml 1\u00ebeuml; 1\u00ebeuro; 1\u20acexcl; 1!exist; 1\u2203expectation; 1\u2130" +
+        "exponentiale; 1\u2147fallingdotseq; 1\u2252fcy; 1\u0444female; 1\u2640ffilig; 1\ufb03" +
+        "fflig; 1\ufb00ffllig; 1\ufb04ffr; 2\ud835\udd23filig; 1\ufb01fjlig; 2fjflat; 1\u266d" +
+        "fllig; 1\ufb02fltns; 1\u25b1fnof; 1\u0192fopf; 2\ud835\udd57forall; 1\u2200fork; 1\u22d4" +
+        "forkv; 1\u2ad9fpartint; 1\u2a0dfrac12 1\u00bdfrac12; 1\u00bdfrac13; 1\u2153frac14 1\u00bc" +
+        "frac14; 1\u00bcfrac15; 1\u2155frac16; 1\u2159frac18; 1\u215bfrac23; 1\u2154frac25; 1\u2156" +
+        "frac34 1\u00befrac34; 1\u00befrac35; 1\u2157frac38; 1\u215cfrac45; 1\u2158frac56; 1\u215a" +
+        "frac58; 1\u215dfrac78; 1\u215efrasl; 1\u2044frown; 1\u2322fscr; 2\ud835\udcbbgE; 1\u2267" +
+        "gEl; 1\u2a8cgacute; 1\u01f5gamma; 1\u03b3gammad; 1\u03ddgap; 1\u2a86gbreve; 1\u011f" +
+        "gcirc; 1\u011dgcy; 1\u0433gdot; 1\u0121ge; 1\u2265gel; 1\u22dbgeq; 1\u2265geqq; 1\u2267" +
+        "geqslant; 1\u2a7eges; 1\u2a7egescc; 1\u2aa9gesdot; 1\u2a80gesdoto; 1\u2a82gesdotol; 1\u2a84" +
+        "gesl; 2\u22db\ufe00gesles; 1\u2a94gfr; 2\ud835\udd24gg; 1\u226bggg; 1\u22d9gimel; 1\u2137" +
+        "gjcy; 1\u0453gl; 1\u2277glE; 1\u2a92gla; 1\u2aa5glj; 1\u2aa4gnE; 1\u2269gnap; 1\u2a8a" +
+        "gnapprox; 1\u2a8agne; 1\u2a88gneq; 1\u2a88gneqq; 1\u2269gnsim; 1\u22e7gopf; 2\ud835\udd58" +
+        "grave; 1`gscr; 1\u210agsim; 1\u2273gsime; 1\u2a8egsiml; 1\u2a90gt 1>gt; 1>gtcc; 1\u2aa7" +
+        "gtcir; 1\u2a7agtdot; 1\u22d7gtlPar; 1\u2995gtquest; 1\u2a7cgtrapprox; 1\u2a86gtrarr; 1\u2978" +
+        "gtrdot; 1\u22d7gtreqless; 1\u22dbgtreqqless; 1\u2a8cgtrless; 1\u2277gtrsim; 1\u2273" +
+        "gvertneqq; 2\u2269\ufe00gvnE; 2\u2269\ufe00hArr; 1\u21d4hairsp; 1\u200ahalf; 1\u00bd" +
+        "hamilt; 1\u210bhardcy; 1\u044aharr; 1\u2194harrcir; 1\u2948harrw; 1\u21adhbar; 1\u210f" +
+        "hcirc; 1\u0125hearts; 1\u2665heartsuit; 1\u2665hellip; 1\u2026hercon; 1\u22b9hfr; 2\ud835\udd25" +
+        "hksearow; 1\u2925hkswarow; 1\u2926hoarr; 1\u21ffhomtht; 1\u223bhookleftarrow; 1\u21a9" +
+        "hookrightarrow; 1\u21aahopf; 2\ud835\udd59horbar; 1\u2015hscr; 2\ud835\udcbdhslash; 1\u210f" +
+        "hstrok; 1\u0127hybull; 1\u2043hyphen; 1\u2010iacute 1\u00ediacute; 1\u00edic; 1\u2063" +
+        "icirc 1\u00eeicirc; 1\u00eeicy; 1\u0438iecy; 1\u0435iexcl 1\u00a1iexcl; 1\u00a1iff; 1\u21d4" +
+        "ifr; 2\ud835\udd26igrave 1\u00ecigrave; 1\u00ecii; 1\u2148iiiint; 1\u2a0ciiint; 1\u222d" +
+        "iinfin; 1\u29dciiota; 1\u2129ijlig; 1\u0133imacr; 1\u012bimage; 1\u2111imagline; 1\u2110" +
+        "imagpart; 1\u2111imath; 1\u0131imof; 1\u22b7imped; 1\u01b5in; 1\u2208incare; 1\u2105" +
+        "infin; 1\u221einfintie; 1\u29ddinodot; 1\u0131int; 1\u222bintcal; 1\u22baintegers; 1\u2124" +
+        "intercal; 1\u22baintlarhk; 1\u2a17intprod; 1\u2a3ciocy; 1\u0451iogon; 1\u012fiopf; 2\ud835\udd5a" +
+        "iota; 1\u03b9iprod; 1\u2a3ciquest 1\u00bfiquest; 1\u00bfiscr; 2\ud835\udcbeisin; 1\u2208" +
+        "isinE; 1\u22f9isindot; 1\u22f5isins; 1\u22f4isinsv; 1\u22f3isinv; 1\u2208it; 1\u2062" +
+        "itilde; 1\u0129iukcy; 1\u0456iuml 1\u00efiuml; 1\u00efjcirc; 1\u0135jcy; 1\u0439" +
+        "jfr; 2\ud835\udd27jmath; 1\u0237jopf; 2\ud835\udd5bjscr; 2\ud835\udcbfjsercy; 1\u0458" +
+        "jukcy; 1\u0454kappa; 1\u03bakappav; 1\u03f0kcedil; 1\u0137kcy; 1\u043akfr; 2\ud835\udd28" +
+        "kgreen; 1\u0138khcy; 1\u0445kjcy; 1\u045c",
+        "kopf; 2\ud835\udd5ckscr; 2\ud835\udcc0lAarr; 1\u21dalArr; 1\u21d0lAtail; 1\u291blBarr; 1\u290e" +
+        "lE; 1\u2266lEg; 1\u2a8blHar; 1\u2962lacute; 1\u013alaemptyv; 1\u29b4lagran; 1\u2112" +
+        "lambda; 1\u03bblang; 1\u27e8langd; 1\u2991langle; 1\u27e8lap; 1\u2a85laquo 1\u00ablaquo; 1\u00ab" +
+        "larr; 1\u2190larrb; 1\u21e4larrbfs; 1\u291flarrfs; 1\u291dlarrhk; 1\u21a9larrlp; 1\u21ab" +
+        "larrpl; 1\u2939larrsim; 1\u2973larrtl; 1\u21a2lat; 1\u2aablatail; 1\u2919late; 1\u2aad" +
+        "lates; 2\u2aad\ufe00lbarr; 1\u290clbbrk; 1\u2772lbrace; 1{lbrack; 1[lbrke; 1\u298b" +
+        "lbrksld; 1\u298flbrkslu; 1\u298dlcaron; 1\u013elcedil; 1\u013clceil; 1\u2308lcub; 1{lcy; 1\u043b" +
+        "ldca; 1\u2936ldquo; 1\u201cldquor; 1\u201eldrdhar; 1\u2967ldrushar; 1\u294bldsh; 1\u21b2" +
+        "le; 1\u2264leftarrow; 1\u2190leftarrowtail; 1\u21a2leftharpoondown; 1\u21bd" +
+        "leftharpoonup; 1\u21bcleftleftarrows; 1\u21c7leftrightarrow; 1\u2194leftrightarrows; 1\u21c6" +
+        "leftrightharpoons; 1\u21cbleftrightsquigarrow; 1\u21adleftthreetimes; 1\u22cbleg; 1\u22da" +
+        "leq; 1\u2264leqq; 1\u2266leqslant; 1\u2a7dles; 1\u2a7dlescc; 1\u2aa8lesdot; 1\u2a7f" +
+        "lesdoto; 1\u2a81lesdotor; 1\u2a83lesg; 2\u22da\ufe00lesges; 1\u2a93lessapprox; 1\u2a85" +
+        "lessdot; 1\u22d6lesseqgtr; 1\u22dalesseqqgtr; 1\u2a8blessgtr; 1\u2276lesssim; 1\u2272" +
+        "lfisht; 1\u297clfloor; 1\u230alfr; 2\ud835\udd29lg; 1\u2276lgE; 1\u2a91lhard; 1\u21bd" +
+        "lharu; 1\u21bclharul; 1\u296alhblk; 1\u2584ljcy; 1\u0459ll; 1\u226allarr; 1\u21c7" +
+        "llcorner; 1\u231ellhard; 1\u296blltri; 1\u25falmidot; 1\u0140lmoust; 1\u23b0lmoustache; 1\u23b0" +
+        "lnE; 1\u2268lnap; 1\u2a89lnapprox; 1\u2a89lne; 1\u2a87lneq; 1\u2a87lneqq; 1\u2268lnsim; 1\u22e6" +
+        "loang; 1\u27ecloarr; 1\u21fdlobrk; 1\u27e6longleftarrow; 1\u27f5longleftrightarrow; 1\u27f7" +
+        "longmapsto; 1\u27fclongrightarrow; 1\u27f6looparrowleft; 1\u21ablooparrowright; 1\u21ac" +
+        "lopar; 1\u2985lopf; 2\ud835\udd5dloplus; 1\u2a2dlotimes; 1\u2a34lowast; 1\u2217lowbar; 1_" +
+        "loz; 1\u25calozenge; 1\u25calozf; 1\u29eblpar; 1(lparlt; 1\u2993lrarr; 1\u21c6lrcorner; 1\u231f" +
+        "lrhar; 1\u21cblrhard; 1\u296dlrm; 1\u200elrtri; 1\u22bflsaquo; 1\u2039lscr; 2\ud835\udcc1" +
+        "lsh; 1\u21b0lsim; 1\u2272lsime; 1\u2a8dlsimg; 1\u2a8flsqb; 1[lsquo; 1\u2018lsquor; 1\u201a" +
+        "lstrok; 1\u0142lt 1<lt; 1<ltcc; 1\u2aa6ltcir; 1\u2a79ltdot; 1\u22d6lthree; 1\u22cb" +
+        "ltimes; 1\u22c9ltlarr; 1\u2976ltquest; 1\u2a7bltrPar; 1\u2996ltri; 1\u25c3ltrie; 1\u22b4" +
+        "ltrif; 1\u25c2lurdshar; 1\u294aluruhar; 1\u2966lvertneqq; 2\u2268\ufe00lvnE; 2\u2268\ufe00" +
+        "mDDot; 1\u223amacr 1\u00afmacr; 1\u00afmale; 1\u2642malt; 1\u2720maltese; 1\u2720map; 1\u21a6" +
+        "mapsto; 1\u21a6mapstodown; 1\u21a7mapstoleft; 1\u21a4mapstoup; 1\u21a5marker; 1\u25ae" +
+        "mcomma; 1\u2a29mcy; 1\u043cmdash; 1\u2014measuredangle; 1\u2221mfr; 2\ud835\udd2amho; 1\u2127" +
+        "micro 1\u00b5micro; 1\u00b5mid; 1\u2223midast; 1*midcir; 1\u2af0middot 1\u00b7middot; 1\u00b7" +
+        "minus; 1\u2212minusb; 1\u229fminusd; 1\u2238minusdu; 1\u2a2amlcp; 1\u2adbmldr; 1\u2026" +
+        "mnplus; 1\u2213models; 1\u22a7mopf; 2\ud835\udd5emp; 1\u2213mscr; 2\ud835\udcc2mstpos; 1\u223e" +
+        "mu; 1\u03bcmultimap; 1\u22b8mumap; 1\u22b8nGg; 2\u22d9\u0338nGt; 2\u226b\u20d2" +
+        "nGtv; 2\u226b\u0338nLeftarrow; 1\u21cdnLeftrightarrow; 1\u21cenLl; 2\u22d8\u0338" +
+        "nLt; 2\u226a\u20d2nLtv; 2\u226a\u0338nRightarrow; 1\u21cfnVDash; 1\u22afnVdash; 1\u22ae" +
+        "nabla; 1\u2207nacute; 1\u0144nang; 2\u2220\u20d2nap; 1\u2249napE; 2\u2a70\u0338" +
+        "napid; 2\u224b\u0338napos; 1\u0149napprox; 1\u2249natur; 1\u266enatural; 1\u266e" +
+        "naturals; 1\u2115nbsp 1\u00a0nbsp; 1\u00a0nbump; 2\u224e\u0338nbumpe; 2\u224f\u0338ncap; 1\u2a43" +
+        "ncaron; 1\u0148ncedil; 1\u0146ncong; 1\u2247ncongdot; 2\u2a6d\u0338ncup; 1\u2a42ncy; 1\u043d" +
+        "ndash; 1\u2013ne; 1\u2260neArr; 1\u21d7nearhk; 1\u2924nearr; 1\u2197nearrow; 1\u2197" +
+        "nedot; 2\u2250\u0338nequiv; 1\u2262nesear; 1\u2928nesim; 2\u2242\u0338nexist; 1\u2204" +
+        "nexists; 1\u2204nfr; 2\ud835\udd2bngE; 2\u2267\u0338nge; 1\u2271ngeq; 1\u2271" +
+        "ngeqq; 2\u2267\u0338ngeqslant; 2\u2a7e\u0338nges; 2\u2a7e\u0338ngsim; 1\u2275ngt; 1\u226f",
+        "ngtr; 1\u226fnhArr; 1\u21cenharr; 1\u21aenhpar; 1\u2af2ni; 1\u220bnis; 1\u22fcnisd; 1\u22fa" +
+        "niv; 1\u220bnjcy; 1\u045anlArr; 1\u21cdnlE; 2\u2266\u0338nlarr; 1\u219anldr; 1\u2025nle; 1\u2270" +
+        "nleftarrow; 1\u219anleftrightarrow; 1\u21aenleq; 1\u2270nleqq; 2\u2266\u0338" +
+        "nleqslant; 2\u2a7d\u0338nles; 2\u2a7d\u0338nless; 1\u226enlsim; 1\u2274nlt; 1\u226e" +
+        "nltri; 1\u22eanltrie; 1\u22ecnmid; 1\u2224nopf; 2\ud835\udd5fnot 1\u00acnot; 1\u00ac" +
+        "notin; 1\u2209notinE; 2\u22f9\u0338notindot; 2\u22f5\u0338notinva; 1\u2209notinvb; 1\u22f7" +
+        "notinvc; 1\u22f6notni; 1\u220cnotniva; 1\u220cnotnivb; 1\u22fenotnivc; 1\u22fdnpar; 1\u2226" +
+        "nparallel; 1\u2226nparsl; 2\u2afd\u20e5npart; 2\u2202\u0338npolint; 1\u2a14npr; 1\u2280" +
+        "nprcue; 1\u22e0npre; 2\u2aaf\u0338nprec; 1\u2280npreceq; 2\u2aaf\u0338nrArr; 1\u21cf" +
+        "nrarr; 1\u219bnrarrc; 2\u2933\u0338nrarrw; 2\u219d\u0338nrightarrow; 1\u219bnrtri; 1\u22eb" +
+        "nrtrie; 1\u22ednsc; 1\u2281nsccue; 1\u22e1nsce; 2\u2ab0\u0338nscr; 2\ud835\udcc3" +
+        "nshortmid; 1\u2224nshortparallel; 1\u2226nsim; 1\u2241nsime; 1\u2244nsimeq; 1\u2244" +
+        "nsmid; 1\u2224nspar; 1\u2226nsqsube; 1\u22e2nsqsupe; 1\u22e3nsub; 1\u2284nsubE; 2\u2ac5\u0338" +
+        "nsube; 1\u2288nsubset; 2\u2282\u20d2nsubseteq; 1\u2288nsubseteqq; 2\u2ac5\u0338nsucc; 1\u2281" +
+        "nsucceq; 2\u2ab0\u0338nsup; 1\u2285nsupE; 2\u2ac6\u0338nsupe; 1\u2289nsupset; 2\u2283\u20d2" +
+        "nsupseteq; 1\u2289nsupseteqq; 2\u2ac6\u0338ntgl; 1\u2279ntilde 1\u00f1ntilde; 1\u00f1" +
+        "ntlg; 1\u2278ntriangleleft; 1\u22eantrianglelefteq; 1\u22ecntriangleright; 1\u22eb" +
+        "ntrianglerighteq; 1\u22ednu; 1\u03bdnum; 1#numero; 1\u2116numsp; 1\u2007nvDash; 1\u22ad" +
+        "nvHarr; 1\u2904nvap; 2\u224d\u20d2nvdash; 1\u22acnvge; 2\u2265\u20d2nvgt; 2>\u20d2" +
+        "nvinfin; 1\u29denvlArr; 1\u2902nvle; 2\u2264\u20d2nvlt; 2<\u20d2nvltrie; 2\u22b4\u20d2" +
+        "nvrArr; 1\u2903nvrtrie; 2\u22b5\u20d2nvsim; 2\u223c\u20d2nwArr; 1\u21d6nwarhk; 1\u2923" +
+        "nwarr; 1\u2196nwarrow; 1\u2196nwnear; 1\u2927oS; 1\u24c8oacute 1\u00f3oacute; 1\u00f3" +
+        "oast; 1\u229bocir; 1\u229aocirc 1\u00f4ocirc; 1\u00f4ocy; 1\u043eodash; 1\u229dodblac; 1\u0151" +
+        "odiv; 1\u2a38odot; 1\u2299odsold; 1\u29bcoelig; 1\u0153ofcir; 1\u29bfofr; 2\ud835\udd2c" +
+        "ogon; 1\u02dbograve 1\u00f2ograve; 1\u00f2ogt; 1\u29c1ohbar; 1\u29b5ohm; 1\u03a9oint; 1\u222e" +
+        "olarr; 1\u21baolcir; 1\u29beolcross; 1\u29bboline; 1\u203eolt; 1\u29c0omacr; 1\u014d" +
+        "omega; 1\u03c9omicron; 1\u03bfomid; 1\u29b6ominus; 1\u2296oopf; 2\ud835\udd60opar; 1\u29b7" +
+        "operp; 1\u29b9oplus; 1\u2295or; 1\u2228orarr; 1\u21bbord; 1\u2a5dorder; 1\u2134orderof; 1\u2134" +
+        "ordf 1\u00aaordf; 1\u00aaordm 1\u00baordm; 1\u00baorigof; 1\u22b6oror; 1\u2a56orslope; 1\u2a57" +
+        "orv; 1\u2a5boscr; 1\u2134oslash 1\u00f8oslash; 1\u00f8osol; 1\u2298otilde 1\u00f5otilde; 1\u00f5" +
+        "otimes; 1\u2297otimesas; 1\u2a36ouml 1\u00f6ouml; 1\u00f6ovbar; 1\u233dpar; 1\u2225para 1\u00b6" +
+        "para; 1\u00b6parallel; 1\u2225parsim; 1\u2af3parsl; 1\u2afdpart; 1\u2202pcy; 1\u043fpercnt; 1%" +
+        "period; 1.permil; 1\u2030perp; 1\u22a5pertenk; 1\u2031pfr; 2\ud835\udd2dphi; 1\u03c6" +
+        "phiv; 1\u03d5phmmat; 1\u2133phone; 1\u260epi; 1\u03c0pitchfork; 1\u22d4piv; 1\u03d6" +
+        "planck; 1\u210fplanckh; 1\u210eplankv; 1\u210fplus; 1+plusacir; 1\u2a23plusb; 1\u229e" +
+        "pluscir; 1\u2a22plusdo; 1\u2214plusdu; 1\u2a25pluse; 1\u2a72plusmn 1\u00b1plusmn; 1\u00b1" +
+        "plussim; 1\u2a26plustwo; 1\u2a27pm; 1\u00b1pointint; 1\u2a15popf; 2\ud835\udd61pound 1\u00a3" +
+        "pound; 1\u00a3pr; 1\u227aprE; 1\u2ab3prap; 1\u2ab7prcue; 1\u227cpre; 1\u2aafprec; 1\u227a" +
+        "precapprox; 1\u2ab7preccurlyeq; 1\u227cpreceq; 1\u2aafprecnapprox; 1\u2ab9precneqq; 1\u2ab5" +
+        "precnsim; 1\u22e8precsim; 1\u227eprime; 1\u2032primes; 1\u2119prnE; 1\u2ab5prnap; 1\u2ab9" +
+        "prnsim; 1\u22e8prod; 1\u220fprofalar; 1\u232eprofline; 1\u2312profsurf; 1\u2313prop; 1\u221d" +
+        "propto; 1\u221dprsim; 1\u227eprurel; 1\u22b0pscr; 2\ud835\udcc5psi; 1\u03c8puncsp; 1\u2008" +
+        "qfr; 2\ud835\udd2eqint; 1\u2a0cqopf; 2\ud835\udd62qprime; 1\u2057qscr; 2\ud835\udcc6" +
+        "quaternions; 1\u210d",
+        "quatint; 1\u2a16quest; 1?questeq; 1\u225fquot 1\"quot; 1\"rAarr; 1\u21dbrArr; 1\u21d2" +
+        "rAtail; 1\u291crBarr; 1\u290frHar; 1\u2964race; 2\u223d\u0331racute; 1\u0155radic; 1\u221a" +
+        "raemptyv; 1\u29b3rang; 1\u27e9rangd; 1\u2992range; 1\u29a5rangle; 1\u27e9raquo 1\u00bb" +
+        "raquo; 1\u00bbrarr; 1\u2192rarrap; 1\u2975rarrb; 1\u21e5rarrbfs; 1\u2920rarrc; 1\u2933" +
+        "rarrfs; 1\u291erarrhk; 1\u21aararrlp; 1\u21acrarrpl; 1\u2945rarrsim; 1\u2974rarrtl; 1\u21a3" +
+        "rarrw; 1\u219dratail; 1\u291aratio; 1\u2236rationals; 1\u211arbarr; 1\u290drbbrk; 1\u2773" +
+        "rbrace; 1}rbrack; 1]rbrke; 1\u298crbrksld; 1\u298erbrkslu; 1\u2990rcaron; 1\u0159rcedil; 1\u0157" +
+        "rceil; 1\u2309rcub; 1}rcy; 1\u0440rdca; 1\u2937rdldhar; 1\u2969rdquo; 1\u201drdquor; 1\u201d" +
+        "rdsh; 1\u21b3real; 1\u211crealine; 1\u211brealpart; 1\u211creals; 1\u211drect; 1\u25ad" +
+        "reg 1\u00aereg; 1\u00aerfisht; 1\u297drfloor; 1\u230brfr; 2\ud835\udd2frhard; 1\u21c1" +
+        "rharu; 1\u21c0rharul; 1\u296crho; 1\u03c1rhov; 1\u03f1rightarrow; 1\u2192rightarrowtail; 1\u21a3" +
+        "rightharpoondown; 1\u21c1rightharpoonup; 1\u21c0rightleftarrows; 1\u21c4" +
+        "rightleftharpoons; 1\u21ccrightrightarrows; 1\u21c9rightsquigarrow; 1\u219d" +
+        "rightthreetimes; 1\u22ccring; 1\u02darisingdotseq; 1\u2253rlarr; 1\u21c4rlhar; 1\u21cc" +
+        "rlm; 1\u200frmoust; 1\u23b1rmoustache; 1\u23b1rnmid; 1\u2aeeroang; 1\u27edroarr; 1\u21fe" +
+        "robrk; 1\u27e7ropar; 1\u2986ropf; 2\ud835\udd63roplus; 1\u2a2erotimes; 1\u2a35rpar; 1)" +
+        "rpargt; 1\u2994rppolint; 1\u2a12rrarr; 1\u21c9rsaquo; 1\u203arscr; 2\ud835\udcc7rsh; 1\u21b1" +
+        "rsqb; 1]rsquo; 1\u2019rsquor; 1\u2019rthree; 1\u22ccrtimes; 1\u22cartri; 1\u25b9rtrie; 1\u22b5" +
+        "rtrif; 1\u25b8rtriltri; 1\u29ceruluhar; 1\u2968rx; 1\u211esacute; 1\u015bsbquo; 1\u201a" +
+        "sc; 1\u227bscE; 1\u2ab4scap; 1\u2ab8scaron; 1\u0161sccue; 1\u227dsce; 1\u2ab0scedil; 1\u015f" +
+        "scirc; 1\u015dscnE; 1\u2ab6scnap; 1\u2abascnsim; 1\u22e9scpolint; 1\u2a13scsim; 1\u227f" +
+        "scy; 1\u0441sdot; 1\u22c5sdotb; 1\u22a1sdote; 1\u2a66seArr; 1\u21d8searhk; 1\u2925searr; 1\u2198" +
+        "searrow; 1\u2198sect 1\u00a7sect; 1\u00a7semi; 1;seswar; 1\u2929setminus; 1\u2216setmn; 1\u2216" +
+        "sext; 1\u2736sfr; 2\ud835\udd30sfrown; 1\u2322sharp; 1\u266fshchcy; 1\u0449shcy; 1\u0448" +
+        "shortmid; 1\u2223shortparallel; 1\u2225shy 1\u00adshy; 1\u00adsigma; 1\u03c3sigmaf; 1\u03c2" +
+        "sigmav; 1\u03c2sim; 1\u223csimdot; 1\u2a6asime; 1\u2243simeq; 1\u2243simg; 1\u2a9esimgE; 1\u2aa0" +
+        "siml; 1\u2a9dsimlE; 1\u2a9fsimne; 1\u2246simplus; 1\u2a24simrarr; 1\u2972slarr; 1\u2190" +
+        "smallsetminus; 1\u2216smashp; 1\u2a33smeparsl; 1\u29e4smid; 1\u2223smile; 1\u2323smt; 1\u2aaa" +
+        "smte; 1\u2aacsmtes; 2\u2aac\ufe00softcy; 1\u044csol; 1/solb; 1\u29c4solbar; 1\u233f" +
+        "sopf; 2\ud835\udd64spades; 1\u2660spadesuit; 1\u2660spar; 1\u2225sqcap; 1\u2293" +
+        "sqcaps; 2\u2293\ufe00sqcup; 1\u2294sqcups; 2\u2294\ufe00sqsub; 1\u228fsqsube; 1\u2291" +
+        "sqsubset; 1\u228fsqsubseteq; 1\u2291sqsup; 1\u2290sqsupe; 1\u2292sqsupset; 1\u2290" +
+        "sqsupseteq; 1\u2292squ; 1\u25a1square; 1\u25a1squarf; 1\u25aasquf; 1\u25aasrarr; 1\u2192" +
+        "sscr; 2\ud835\udcc8ssetmn; 1\u2216ssmile; 1\u2323sstarf; 1\u22c6star; 1\u2606starf; 1\u2605" +
+        "straightepsilon; 1\u03f5straightphi; 1\u03d5strns; 1\u00afsub; 1\u2282subE; 1\u2ac5" +
+        "subdot; 1\u2abdsube; 1\u2286subedot; 1\u2ac3submult; 1\u2ac1subnE; 1\u2acbsubne; 1\u228a" +
+        "subplus; 1\u2abfsubrarr; 1\u2979subset; 1\u2282subseteq; 1\u2286subseteqq; 1\u2ac5" +
+        "subsetneq; 1\u228asubsetneqq; 1\u2acbsubsim; 1\u2ac7subsub; 1\u2ad5subsup; 1\u2ad3succ; 1\u227b" +
+        "succapprox; 1\u2ab8succcurlyeq; 1\u227dsucceq; 1\u2ab0succnapprox; 1\u2abasuccneqq; 1\u2ab6" +
+        "succnsim; 1\u22e9succsim; 1\u227fsum; 1\u2211sung; 1\u266asup1 1\u00b9sup1; 1\u00b9sup2 1\u00b2" +
+        "sup2; 1\u00b2sup3 1\u00b3sup3; 1\u00b3sup; 1\u2283supE; 1\u2ac6supdot; 1\u2abesupdsub; 1\u2ad8" +
+        "supe; 1\u2287supedot; 1\u2ac4suphsol; 1\u27c9suphsub; 1\u2ad7suplarr; 1\u297bsupmult; 1\u2ac2" +
+        "supnE; 1\u2acc",
+        "supne; 1\u228bsupplus; 1\u2ac0supset; 1\u2283supseteq; 1\u2287supseteqq; 1\u2ac6" +
+        "supsetneq; 1\u228bsupsetneqq; 1\u2accsupsim; 1\u2ac8supsub; 1\u2ad4supsup; 1\u2ad6swArr; 1\u21d9" +
+        "swarhk; 1\u2926swarr; 1\u2199swarrow; 1\u2199swnwar; 1\u292aszlig 1\u00dfszlig; 1\u00df" +
+        "target; 1\u2316tau; 1\u03c4tbrk; 1\u23b4tcaron; 1\u0165tcedil; 1\u0163tcy; 1\u0442tdot; 1\u20db" +
+        "telrec; 1\u2315tfr; 2\ud835\udd31there4; 1\u2234therefore; 1\u2234theta; 1\u03b8" +
+        "thetasym; 1\u03d1thetav; 1\u03d1thickapprox; 1\u2248thicksim; 1\u223cthinsp; 1\u2009" +
+        "thkap; 1\u2248thksim; 1\u223cthorn 1\u00fethorn; 1\u00fetilde; 1\u02dctimes 1\u00d7" +
+        "times; 1\u00d7timesb; 1\u22a0timesbar; 1\u2a31timesd; 1\u2a30tint; 1\u222dtoea; 1\u2928" +
+        "top; 1\u22a4topbot; 1\u2336topcir; 1\u2af1topf; 2\ud835\udd65topfork; 1\u2adatosa; 1\u2929" +
+        "tprime; 1\u2034trade; 1\u2122triangle; 1\u25b5triangledown; 1\u25bftriangleleft; 1\u25c3" +
+        "trianglelefteq; 1\u22b4triangleq; 1\u225ctriangleright; 1\u25b9trianglerighteq; 1\u22b5" +
+        "tridot; 1\u25ectrie; 1\u225ctriminus; 1\u2a3atriplus; 1\u2a39trisb; 1\u29cdtritime; 1\u2a3b" +
+        "trpezium; 1\u23e2tscr; 2\ud835\udcc9tscy; 1\u0446tshcy; 1\u045btstrok; 1\u0167twixt; 1\u226c" +
+        "twoheadleftarrow; 1\u219etwoheadrightarrow; 1\u21a0uArr; 1\u21d1uHar; 1\u2963uacute 1\u00fa" +
+        "uacute; 1\u00fauarr; 1\u2191ubrcy; 1\u045eubreve; 1\u016ducirc 1\u00fbucirc; 1\u00fbucy; 1\u0443" +
+        "udarr; 1\u21c5udblac; 1\u0171udhar; 1\u296eufisht; 1\u297eufr; 2\ud835\udd32ugrave 1\u00f9" +
+        "ugrave; 1\u00f9uharl; 1\u21bfuharr; 1\u21beuhblk; 1\u2580ulcorn; 1\u231culcorner; 1\u231c" +
+        "ulcrop; 1\u230fultri; 1\u25f8umacr; 1\u016buml 1\u00a8uml; 1\u00a8uogon; 1\u0173" +
+        "uopf; 2\ud835\udd66uparrow; 1\u2191updownarrow; 1\u2195upharpoonleft; 1\u21bf" +
+        "upharpoonright; 1\u21beuplus; 1\u228eupsi; 1\u03c5upsih; 1\u03d2upsilon; 1\u03c5" +
+        "upuparrows; 1\u21c8urcorn; 1\u231durcorner; 1\u231durcrop; 1\u230euring; 1\u016furtri; 1\u25f9" +
+        "uscr; 2\ud835\udccautdot; 1\u22f0utilde; 1\u0169utri; 1\u25b5utrif; 1\u25b4uuarr; 1\u21c8" +
+        "uuml 1\u00fcuuml; 1\u00fcuwangle; 1\u29a7vArr; 1\u21d5vBar; 1\u2ae8vBarv; 1\u2ae9vDash; 1\u22a8" +
+        "vangrt; 1\u299cvarepsilon; 1\u03f5varkappa; 1\u03f0varnothing; 1\u2205varphi; 1\u03d5" +
+        "varpi; 1\u03d6varpropto; 1\u221dvarr; 1\u2195varrho; 1\u03f1varsigma; 1\u03c2" +
+        "varsubsetneq; 2\u228a\ufe00varsubsetneqq; 2\u2acb\ufe00varsupsetneq; 2\u228b\ufe00" +
+        "varsupsetneqq; 2\u2acc\ufe00vartheta; 1\u03d1vartriangleleft; 1\u22b2vartriangleright; 1\u22b3" +
+        "vcy; 1\u0432vdash; 1\u22a2vee; 1\u2228veebar; 1\u22bbveeeq; 1\u225avellip; 1\u22eeverbar; 1|" +
+        "vert; 1|vfr; 2\ud835\udd33vltri; 1\u22b2vnsub; 2\u2282\u20d2vnsup; 2\u2283\u20d2" +
+        "vopf; 2\ud835\udd67vprop; 1\u221dvrtri; 1\u22b3vscr; 2\ud835\udccbvsubnE; 2\u2acb\ufe00" +
+        "vsubne; 2\u228a\ufe00vsupnE; 2\u2acc\ufe00vsupne; 2\u228b\ufe00vzigzag; 1\u299awcirc; 1\u0175" +
+        "wedbar; 1\u2a5fwedge; 1\u2227wedgeq; 1\u2259weierp; 1\u2118wfr; 2\ud835\udd34wopf; 2\ud835\udd68" +
+        "wp; 1\u2118wr; 1\u2240wreath; 1\u2240wscr; 2\ud835\udcccxcap; 1\u22c2xcirc; 1\u25efxcup; 1\u22c3" +
+        "xdtri; 1\u25bdxfr; 2\ud835\udd35xhArr; 1\u27faxharr; 1\u27f7xi; 1\u03bexlArr; 1\u27f8" +
+        "xlarr; 1\u27f5xmap; 1\u27fcxnis; 1\u22fbxodot; 1\u2a00xopf; 2\ud835\udd69xoplus; 1\u2a01" +
+        "xotime; 1\u2a02xrArr; 1\u27f9xrarr; 1\u27f6xscr; 2\ud835\udccdxsqcup; 1\u2a06xuplus; 1\u2a04" +
+        "xutri; 1\u25b3xvee; 1\u22c1xwedge; 1\u22c0yacute 1\u00fdyacute; 1\u00fdyacy; 1\u044f" +
+        "ycirc; 1\u0177ycy; 1\u044byen 1\u00a5yen; 1\u00a5yfr; 2\ud835\udd36yicy; 1\u0457" +
+        "yopf; 2\ud835\udd6ayscr; 2\ud835\udcceyucy; 1\u044eyuml 1\u00ffyuml; 1\u00ffzacute; 1\u017a" +
+        "zcaron; 1\u017ezcy; 1\u0437zdot; 1\u017czeetrf; 1\u2128zeta; 1\u03b6zfr; 2\ud835\udd37" +
+        "zhcy; 1\u0436zigrarr; 1\u21ddzopf; 2\ud835\udd6bzscr; 2\ud835\udccfzwj; 1\u200dzwnj; 1\u200c"
+    };
+
+    //Substituicoes para as referencias numericas de 0x80 a 0x9F (windows-1252), 0 quando nao ha substituicao
+    private static final char[] C1_CONTROLS = {
+        '\u20ac', 0, '\u201a', '\u0192', '\u201e', '\u2026', '\u2020', '\u2021',
+        '\u02c6', '\u2030', '\u0160', '\u2039', '\u0152', 0, '\u017d', 0,
+        0, '\u2018', '\u2019', '\u201c', '\u201d', '\u2022', '\u2013', '\u2014',
+        '\u02dc', '\u2122', '\u0161', '\u203a', '\u0153', 0, '\u017e', '\u0178'
+    };
+
+    //A trie: o no 0 e a raiz. Os filhos de cada no formam uma lista ligada por nextSibling
+    private static char[] label;
+
+    private static int[] firstChild;
+
+    private static int[] nextSibling;
+
+    //Indice do valor em VALUES, ou -1 se nenhum nome termina no no
+    private static int[] valueIndex;
+
+    private static int nodes;
+
+    private static final String[] VALUES;
+
+    static {
+
+        label = new char[16384];
+        firstChild = new int[16384];
+        nextSibling = new int[16384];
+        valueIndex = new int[16384];
+
+        firstChild[0] = -1;
+        nextSibling[0] = -1;
+        valueIndex[0] = -1;
+        nodes = 1;
+
+        java.util.ArrayList<String> values = new java.util.ArrayList<>(2300);
+
+        for (String chunk : ENTITIES) {
+
+            int i = 0;
+
+            while (i < chunk.length()) {
+
+                int space = chunk.indexOf(' ', i);
+
+                int length = chunk.charAt(space + 1) - '0';
+
+                int node = 0;
+
+                for (int j = i; j < space; j++) node = child(node, chunk.charAt(j), true);
+
+                valueIndex[node] = values.size();
+
+                values.add(chunk.substring(space + 2, space + 2 + length));
+
+                i = space + 2 + length;
+            }
+        }
+
+        VALUES = values.toArray(new String[0]);
+
+        label = Arrays.copyOf(label, nodes);
+        firstChild = Arrays.copyOf(firstChild, nodes);
+        nextSibling = Arrays.copyOf(nextSibling, nodes);
+        valueIndex = Arrays.copyOf(valueIndex, nodes);
+    }
+
+    private HtmlEntities() {}
+
+    /*==================================================================================================================
+     * Retorna o filho de node com o rotulo c, criando-o se create for true. Retorna -1 se nao existir.
+     =================================================================================================================*/
+    private static int child(final int node, final char c, final boolean create) {
+
+        int last = -1;
+
+        for (int n = firstChild[node]; n != -1; n = nextSibling[n]) {
+
+            if (label[n] == c) return n;
+
+            last = n;
+        }
+
+        if (!create) return -1;
+
+        if (nodes == label.length) {
+
+            label = Arrays.copyOf(label, nodes << 1);
+            firstChild = Arrays.copyOf(firstChild, nodes << 1);
+            nextSibling = Arrays.copyOf(nextSibling, nodes << 1);
+            valueIndex = Arrays.copyOf(valueIndex, nodes << 1);
+        }
+
+        int n = nodes++;
+
+        label[n] = c;
+        firstChild[n] = -1;
+        nextSibling[n] = -1;
+        valueIndex[n] = -1;
+
+        if (last == -1) firstChild[node] = n; else nextSibling[last] = n;
+
+        return n;
+
+    }//child
+
+    /*******************************************************************************************************************
+     * Decodifica as entidades de um texto (conteudo de tags).
+     *
+     * @param text O texto.
+     *
+     * @return O texto decodificado. O proprio <b><i>text</i></b> se ele nao contiver o caractere &amp;.
+     ******************************************************************************************************************/
+    public static String decode(final String text) {
+
+        return decode(text, false);
+
+    }//decode
+
+    /*******************************************************************************************************************
+     * Decodifica as entidades do valor de um atributo. Difere de {@link #decode(java.lang.String) decode} apenas nas
+     * entidades legadas sem ponto-e-virgula: se forem seguidas de uma letra, digito ou do caractere =, nao sao
+     * decodificadas (como em <code>href="?a=1&amp;copy=2"</code>).
+     *
+     * @param value O valor do atributo.
+     *
+     * @return O valor decodificado. O proprio <b><i>value</i></b> se ele nao contiver o caractere &amp;.
+     ******************************************************************************************************************/
+    public static String decodeAttribute(final String value) {
+
+        return decode(value, true);
+
+    }//decodeAttribute
+
+    private static String decode(final String s, final boolean attribute) {
+
+        if (s == null) return null;
+
+        int amp = s.indexOf('&');
+
+        if (amp < 0) return s;
+
+        StringBuilder sb = new StringBuilder(s.length());
+
+        sb.append(s, 0, amp);
+
+        try {
+
+            decode(s, amp, s.length(), attribute, sb);
+        }
+        catch (IOException e) {//StringBuilder nao lanca IOException
+
+            throw new IllegalStateException(e);
+        }
+
+        return sb.toString();
+
+    }//decode
+
+    /*******************************************************************************************************************
+     * Decodifica as entidades de um trecho de texto, escrevendo o resultado em <b><i>out</i></b>, sem criar objetos
+     * intermediarios.
+     *
+     * @param text O texto.
+     *
+     * @param start A posicao do primeiro caractere do trecho.
+     *
+     * @param end A posicao do primeiro caractere apos o trecho.
+     *
+     * @param out Destino do texto decodificado.
+     *
+     * @throws IOException Se <b><i>out</i></b> lancar IOException.
+     ******************************************************************************************************************/
+    public static void decode(final CharSequence text, final int start, final int end, final Appendable out)
+        throws IOException {
+
+        decode(text, start, end, false, out);
+
+    }//decode
+
+    /*==================================================================================================================
+     *
+     =================================================================================================================*/
+    static void decode(
+        final CharSequence s,
+        final int start,
+        final int end,
+        final boolean attribute,
+        final Appendable out) throws IOException {
+
+        int i = start;
+
+        //Inicio do trecho ainda nao copiado para out
+        int copied = start;
+
+        while (i < end) {
+
+            if (s.charAt(i) != '&') {
+
+                i++;
+
+                continue;
+            }
+
+            int after = (i + 1 < end && s.charAt(i + 1) == '#') ?
+                numeric(s, i, end, out, copied) :
+                named(s, i, end, attribute, out, copied);
+
+            if (after < 0) {
+
+                i++;//nao e uma referencia: o & e mantido
+            }
+            else {
+
+                i = after;
+
+                copied = after;
+            }
+        }
+
+        if (copied < end) out.append(s, copied, end);
+
+    }//decode
+
+    private static boolean isAsciiAlphanumeric(final char c) {
+
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+
+    }//isAsciiAlphanumeric
+
+    /*==================================================================================================================
+     * Decodifica a entidade nomeada que comeca no & da posicao amp. Retorna a posicao apos a entidade ou -1.
+     =================================================================================================================*/
+    private static int named(
+        final CharSequence s,
+        final int amp,
+        final int end,
+        final boolean attribute,
+        final Appendable out,
+        final int copied) throws IOException {
+
+        int node = 0;
+
+        int match = -1;
+
+        int matchEnd = -1;
+
+        for (int i = amp + 1; i < end; i++) {
+
+            node = child(node, s.charAt(i), false);
+
+            if (node < 0) break;
+
+            if (valueIndex[node] >= 0) {
+
+                match = valueIndex[node];
+
+                matchEnd = i + 1;
+            }
+        }
+
+        if (match < 0) return -1;
+
+        if (
+            attribute && s.charAt(matchEnd - 1) != ';' && matchEnd < end &&
+            (s.charAt(matchEnd) == '=' || isAsciiAlphanumeric(s.charAt(matchEnd)))
+        ) return -1;
+
+        out.append(s, copied, amp).append(VALUES[match]);
+
+        return matchEnd;
+
+    }//named
+
+    /*==================================================================================================================
+     * Decodifica a referencia numerica que comeca no & da posicao amp. Retorna a posicao apos a referencia ou -1.
+     =================================================================================================================*/
+    private static int numeric(
+        final CharSequence s,
+        final int amp,
+        final int end,
+        final Appendable out,
+        final int copied) throws IOException {
+
+        int i = amp + 2;
+
+        boolean hex = i < end && (s.charAt(i) == 'x' || s.charAt(i) == 'X');
+
+        if (hex) i++;
+
+        int digitsStart = i;
+
+        int code = 0;
+
+        for (; i < end; i++) {
+
+            char c = s.charAt(i);
+
+            int digit;
+
+            if (c >= '0' && c <= '9') digit = c - '0';
+            else if (hex && c >= 'a' && c <= 'f') digit = c - 'a' + 10;
+            else if (hex && c >= 'A' && c <= 'F') digit = c - 'A' + 10;
+            else break;
+
+            //acima de 0x10FFFF o valor e apenas mantido invalido, sem overflow
+            if (code <= 0x10FFFF) code = code * (hex ? 16 : 10) + digit;
+        }
+
+        if (i == digitsStart) return -1;
+
+        if (i < end && s.charAt(i) == ';') i++;
+
+        out.append(s, copied, amp);
+
+        if (code == 0 || code > 0x10FFFF || (code >= 0xD800 && code <= 0xDFFF)) {
+
+            out.append('\ufffd');
+        }
+        else if (code >= 0x80 && code <= 0x9F && C1_CONTROLS[code - 0x80] != 0) {
+
+            out.append(C1_CONTROLS[code - 0x80]);
+        }
+        else if (code < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+
+            out.append((char)code);
+        }
+        else {
+
+            out.append(Character.highSurrogate(code)).append(Character.lowSurrogate(code));
+        }
+
+        return i;
+
+    }//numeric
+
+}//classe HtmlEntities
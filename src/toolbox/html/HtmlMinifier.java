@@ -0,0 +1,540 @@
+package toolbox.html;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/***********************************************************************************************************************
+ * Reescreve um documento HTML de forma normalizada ou minificada, a partir dos eventos de um <code>HtmlParser</code>.
+ *
+ * <p>Em ambos os modos os nomes de tags e atributos sao escritos em minusculas, os espacos dentro das tags sao
+ * reduzidos a um e os valores dos atributos sao delimitados por aspas duplas. No modo {@link Mode#MINIFY MINIFY} (o
+ * default), tambem sao removidos os comentarios e os espacos em branco insignificantes: cada sequencia de espacos no
+ * texto e reduzida a um espaco, os espacos junto a elementos de bloco sao descartados e as aspas dos valores de
+ * atributos sao omitidas quando desnecessarias. O escopo das tags script, style, pre e textarea e preservado.
+ *
+ * <p>O resultado e codificado e escrito em um <code>WritableByteChannel</code> por meio de buffers de tamanho fixo, que
+ * sao reaproveitados por todos os documentos processados pelo objeto: a memoria usada alem do proprio documento nao
+ * depende do seu tamanho. Como o parsing e feito por um <code>HtmlParser</code>, o documento deve ter as tags
+ * balanceadas.
+ *
+ * <pre>
+ * <code>
+ * HtmlMinifier minifier = new HtmlMinifier();
+ * try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+ *     minifier.minify(htmlContent, out);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class HtmlMinifier {
+
+    /**
+     * O tratamento do texto e dos comentarios.
+     */
+    public enum Mode {
+
+        /**
+         * Apenas as tags sao normalizadas. O texto e os comentarios sao mantidos.
+         */
+        NORMALIZE,
+
+        /**
+         * Remove comentarios e espacos em branco insignificantes.
+         */
+        MINIFY
+    };
+
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    private final CharBuffer chars;
+
+    private final ByteBuffer bytes;
+
+    private final AttributeCursor attributeCursor;
+
+    private Mode mode;
+
+    private Charset charset;
+
+    private CharsetEncoder encoder;
+
+    private AttributeRewriter rewriter;
+
+    private WritableByteChannel channel;
+
+    private String content;
+
+    //Fim do ultimo evento escrito: o texto entre ele e o proximo evento ainda nao foi escrito
+    private int lastEnd;
+
+    //Numero de tags abertas cujo escopo e escrito sem alteracao (script, style, pre, textarea)
+    private int preserveDepth;
+
+    //Um espaco em branco foi lido e ainda nao escrito
+    private boolean pendingSpace;
+
+    //O ultimo item escrito foi uma tag de bloco ou nada foi escrito: espacos pendentes sao descartados
+    private boolean afterBlock;
+
+    /*******************************************************************************************************************
+     * Construtor. O modo default e {@link Mode#MINIFY MINIFY} e o charset default e UTF-8.
+     ******************************************************************************************************************/
+    public HtmlMinifier() {
+
+        chars = CharBuffer.allocate(BUFFER_SIZE);
+
+        bytes = ByteBuffer.allocate(BUFFER_SIZE * 3);
+
+        attributeCursor = new AttributeCursor();
+
+        mode = Mode.MINIFY;
+
+        setCharset(StandardCharsets.UTF_8);
+
+        rewriter = null;
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Define o modo de reescrita.
+     *
+     * @param mode {@link Mode#MINIFY MINIFY} ou {@link Mode#NORMALIZE NORMALIZE}.
+     ******************************************************************************************************************/
+    public void setMode(final Mode mode) {
+
+        this.mode = mode;
+
+    }//setMode
+
+    /*******************************************************************************************************************
+     * Define o charset com que o documento sera escrito no canal. Caracteres que nao podem ser representados no
+     * charset sao substituidos.
+     *
+     * @param charset O charset.
+     ******************************************************************************************************************/
+    public void setCharset(final Charset charset) {
+
+        this.charset = charset;
+
+        encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    }//setCharset
+
+    /*******************************************************************************************************************
+     * Define um objeto que pode alterar ou remover os atributos das tags. Com <code>null</code> (o default), os
+     * atributos sao mantidos.
+     *
+     * @param rewriter O objeto que reescreve os atributos.
+     ******************************************************************************************************************/
+    public void setAttributeRewriter(final AttributeRewriter rewriter) {
+
+        this.rewriter = rewriter;
+
+    }//setAttributeRewriter
+
+    /*******************************************************************************************************************
+     * Reescreve um documento e retorna o resultado.
+     *
+     * @param htmlContent O conteudo do documento HTML.
+     *
+     * @return O documento reescrito.
+     *
+     * @throws Exception Se o <code>HtmlParser</code> lancar uma excecao.
+     ******************************************************************************************************************/
+    public String minify(final String htmlContent) throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(htmlContent.length());
+
+        minify(htmlContent, Channels.newChannel(out));
+
+        return out.toString(charset);
+
+    }//minify
+
+    /*******************************************************************************************************************
+     * Reescreve um documento em um canal. O canal nao e fechado.
+     *
+     * @param htmlContent O conteudo do documento HTML.
+     *
+     * @param out O canal onde o documento reescrito sera escrito.
+     *
+     * @throws Exception Se o <code>HtmlParser</code> lancar uma excecao ou se ocorrer erro de IO na escrita.
+     ******************************************************************************************************************/
+    public void minify(final String htmlContent, final WritableByteChannel out) throws Exception {
+
+        content = htmlContent;
+
+        channel = out;
+
+        lastEnd = 0;
+
+        preserveDepth = 0;
+
+        pendingSpace = false;
+
+        afterBlock = true;
+
+        chars.clear();
+
+        bytes.clear();
+
+        encoder.reset();
+
+        try {
+
+            new HtmlParser(htmlContent, new Serializer()).parse();
+
+            text(lastEnd, content.length());
+
+            flush(true);
+        }
+        finally {
+
+            content = null;
+
+            channel = null;
+        }
+
+    }//minify
+
+/*======================================================================================================================
+ * Recebe as tags do HtmlParser na ordem do documento e escreve o texto que as precede e as proprias tags.
+======================================================================================================================*/
+private final class Serializer extends TagParser {
+
+    @Override
+    public TagParser openTag(final Tag tag) throws IOException {
+
+        if (!tag.isSelfClosing()) tag.notifyClosing();
+
+        event(tag.getStartTagBlockIndex(), tag.getStartTagContentIndex(), false, tag.isSelfClosing());
+
+        return null;
+    }
+
+    @Override
+    public void closeTag(final Tag tag) throws IOException {
+
+        event(tag.getEndTagContentIndex(), tag.getEndTagBlockIndex(), true, false);
+    }
+
+}//classe Serializer
+
+    /*==================================================================================================================
+     * Escreve o texto anterior a tag e a tag que ocupa as posicoes start a end do documento.
+     =================================================================================================================*/
+    private void event(final int start, final int end, final boolean closing, final boolean selfClosing)
+        throws IOException {
+
+        text(lastEnd, start);
+
+        lastEnd = end;
+
+        int nameStart = start + (closing ? 2 : 1);
+
+        int nameEnd = nameStart;
+
+        while (nameEnd < end && isNameChar(content.charAt(nameEnd))) nameEnd++;
+
+        int element = HtmlElements.indexOf(content, nameStart, nameEnd);
+
+        String tagId = HtmlElements.tagId(content, nameStart, nameEnd);
+
+        boolean preserve = preserves(element, tagId);
+
+        //o escopo de script, style, pre e textarea e escrito sem alteracao
+        if (closing && preserve && preserveDepth > 0) preserveDepth--;
+
+        boolean block = (HtmlElements.flags(element) & HtmlElements.BLOCK) != 0;
+
+        if (mode == Mode.MINIFY && block) {
+
+            pendingSpace = false;
+        }
+        else if (pendingSpace) {
+
+            write(' ');
+
+            pendingSpace = false;
+        }
+
+        write('<');
+
+        if (closing) write('/');
+
+        write(tagId);
+
+        if (!closing) attributes(tagId, nameEnd, end - 1);
+
+        //a barra so tem significado fora dos elementos void (em svg e math)
+        if (
+            !closing && !selfClosing && content.charAt(end - 2) == '/' &&
+            (HtmlElements.flags(element) & HtmlElements.VOID) == 0
+        ) write('/');
+
+        write('>');
+
+        if (!closing && !selfClosing && preserve) preserveDepth++;
+
+        afterBlock = block;
+
+    }//event
+
+    private static boolean preserves(final int element, final String tagId) {
+
+        return
+            (HtmlElements.flags(element) & HtmlElements.RAW_TEXT) != 0 ||
+            tagId.equals("pre") ||
+            tagId.equals("textarea");
+
+    }//preserves
+
+    /*==================================================================================================================
+     * Como na especificacao do HTML, o nome da tag vai ate um espaco, / ou >: inclui -, digitos e outros caracteres
+     * (my-widget, h1).
+     =================================================================================================================*/
+    private static boolean isNameChar(final char c) {
+
+        return !AttributeCursor.isSpace(c) && c != '/' && c != '>';
+
+    }//isNameChar
+
+    /*==================================================================================================================
+     * Analisa e escreve os atributos contidos no trecho start a end de uma tag de abertura.
+     =================================================================================================================*/
+    private void attributes(final String tagId, final int start, final int end) throws IOException {
+
+        attributeCursor.reset(content, start, end);
+
+        while (attributeCursor.next()) {
+
+            String name = content.substring(attributeCursor.getNameStart(), attributeCursor.getNameEnd()).toLowerCase();
+
+            if (rewriter == null) {
+
+                attribute(name, content, attributeCursor.getValueStart(), attributeCursor.getValueEnd());
+            }
+            else {
+
+                String value = attributeCursor.hasValue() ? attributeCursor.getValue() : "";
+
+                value = rewriter.rewrite(tagId, name, value);
+
+                if (value != null) attribute(name, value, value.isEmpty() ? -1 : 0, value.length());
+            }
+        }
+
+    }//attributes
+
+    /*==================================================================================================================
+     * Escreve um atributo. Se valueStart for negativo, o atributo nao tem valor.
+     =================================================================================================================*/
+    private void attribute(final String name, final CharSequence s, final int valueStart, final int valueEnd)
+        throws IOException {
+
+        write(' ');
+
+        write(name);
+
+        if (valueStart < 0) return;
+
+        write('=');
+
+        boolean quoted = mode == Mode.NORMALIZE || valueStart == valueEnd;
+
+        for (int i = valueStart; i < valueEnd && !quoted; i++) {
+
+            char c = s.charAt(i);
+
+            quoted =
+                AttributeCursor.isSpace(c) || c == '"' || c == '\'' || c == '=' || c == '<' || c == '>' || c == '`';
+        }
+
+        if (quoted) write('"');
+
+        for (int i = valueStart; i < valueEnd; i++) {
+
+            char c = s.charAt(i);
+
+            if (c == '"') write("&quot;"); else write(c);
+        }
+
+        if (quoted) write('"');
+
+    }//attribute
+
+    /*==================================================================================================================
+     * Escreve o texto entre duas tags.
+     =================================================================================================================*/
+    private void text(final int start, final int end) throws IOException {
+
+        if (start >= end) return;
+
+        if (preserveDepth > 0 || mode == Mode.NORMALIZE) {
+
+            write(content, start, end);
+
+            return;
+        }
+
+        int i = start;
+
+        while (i < end) {
+
+            char c = content.charAt(i);
+
+            if (c == '<' && content.startsWith("<!--", i)) {
+
+                int close = content.indexOf("-->", i + 4);
+
+                i = (close < 0 || close + 3 > end) ? end : close + 3;
+
+                continue;
+            }
+
+            if (AttributeCursor.isSpace(c)) {
+
+                if (!afterBlock) pendingSpace = true;
+
+                i++;
+
+                continue;
+            }
+
+            int wordEnd = i + 1;
+
+            while (wordEnd < end) {
+
+                char w = content.charAt(wordEnd);
+
+                if (AttributeCursor.isSpace(w) || w == '<') break;
+
+                wordEnd++;
+            }
+
+            if (pendingSpace) write(' ');
+
+            pendingSpace = false;
+
+            afterBlock = false;
+
+            write(content, i, wordEnd);
+
+            i = wordEnd;
+        }
+
+    }//text
+
+    private void write(final char c) throws IOException {
+
+        if (!chars.hasRemaining()) flush(false);
+
+        chars.put(c);
+
+    }//write
+
+    private void write(final String s) throws IOException {
+
+        write(s, 0, s.length());
+
+    }//write
+
+    private void write(final CharSequence s, final int start, final int end) throws IOException {
+
+        int i = start;
+
+        while (i < end) {
+
+            if (!chars.hasRemaining()) flush(false);
+
+            int n = Math.min(end - i, chars.remaining());
+
+            if (s instanceof String) ((String)s).getChars(i, i + n, chars.array(), chars.position());
+            else for (int j = 0; j < n; j++) chars.array()[chars.position() + j] = s.charAt(i + j);
+
+            chars.position(chars.position() + n);
+
+            i += n;
+        }
+
+    }//write
+
+    /*==================================================================================================================
+     * Codifica os caracteres do buffer e escreve os bytes no canal. Com endOfInput, finaliza a codificacao.
+     =================================================================================================================*/
+    private void flush(final boolean endOfInput) throws IOException {
+
+        chars.flip();
+
+        CoderResult result;
+
+        while ((result = encoder.encode(chars, bytes, endOfInput)).isOverflow()) drain();
+
+        if (result.isError()) result.throwException();
+
+        if (endOfInput) {
+
+            while (encoder.flush(bytes).isOverflow()) drain();
+
+            drain();
+        }
+        else if (bytes.position() > bytes.capacity() >> 1) {
+
+            drain();
+        }
+
+        //um surrogate alto sem o par ainda nao codificado permanece no buffer
+        chars.compact();
+
+    }//flush
+
+    private void drain() throws IOException {
+
+        bytes.flip();
+
+        while (bytes.hasRemaining()) channel.write(bytes);
+
+        bytes.clear();
+
+    }//drain
+
+/*======================================================================================================================
+ * Reescreve os atributos das tags.
+======================================================================================================================*/
+public abstract static class AttributeRewriter {
+
+    /**
+     * Chamado para cada atributo de cada tag de abertura.
+     *
+     * @param tagId O nome da tag, em minusculas.
+     *
+     * @param name O nome do atributo, em minusculas.
+     *
+     * @param value O valor do atributo como consta do documento (as entidades nao sao decodificadas), ou uma String
+     * vazia para atributos sem valor.
+     *
+     * @return O novo valor, o proprio <b><i>value</i></b> para manter o atributo, uma String vazia para escreve-lo
+     * sem valor ou <code>null</code> para remove-lo.
+     */
+    public abstract String rewrite(String tagId, String name, String value);
+
+}//classe AttributeRewriter
+
+}//classe HtmlMinifier
@@ -1,9 +1,12 @@
 package toolbox.html;
   
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.ResourceBundle;
 import java.util.MissingResourceException;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import javax.management.modelmbean.XMLParseException;
 
 /***********************************************************************************************************************
@@ -19,13 +22,27 @@ import javax.management.modelmbean.XMLParseException;
  **********************************************************************************************************************/
 public final class HtmlParser {
     
-    private final toolbox.regex.Regex tagRegex;
+    private final HtmlScanner scanner;
     
-    private final String htmlContent;
+    private String htmlContent;
     
     private TagParser tagParser;
     
-    private LinkedList<Tag> stack;
+    //Pilha das tags abertas. Tags fora da projecao sao empilhadas apenas pelo nome, com null em tagStack
+    private String[] nameStack;
+    
+    private Tag[] tagStack;
+    
+    private int depth;
+    
+    //Nomes das tags selecionadas, associados aos atributos selecionados (null para todos), ou null sem projecao
+    private HashMap<String, HashSet<String>> projection;
+    
+    //null quando a instrumentacao esta desativada
+    private ParserStats stats;
+    
+    //Tags recicladas, indexadas pela profundidade. null quando a reciclagem esta desativada
+    private Tag[] tagPool;
     
     private static String msg$1, msg$2;
     
@@ -57,53 +74,268 @@ public final class HtmlParser {
         
         this.htmlContent = htmlContent;
         
-        tagRegex = new toolbox.regex.Regex("</?([A-Za-z]+)([\\S\\s]*?)>");
-        tagRegex.setTarget(htmlContent);
+        scanner = new HtmlScanner(htmlContent);
+        
+        nameStack = new String[64];
+        
+        tagStack = new Tag[64];
+        
+        depth = 0;
         
-        stack = new LinkedList<>();
+        projection = null;
+        
+        stats = null;
+        
+        tagPool = null;
         
         this.tagParser = tagParser;
         
     }//construtor
     
     /*==================================================================================================================
+     * Prepara o parser para um novo documento, reaproveitando a pilha e o scanner. Usado pela classe
+     * HtmlBatchParser para que cada thread reutilize o mesmo objeto em todos os documentos que analisar.
+     =================================================================================================================*/
+    void reset(final String htmlContent, final TagParser tagParser) {
+        
+        this.htmlContent = htmlContent;
+        
+        scanner.reset(htmlContent);
+        
+        Arrays.fill(tagStack, 0, depth, null);
+        
+        depth = 0;
+        
+        this.tagParser = tagParser;
+        
+    }//reset
+    
+    /*******************************************************************************************************************
+     * Restringe o parsing as tags e atributos que interessam ao <code>TagParser</code>. Deve ser chamado antes do 
+     * metodo parse().
      * 
+     * <p>Cada seletor e um nome de tag, opcionalmente seguido de @ e um nome de atributo: <code>"a@href"</code>, 
+     * <code>"img@src"</code>, <code>"title"</code>. As tags cujo nome nao consta de nenhum seletor sao analisadas 
+     * apenas o suficiente para manter o controle do aninhamento: nao geram objetos <code>Tag</code>, seus atributos 
+     * nao sao analisados e elas nao sao passadas ao <code>TagParser</code>. Nas tags selecionadas, apenas os 
+     * atributos listados nos seletores constam do mapa de atributos, ou todos, se algum seletor desta tag nao 
+     * especificar atributo.</p>
+     * 
+     * @param selectors Os seletores. Sem argumentos, remove a projecao: todas as tags sao passadas ao 
+     * <code>TagParser</code>.
+     ******************************************************************************************************************/
+    public void setProjection(final String... selectors) {
+        
+        if (selectors == null || selectors.length == 0) {
+            
+            projection = null;
+            
+            return;
+        }
+        
+        projection = new HashMap<>();
+        
+        //Um seletor sem atributo e registrado com null, e prevalece sobre os demais seletores da mesma tag
+        HashSet<String> allAttrs = new HashSet<>();
+        
+        for (String selector : selectors) {
+            
+            int at = selector.indexOf('@');
+            
+            String name = ((at < 0) ? selector : selector.substring(0, at)).toLowerCase();
+            
+            name = HtmlElements.tagId(name, 0, name.length());
+            
+            if (at < 0) {
+                
+                allAttrs.add(name);
+                
+                projection.put(name, null);
+            }
+            else if (!allAttrs.contains(name)) {
+                
+                projection.computeIfAbsent(name, k -> new HashSet<>()).add(selector.substring(at + 1).toLowerCase());
+            }
+        }
+        
+    }//setProjection
+    
+    /*******************************************************************************************************************
+     * Ativa a coleta de estatisticas de execucao. Veja {@link ParserStats ParserStats}.
+     * 
+     * @param stats O objeto que acumulara as estatisticas, ou <code>null</code> para desativar a coleta (o default).
+     ******************************************************************************************************************/
+    public void setStats(final ParserStats stats) {
+        
+        this.stats = stats;
+        
+    }//setStats
+    
+    /*******************************************************************************************************************
+     * Retorna o objeto que acumula as estatisticas de execucao.
+     * 
+     * @return O objeto passado a {@link #setStats(ParserStats) setStats}, ou <code>null</code> se a coleta estiver 
+     * desativada.
+     ******************************************************************************************************************/
+    public ParserStats getStats() {
+        
+        return stats;
+        
+    }//getStats
+    
+    /*******************************************************************************************************************
+     * Ativa a reciclagem dos objetos <code>Tag</code>. Deve ser chamado antes do metodo parse().
+     * 
+     * <p>Com a reciclagem ativa, o parser mantem um objeto <code>Tag</code> por nivel de profundidade do documento e 
+     * o reaproveita para todas as tags deste nivel, inclusive o mapa de atributos, de modo que o parsing de um 
+     * documento grande nao aloca praticamente nenhum objeto por tag. Em contrapartida, a tag passada ao metodo 
+     * openTag() de um <code>TagParser</code> so e valida ate o retorno deste metodo ou, se o fechamento for 
+     * notificado, ate o retorno de closeTag(). Um <code>TagParser</code> que guarde tags alem disso deve guardar 
+     * copias, obtidas com {@link Tag#copy() Tag.copy}.
+     * 
+     * @param pooling <code>true</code> para reciclar as tags. O default e <code>false</code>.
+     ******************************************************************************************************************/
+    public void setTagPooling(final boolean pooling) {
+        
+        if (!pooling) tagPool = null; else if (tagPool == null) tagPool = new Tag[64];
+        
+    }//setTagPooling
+    
+    /*==================================================================================================================
+     * Cria a tag ou, com a reciclagem ativa, reinicia a tag do nivel de profundidade corrente. As tags abertas ocupam
+     * cada uma um nivel da pilha, de modo que a tag reaproveitada nunca e uma tag ainda aberta.
      =================================================================================================================*/
-    private void popStack(final int endContentIndex, final int endBlockIndex) throws Exception {
+    private Tag newTag(
+        final String tagId, 
+        final int attrStart, 
+        final int attrEnd, 
+        final int startBlockIndex, 
+        final int startContentIndex) {
         
-        Tag tag = null;
+        Set<String> attrFilter = (projection == null) ? null : projection.get(tagId);
         
-        try {
+        if (tagPool == null) 
+            return new Tag(tagId, htmlContent, attrStart, attrEnd, startBlockIndex, startContentIndex, attrFilter);
+        
+        if (depth >= tagPool.length) tagPool = Arrays.copyOf(tagPool, Math.max(depth + 1, tagPool.length << 1));
         
-            tag = stack.pop();
+        Tag tag = tagPool[depth];
+        
+        if (tag == null) {
+            
+            tag = new Tag(tagId, htmlContent, attrStart, attrEnd, startBlockIndex, startContentIndex, attrFilter);
+            
+            tagPool[depth] = tag;
         }
-        catch (NoSuchElementException e) {
+        else {
             
-            throw new NoSuchElementException(msg$1);
+            tag.init(tagId, htmlContent, attrStart, attrEnd, startBlockIndex, startContentIndex, attrFilter);
+        }
+        
+        return tag;
+        
+    }//newTag
+    
+    /*==================================================================================================================
+     * 
+     =================================================================================================================*/
+    private void pushStack(final String tagId, final Tag tag) {
+        
+        if (depth == nameStack.length) {
             
+            nameStack = Arrays.copyOf(nameStack, depth << 1);
+            tagStack = Arrays.copyOf(tagStack, depth << 1);
         }
         
+        nameStack[depth] = tagId;
+        
+        tagStack[depth++] = tag;
+        
+        if (stats != null) stats.updateDepth(depth);
+        
+    }//pushStack
+    
+    /*==================================================================================================================
+     * 
+     =================================================================================================================*/
+    private void popStack(final int endContentIndex, final int endBlockIndex) throws Exception {
+        
+        if (depth == 0) throw new NoSuchElementException(msg$1);
+        
+        Tag tag = tagStack[--depth];
+        
+        tagStack[depth] = null;
+        
+        if (tag == null) return;//fora da projecao
+        
         TagParser previousTagParser = tag.getPreviousParser();
         if (previousTagParser != null) tagParser = previousTagParser;       
         
         if (tag.isNotifyClosingRequired()) {
             
-            tag.setTagContent(htmlContent.substring(tag.getStartTagContentIndex(), endContentIndex));
+            tag.setTagContent(htmlContent, endContentIndex);
             
             tag.setEndTagBlockIndex(endBlockIndex);
 
-            tagParser.closeTag(tag);  
+            closeTag(tag);  
             
         }  
         
     }//popStack
     
+    /*==================================================================================================================
+     * Chama o metodo openTag() do TagParser corrente, medindo seu tempo se as estatisticas estiverem ativas.
+     =================================================================================================================*/
+    private TagParser openTag(final Tag tag) throws Exception {
+        
+        if (stats == null) return tagParser.openTag(tag);
+        
+        long start = System.nanoTime();
+        
+        try {
+            
+            return tagParser.openTag(tag);
+        }
+        finally {
+            
+            stats.addCallback(System.nanoTime() - start);
+        }
+        
+    }//openTag
+    
+    /*==================================================================================================================
+     * Chama o metodo closeTag() do TagParser corrente, medindo seu tempo se as estatisticas estiverem ativas.
+     =================================================================================================================*/
+    private void closeTag(final Tag tag) throws Exception {
+        
+        if (stats == null) {
+            
+            tagParser.closeTag(tag);
+            
+            return;
+        }
+        
+        stats.addCaptured(tag.getEndTagContentIndex() - tag.getStartTagContentIndex());
+        
+        long start = System.nanoTime();
+        
+        try {
+            
+            tagParser.closeTag(tag);
+        }
+        finally {
+            
+            stats.addCallback(System.nanoTime() - start);
+        }
+        
+    }//closeTag
+    
     /*==================================================================================================================
      * 
      =================================================================================================================*/
     private String getTopStackedTagId() {
   
-        return stack.peek().getTagId();
+        return (depth == 0) ? null : nameStack[depth - 1];
         
     }//getTopStackedTagId    
     
@@ -120,69 +352,244 @@ public final class HtmlParser {
         
     }//exception    
      
+    /*==================================================================================================================
+     * 
+     =================================================================================================================*/
+    private static boolean isAsciiLetter(final char c) {
+        
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        
+    }//isAsciiLetter
+    
+    /*==================================================================================================================
+     * Caracteres que podem seguir o nome de uma tag: em HTML, qualquer um exceto espaco, / e >; em XML, os do grupo de
+     * nome do XmlParser (letras e digitos ASCII, _, :, . e -).
+     =================================================================================================================*/
+    private static boolean isNameChar(final char c, final boolean xml) {
+        
+        if (!xml) return HtmlScanner.isNameChar(c);
+        
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_' || c == ':' || c == '.' || c == '-';
+        
+    }//isNameChar
+    
+    /*==================================================================================================================
+     * Localiza a tag de fechamento de tagId a partir de from, sem analisar as tags intermediarias, exceto as de mesmo
+     * nome (a menos que o escopo seja rawText). Comentarios, secoes CDATA (xml) e o escopo de script e style (html)
+     * sao saltados, pois podem conter o texto da tag de fechamento. Retorna a posicao do '<' da tag de fechamento ou
+     * -1.
+     =================================================================================================================*/
+    static int indexOfClosingTag(
+        final String content, 
+        final String tagId, 
+        final int from, 
+        final boolean rawText,
+        final boolean xml) {
+        
+        int length = tagId.length();
+        
+        int depth = 0;
+        
+        int i = from;
+        
+        while ((i = content.indexOf('<', i)) >= 0) {
+            
+            //no escopo de script e style nao ha comentarios
+            if (!rawText && content.startsWith("<!--", i)) {
+                
+                int end = content.indexOf("-->", i + 4);
+                
+                if (end < 0) return -1;
+                
+                i = end + 3;
+                
+                continue;
+            }
+            
+            if (xml && content.startsWith("<![CDATA[", i)) {
+                
+                int end = content.indexOf("]]>", i + 9);
+                
+                if (end < 0) return -1;
+                
+                i = end + 3;
+                
+                continue;
+            }
+            
+            boolean closing = i + 1 < content.length() && content.charAt(i + 1) == '/';
+            
+            int nameStart = i + (closing ? 2 : 1);
+            
+            int nameEnd = nameStart + length;
+            
+            if (
+                content.regionMatches(true, nameStart, tagId, 0, length) &&
+                (nameEnd == content.length() || !isNameChar(content.charAt(nameEnd), xml))
+            ) {
+                
+                if (closing) {
+                    
+                    if (depth-- == 0) return i;
+                }
+                else if (!rawText) {
+                    
+                    int end = content.indexOf('>', nameEnd);
+                    
+                    if (end < 0) return -1;
+                    
+                    if (!xml || content.charAt(end - 1) != '/') depth++;
+                }
+            }
+            else if (!rawText && !xml && !closing) {
+                
+                int close = skipRawText(content, nameStart);
+                
+                if (close < 0) return -1;
+                
+                if (close > i) {
+                    
+                    i = close;
+                    
+                    continue;
+                }
+            }
+            
+            i++;
+        }
+        
+        return -1;
+        
+    }//indexOfClosingTag
+    
+    /*==================================================================================================================
+     * Se houver uma tag de abertura de script ou style em nameStart, retorna a posicao apos a sua tag de fechamento, ou
+     * -1 se ela nao for fechada. Para as demais tags retorna 0.
+     =================================================================================================================*/
+    private static int skipRawText(final String content, final int nameStart) {
+        
+        if (nameStart == content.length() || !isAsciiLetter(content.charAt(nameStart))) return 0;
+        
+        int nameEnd = nameStart + 1;
+        
+        while (nameEnd < content.length() && HtmlScanner.isNameChar(content.charAt(nameEnd))) nameEnd++;
+        
+        int element = HtmlElements.indexOf(content, nameStart, nameEnd);
+        
+        if ((HtmlElements.flags(element) & HtmlElements.RAW_TEXT) == 0) return 0;
+        
+        int gt = content.indexOf('>', nameEnd);
+        
+        int close = (gt < 0) ? -1 : indexOfClosingTag(content, HtmlElements.name(element), gt + 1, true, false);
+        
+        return (close < 0) ? -1 : close + 2;
+        
+    }//skipRawText
+    
     /*******************************************************************************************************************
      * Realiza o parsing do documento HTML.
      * 
      * @throws XMLParseException No caso do fechamento de alguma tagId nao casar com sua abertura.
      ******************************************************************************************************************/
     public void parse() throws Exception {
-
-        String match;
         
+        if (stats == null) {
+            
+            parseDocument();
+            
+            return;
+        }
+        
+        long start = System.nanoTime();
+        
+        try {
+            
+            parseDocument();
+        }
+        finally {
+            
+            stats.addDocument(htmlContent.length(), System.nanoTime() - start);
+        }
+        
+    }//parse
+    
+    /*==================================================================================================================
+     * 
+     =================================================================================================================*/
+    private void parseDocument() throws Exception {
+
         boolean htmlCode = true;
         
-        while ((match = tagRegex.find()) != null) { 
-            
-            String tagId = tagRegex.group(1).toLowerCase();
-            
-            int tagPosition = tagRegex.start();
-            
-            if (htmlCode && match.charAt(1) != '/') {//tags de abertura
-                
-                Tag tag = new Tag(
-                    tagId, 
-                    tagRegex.group(2),
-                    tagPosition,
-                    tagPosition + match.length()
-                );
-                
-                switch (tagId) {
-                    
-                    //self-closing tags
-                    case "area":
-                    case "base":
-                    case "br":
-                    case "col":
-                    case "embed":
-                    case "hr":    
-                    case "img":
-                    case "input":
-                    case "link":    
-                    case "meta":
-                    case "param":    
-                    case "source":
-                    case "track":
-                    case "wbr":
-                    case "command"://obsoleta
-                    case "keygen"://obsoleta
-                    case "menuitem"://obsoleta
-                    case "frame"://obsoleta    
-                        break;
-                        
-                    //o escopo das tags sctipt e style nao contem codigo html     
-                    case "script":
-                    case "style":
-                        htmlCode = false;
-                    
-                    //requerem tagId de fechamento                   
-                    default: 
-                        stack.push(tag);
-                        
-                }//switch
+        while (scanner.next(!htmlCode)) { 
+            
+            if (stats != null) stats.addTag();
+            
+            int tagPosition = scanner.getTagStart();
+            
+            int tagEnd = scanner.getTagEnd();
+            
+            boolean closing = scanner.isClosing();
+            
+            //O nome da tag e resolvido a partir do documento, sem alocacao para os elementos conhecidos
+            int nameStart = scanner.getNameStart();
+            
+            int nameEnd = scanner.getNameEnd();
+            
+            int element = HtmlElements.indexOf(htmlContent, nameStart, nameEnd);
+            
+            int flags = HtmlElements.flags(element);
+            
+            String tagId = 
+                (element >= 0) ? HtmlElements.name(element) : htmlContent.substring(nameStart, nameEnd).toLowerCase();
+            
+            if (htmlCode && !closing) {//tags de abertura
                 
-                TagParser innerParser = tagParser.openTag(tag);
+                boolean selfClosing = (flags & HtmlElements.VOID) != 0;
                 
-                if (innerParser != null) {
+                //o escopo das tags script e style nao contem codigo html
+                if (!selfClosing && (flags & HtmlElements.RAW_TEXT) != 0) htmlCode = false;
+                
+                if (projection != null && !projection.containsKey(tagId)) {
+                    
+                    if (!selfClosing) pushStack(tagId, null);
+                    
+                    continue;
+                }
+                
+                Tag tag = newTag(tagId, nameEnd, tagEnd - 1, tagPosition, tagEnd);
+                
+                if (selfClosing) tag.setSelfClosing(); else pushStack(tagId, tag);
+                
+                TagParser innerParser = openTag(tag);
+                
+                if (innerParser == TagParser.STOP_PARSING) return;
+                
+                if (innerParser == TagParser.SKIP_SUBTREE) {
+                    
+                    if (tag.isSelfClosing()) continue;
+                    
+                    int closeStart = 
+                        indexOfClosingTag(htmlContent, tagId, tag.getStartTagContentIndex(), !htmlCode, false);
+                    
+                    int closeEnd = (closeStart < 0) ? 0 : htmlContent.indexOf('>', closeStart) + 1;
+                    
+                    if (closeEnd == 0) {
+                        
+                        //sem tag de fechamento: o escopo e analisado sem notificacoes, e o documento e rejeitado
+                        //exatamente como seria sem o salto
+                        tag.setPreviousParser(tagParser);
+                        tagParser = TagParser.IGNORE;
+                        
+                        continue;
+                    }
+                    
+                    htmlCode = true;
+                    
+                    popStack(closeStart, closeEnd);
+                    
+                    scanner.setPosition(closeEnd);
+                }
+                else if (innerParser != null) {
                     
                     tag.setPreviousParser(tagParser);
                     tagParser = innerParser;
@@ -194,19 +601,19 @@ public final class HtmlParser {
                 
                 if (!htmlCode) {
                     
-                    if ( !(tagId.equals("script") || tagId.equals("style")) ) continue;
+                    if ((flags & HtmlElements.RAW_TEXT) == 0) continue;
                     
                     htmlCode = true;
                 }
                
                 if (!tagId.equals(getTopStackedTagId())) exception(tagId);  
                  
-                popStack(tagPosition, tagPosition + match.length());           
+                popStack(tagPosition, tagEnd);           
             }
             
             
         }//while        
 
-    }//parse
+    }//parseDocument
 
 }//classe HtmlParser
\ No newline at end of file
@@ -0,0 +1,260 @@
+package toolbox.html;
+
+/***********************************************************************************************************************
+ * Localiza as tags de um documento HTML para a classe {@link HtmlParser HtmlParser}.
+ *
+ * <p>Reconhece as tags cujo nome comeca com uma letra e vai ate um espaco, / ou &gt;, como na especificacao do HTML
+ * (<code>h1</code>, <code>my-widget</code>), e percorre o texto entre as tags apenas com
+ * {@link String#indexOf(int, int) String.indexOf}, que a JVM executa com instrucoes vetoriais (SIMD) sobre varios
+ * caracteres por passo. Alem disso, ignora as tags contidas em comentarios e nao encerra uma tag em um
+ * &gt; contido no valor de um atributo entre aspas.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+final class HtmlScanner {
+
+    private String content;
+
+    private int length;
+
+    //Posicao a partir da qual a proxima tag sera procurada
+    private int position;
+
+    private int tagStart;
+
+    private int nameStart;
+
+    private int nameEnd;
+
+    private int tagEnd;
+
+    private boolean closing;
+
+    /*==================================================================================================================
+     * Construtor.
+     =================================================================================================================*/
+    HtmlScanner(final String content) {
+
+        reset(content);
+
+    }//construtor
+
+    /*==================================================================================================================
+     * Define o documento e reinicia a pesquisa a partir do seu inicio.
+     =================================================================================================================*/
+    void reset(final String content) {
+
+        this.content = content;
+
+        length = content.length();
+
+        position = 0;
+
+    }//reset
+
+    /*==================================================================================================================
+     * Prossegue a pesquisa a partir da posicao position do documento.
+     =================================================================================================================*/
+    void setPosition(final int position) {
+
+        this.position = position;
+
+    }//setPosition
+
+    private static boolean isAsciiLetter(final char c) {
+
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+
+    }//isAsciiLetter
+
+    /*==================================================================================================================
+     * Caracteres do nome da tag apos a primeira letra: qualquer um, exceto espaco, / e &gt;.
+     =================================================================================================================*/
+    static boolean isNameChar(final char c) {
+
+        return !AttributeCursor.isSpace(c) && c != '/' && c != '>';
+
+    }//isNameChar
+
+    /*==================================================================================================================
+     * Localiza a proxima tag. Com rawText (escopo de script ou style) sao localizadas apenas as tags de fechamento e
+     * os comentarios nao sao reconhecidos. Retorna false se nao houver mais tags.
+     =================================================================================================================*/
+    boolean next(final boolean rawText) {
+
+        int i = position;
+
+        while ((i = content.indexOf('<', i)) >= 0) {
+
+            if (i + 1 == length) return false;
+
+            char c = content.charAt(i + 1);
+
+            if (c == '/') {
+
+                nameStart = i + 2;
+            }
+            else if (rawText) {
+
+                i++;
+
+                continue;
+            }
+            else if (c == '!' && content.startsWith("--", i + 2)) {
+
+                int end = content.indexOf("-->", i + 4);
+
+                if (end < 0) return false;//o comentario vai ate o fim do documento
+
+                i = end + 3;
+
+                continue;
+            }
+            else {
+
+                nameStart = i + 1;
+            }
+
+            if (nameStart == length || !isAsciiLetter(content.charAt(nameStart))) {
+
+                i++;
+
+                continue;
+            }
+
+            nameEnd = nameStart + 1;
+
+            while (nameEnd < length && isNameChar(content.charAt(nameEnd))) nameEnd++;
+
+            int gt = content.indexOf('>', nameEnd);
+
+            if (gt < 0) return false;
+
+            //Aspas antes do > exigem que os valores dos atributos sejam saltados
+            if (hasQuote(nameEnd, gt)) gt = endOfTag(nameEnd, gt);
+
+            tagStart = i;
+
+            closing = c == '/';
+
+            tagEnd = gt + 1;
+
+            position = tagEnd;
+
+            return true;
+        }
+
+        return false;
+
+    }//next
+
+    private boolean hasQuote(final int from, final int to) {
+
+        for (int i = from; i < to; i++) {
+
+            char c = content.charAt(i);
+
+            if (c == '"' || c == '\'') return true;
+        }
+
+        return false;
+
+    }//hasQuote
+
+    /*==================================================================================================================
+     * Retorna a posicao do > que encerra a tag, saltando os valores de atributos entre aspas que seguem um =. Se uma
+     * aspa nao for fechada, retorna firstGt, a posicao do primeiro > apos o nome da tag.
+     =================================================================================================================*/
+    private int endOfTag(final int from, final int firstGt) {
+
+        boolean afterEquals = false;
+
+        int i = from;
+
+        while (i < length) {
+
+            char c = content.charAt(i);
+
+            if (c == '>') return i;
+
+            if (afterEquals && (c == '"' || c == '\'')) {
+
+                int close = content.indexOf(c, i + 1);
+
+                if (close < 0) return firstGt;
+
+                i = close + 1;
+
+                afterEquals = false;
+
+                continue;
+            }
+
+            if (c == '=') afterEquals = true; else if (!Character.isWhitespace(c)) afterEquals = false;
+
+            i++;
+        }
+
+        return firstGt;
+
+    }//endOfTag
+
+    /*==================================================================================================================
+     * Posicao do < da ultima tag localizada.
+     =================================================================================================================*/
+    int getTagStart() {
+
+        return tagStart;
+
+    }//getTagStart
+
+    /*==================================================================================================================
+     * Posicao do primeiro caractere do nome da ultima tag localizada.
+     =================================================================================================================*/
+    int getNameStart() {
+
+        return nameStart;
+
+    }//getNameStart
+
+    /*==================================================================================================================
+     * Posicao do primeiro caractere apos o nome da ultima tag localizada.
+     =================================================================================================================*/
+    int getNameEnd() {
+
+        return nameEnd;
+
+    }//getNameEnd
+
+    /*==================================================================================================================
+     * Posicao do primeiro caractere apos o > da ultima tag localizada.
+     =================================================================================================================*/
+    int getTagEnd() {
+
+        return tagEnd;
+
+    }//getTagEnd
+
+    /*==================================================================================================================
+     * Se a ultima tag localizada e uma tag de fechamento.
+     =================================================================================================================*/
+    boolean isClosing() {
+
+        return closing;
+
+    }//isClosing
+
+    /*==================================================================================================================
+     * O texto entre o nome e o > da ultima tag localizada (o grupo 2 da regex equivalente).
+     =================================================================================================================*/
+    String getAttributes() {
+
+        return content.substring(nameEnd, tagEnd - 1);
+
+    }//getAttributes
+
+}//classe HtmlScanner
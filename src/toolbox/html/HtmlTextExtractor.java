@@ -0,0 +1,286 @@
+package toolbox.html;
+
+import java.io.IOException;
+
+/***********************************************************************************************************************
+ * Extrai o texto de um documento HTML, como ele seria lido em um navegador, para indexacao ou busca.
+ *
+ * <p>O documento e percorrido uma unica vez pelo mesmo tokenizador do <code>HtmlParser</code> e o texto e escrito
+ * diretamente em um <code>Appendable</code>, sem copias intermediarias:</p>
+ *
+ * <ul>
+ * <li>o conteudo das tags script e style, os comentarios e as declaracoes (como <code>&lt;!DOCTYPE&gt;</code>) sao
+ * descartados;</li>
+ * <li>cada sequencia de espacos em branco e reduzida a um espaco, exceto no escopo de tags pre;</li>
+ * <li>o inicio e o fim dos elementos de bloco (div, p, li, h1...) produzem uma quebra de linha, e cada tag br uma
+ * quebra adicional; celulas de tabela sao separadas por um espaco;</li>
+ * <li>as entidades sao decodificadas (veja {@link HtmlEntities HtmlEntities}).</li>
+ * </ul>
+ *
+ * <p>Ao contrario do <code>HtmlParser</code>, o extrator nao exige que o documento tenha tags balanceadas. Um objeto
+ * pode ser reutilizado para varios documentos, mas nao por varias threads simultaneamente.</p>
+ *
+ * <pre>
+ * <code>
+ * HtmlTextExtractor extractor = new HtmlTextExtractor();
+ * extractor.extract(htmlContent, writer);
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class HtmlTextExtractor {
+
+    private final HtmlScanner scanner;
+
+    private String content;
+
+    private Appendable out;
+
+    //Se algum texto ja foi escrito: espacos e quebras antes do primeiro texto sao descartados
+    private boolean written;
+
+    private boolean pendingSpace;
+
+    private int pendingBreaks;
+
+    //Numero de tags pre abertas
+    private int preDepth;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     ******************************************************************************************************************/
+    public HtmlTextExtractor() {
+
+        scanner = new HtmlScanner("");
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Extrai o texto de um documento.
+     *
+     * @param htmlContent O conteudo do documento HTML.
+     *
+     * @return O texto.
+     ******************************************************************************************************************/
+    public String extract(final String htmlContent) {
+
+        StringBuilder sb = new StringBuilder(htmlContent.length() >> 2);
+
+        try {
+
+            extract(htmlContent, sb);
+        }
+        catch (IOException e) {//StringBuilder nao lanca IOException
+
+            throw new IllegalStateException(e);
+        }
+
+        return sb.toString();
+
+    }//extract
+
+    /*******************************************************************************************************************
+     * Extrai o texto de um documento, escrevendo-o em <b><i>out</i></b> a medida que o documento e percorrido.
+     *
+     * @param htmlContent O conteudo do documento HTML.
+     *
+     * @param out Destino do texto.
+     *
+     * @throws IOException Se <b><i>out</i></b> lancar IOException.
+     ******************************************************************************************************************/
+    public void extract(final String htmlContent, final Appendable out) throws IOException {
+
+        extract(htmlContent, 0, htmlContent.length(), out);
+
+    }//extract
+
+    /*==================================================================================================================
+     * Extrai o texto do trecho de htmlContent entre start e end, que deve comecar e terminar fora de tags. Usado pela
+     * classe TableExtractor para extrair o texto das celulas diretamente do documento.
+     =================================================================================================================*/
+    void extract(final String htmlContent, final int start, final int end, final Appendable out) throws IOException {
+
+        content = htmlContent;
+
+        this.out = out;
+
+        written = false;
+
+        pendingSpace = false;
+
+        pendingBreaks = 0;
+
+        preDepth = 0;
+
+        scanner.reset(htmlContent);
+
+        scanner.setPosition(start);
+
+        try {
+
+            extract(start, end);
+        }
+        finally {
+
+            content = null;
+
+            this.out = null;
+
+            scanner.reset("");
+        }
+
+    }//extract
+
+    /*==================================================================================================================
+     *
+     =================================================================================================================*/
+    private void extract(final int start, final int end) throws IOException {
+
+        int textStart = start;
+
+        while (scanner.next(false) && scanner.getTagStart() < end) {
+
+            text(textStart, scanner.getTagStart());
+
+            textStart = scanner.getTagEnd();
+
+            int element = HtmlElements.indexOf(content, scanner.getNameStart(), scanner.getNameEnd());
+
+            if (element < 0) continue;
+
+            int flags = HtmlElements.flags(element);
+
+            String tagId = HtmlElements.name(element);
+
+            boolean closing = scanner.isClosing();
+
+            if (!closing && (flags & HtmlElements.RAW_TEXT) != 0) {
+
+                //descarta o escopo de script e style, ou o restante do documento se nao forem fechadas
+                textStart = end;
+
+                while (scanner.next(true) && scanner.getTagStart() < end) {
+
+                    //apenas o fechamento do proprio elemento encerra o escopo: </style> dentro de script e texto
+                    if (HtmlElements.indexOf(content, scanner.getNameStart(), scanner.getNameEnd()) == element) {
+
+                        textStart = scanner.getTagEnd();
+
+                        break;
+                    }
+                }
+
+                if (textStart == end) break;
+            }
+            else if (tagId.equals("br")) {
+
+                if (!closing && written) pendingBreaks++;
+            }
+            else if ((flags & HtmlElements.BLOCK) != 0) {
+
+                if (tagId.equals("pre")) preDepth = Math.max(0, preDepth + (closing ? -1 : 1));
+
+                if (pendingBreaks == 0) pendingBreaks = 1;
+            }
+            else if (!closing && (tagId.equals("td") || tagId.equals("th"))) {
+
+                pendingSpace = true;
+            }
+        }
+
+        text(textStart, end);
+
+    }//extract
+
+    /*==================================================================================================================
+     * Escreve a quebra de linha ou o espaco pendente antes do proximo trecho de texto.
+     =================================================================================================================*/
+    private void separate() throws IOException {
+
+        if (written) {
+
+            if (pendingBreaks > 0) {
+
+                for (int i = 0; i < pendingBreaks; i++) out.append('\n');
+            }
+            else if (pendingSpace) {
+
+                out.append(' ');
+            }
+        }
+
+        written = true;
+
+        pendingSpace = false;
+
+        pendingBreaks = 0;
+
+    }//separate
+
+    /*==================================================================================================================
+     * Escreve o texto entre duas tags, descartando comentarios e declaracoes.
+     =================================================================================================================*/
+    private void text(final int start, final int end) throws IOException {
+
+        int i = start;
+
+        while (i < end) {
+
+            char c = content.charAt(i);
+
+            if (c == '<' && i + 1 < end && (content.charAt(i + 1) == '!' || content.charAt(i + 1) == '?')) {
+
+                int close = content.startsWith("<!--", i) ? content.indexOf("-->", i + 4) : content.indexOf('>', i);
+
+                if (close < 0 || close >= end) return;
+
+                i = close + (content.charAt(close) == '>' ? 1 : 3);
+
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+
+                if (preDepth > 0) {
+
+                    separate();
+
+                    out.append(c);
+                }
+                else {
+
+                    pendingSpace = true;
+                }
+
+                i++;
+
+                continue;
+            }
+
+            //uma palavra: as entidades nunca contem espacos, e sao decodificadas palavra a palavra
+            int wordEnd = i + 1;
+
+            while (wordEnd < end) {
+
+                char w = content.charAt(wordEnd);
+
+                if (Character.isWhitespace(w) || w == '<') break;
+
+                wordEnd++;
+            }
+
+            separate();
+
+            HtmlEntities.decode(content, i, wordEnd, out);
+
+            i = wordEnd;
+        }
+
+    }//text
+
+}//classe HtmlTextExtractor
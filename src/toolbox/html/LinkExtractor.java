@@ -0,0 +1,317 @@
+package toolbox.html;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+/***********************************************************************************************************************
+ * Extrai as URLs dos atributos href, src e srcset de um documento HTML.
+ *
+ * <p>O documento e percorrido pelo mesmo tokenizador do <code>HtmlParser</code>, mas apenas as tags que podem conter
+ * links (a, area, link, img, source, script, iframe, frame, embed, audio, video, track e input) tem os atributos
+ * analisados, diretamente no documento. As demais tags sao identificadas pelo nome e descartadas sem que nenhum objeto
+ * seja criado, e o escopo de script e style nao e analisado. Nao sao criados objetos <code>Tag</code> nem mapas de
+ * atributos, e o documento nao precisa ter as tags balanceadas.
+ *
+ * <p>Cada URL e decodificada (entidades HTML), resolvida em relacao a URL do documento e a tag base, se houver, e
+ * passada a um {@link LinkHandler LinkHandler}. Como no HTML, apenas a primeira tag base com atributo href e
+ * considerada; ela deve preceder os links (normalmente esta no head). Os candidatos de um atributo srcset sao
+ * fornecidos um a um.
+ *
+ * <pre>
+ * <code>
+ * LinkExtractor extractor = new LinkExtractor();
+ * extractor.setDocumentUri("https://example.com/docs/index.html");
+ * List&lt;String&gt; urls = extractor.extract(htmlContent);
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class LinkExtractor {
+
+    private static final String[] LINK_ELEMENTS = {
+        "a", "area", "link", "img", "source", "script", "iframe", "frame", "embed", "audio", "video", "track", "input",
+        "base"
+    };
+
+    //Indexado pelo indice do elemento em HtmlElements
+    private static final boolean[] IS_LINK_ELEMENT;
+
+    static {
+
+        int max = 0;
+
+        for (String name : LINK_ELEMENTS) max = Math.max(max, HtmlElements.indexOf(name, 0, name.length()));
+
+        IS_LINK_ELEMENT = new boolean[max + 1];
+
+        for (String name : LINK_ELEMENTS) IS_LINK_ELEMENT[HtmlElements.indexOf(name, 0, name.length())] = true;
+    }
+
+    private final HtmlScanner scanner;
+
+    private final AttributeCursor attributeCursor;
+
+    private URI documentUri;
+
+    //A URL da tag base resolvida, ou documentUri enquanto nao houver tag base
+    private URI baseUri;
+
+    private boolean baseFound;
+
+    /*******************************************************************************************************************
+     * Construtor. Sem a URL do documento, as URLs relativas sao fornecidas como constam do documento, a menos que
+     * haja uma tag base com URL absoluta.
+     ******************************************************************************************************************/
+    public LinkExtractor() {
+
+        scanner = new HtmlScanner("");
+
+        attributeCursor = new AttributeCursor();
+
+        documentUri = null;
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Define a URL do documento, em relacao a qual as URLs relativas serao resolvidas.
+     *
+     * @param documentUri A URL absoluta do documento, ou <code>null</code> para nao resolver as URLs relativas.
+     *
+     * @throws URISyntaxException Se <b><i>documentUri</i></b> nao for uma URI valida.
+     ******************************************************************************************************************/
+    public void setDocumentUri(final String documentUri) throws URISyntaxException {
+
+        this.documentUri = (documentUri == null) ? null : new URI(documentUri);
+
+    }//setDocumentUri
+
+    /*******************************************************************************************************************
+     * Extrai as URLs de um documento.
+     *
+     * @param htmlContent O conteudo do documento HTML.
+     *
+     * @return As URLs na ordem em que aparecem no documento.
+     ******************************************************************************************************************/
+    public List<String> extract(final String htmlContent) {
+
+        final List<String> urls = new ArrayList<>();
+
+        try {
+
+            extract(htmlContent, new LinkHandler() {
+
+                @Override
+                public void link(final String tagId, final String attr, final String url) {
+
+                    urls.add(url);
+                }
+            });
+        }
+        catch (Exception e) {//o handler acima nao lanca excecoes
+
+            throw new IllegalStateException(e);
+        }
+
+        return urls;
+
+    }//extract
+
+    /*******************************************************************************************************************
+     * Extrai as URLs de um documento, passando cada uma a <b><i>handler</i></b> assim que e localizada.
+     *
+     * @param htmlContent O conteudo do documento HTML.
+     *
+     * @param handler Recebe as URLs.
+     *
+     * @throws Exception Se <b><i>handler</i></b> lancar uma excecao.
+     ******************************************************************************************************************/
+    public void extract(final String htmlContent, final LinkHandler handler) throws Exception {
+
+        scanner.reset(htmlContent);
+
+        baseUri = documentUri;
+
+        baseFound = false;
+
+        try {
+
+            while (scanner.next(false)) {
+
+                if (scanner.isClosing()) continue;
+
+                int element = HtmlElements.indexOf(htmlContent, scanner.getNameStart(), scanner.getNameEnd());
+
+                if (element < 0) continue;
+
+                if ((HtmlElements.flags(element) & HtmlElements.RAW_TEXT) != 0) {
+
+                    boolean external = element < IS_LINK_ELEMENT.length && IS_LINK_ELEMENT[element];
+
+                    if (external) attributes(htmlContent, HtmlElements.name(element), handler);
+
+                    skipRawText(htmlContent, element);
+                }
+                else if (element < IS_LINK_ELEMENT.length && IS_LINK_ELEMENT[element]) {
+
+                    attributes(htmlContent, HtmlElements.name(element), handler);
+                }
+            }
+        }
+        finally {
+
+            scanner.reset("");
+        }
+
+    }//extract
+
+    /*==================================================================================================================
+     * Avanca o scanner ate a tag de fechamento do elemento script ou style aberto (element). Tags de fechamento de
+     * outros elementos dentro do escopo sao texto.
+     =================================================================================================================*/
+    private void skipRawText(final String htmlContent, final int element) {
+
+        while (scanner.next(true)) {
+
+            if (HtmlElements.indexOf(htmlContent, scanner.getNameStart(), scanner.getNameEnd()) == element) return;
+        }
+
+    }//skipRawText
+
+    /*==================================================================================================================
+     * Passa ao handler as URLs dos atributos da tag corrente do scanner.
+     =================================================================================================================*/
+    private void attributes(final String htmlContent, final String tagId, final LinkHandler handler)
+        throws Exception {
+
+        attributeCursor.reset(htmlContent, scanner.getNameEnd(), scanner.getTagEnd() - 1);
+
+        while (attributeCursor.next()) {
+
+            if (!attributeCursor.hasValue()) continue;
+
+            if (attributeCursor.isName("href")) {
+
+                String url = HtmlEntities.decodeAttribute(attributeCursor.getValue()).trim();
+
+                if (tagId.equals("base")) {
+
+                    if (!baseFound) {
+
+                        baseFound = true;
+
+                        baseUri = toUri(url);
+                    }
+                }
+                else {
+
+                    handler.link(tagId, "href", resolve(url));
+                }
+            }
+            else if (attributeCursor.isName("src")) {
+
+                handler.link(tagId, "src", resolve(HtmlEntities.decodeAttribute(attributeCursor.getValue()).trim()));
+            }
+            else if (attributeCursor.isName("srcset")) {
+
+                srcset(HtmlEntities.decodeAttribute(attributeCursor.getValue()), tagId, handler);
+            }
+        }
+
+    }//attributes
+
+    /*==================================================================================================================
+     * Passa ao handler as URLs dos candidatos de um atributo srcset ("url [descritor], url [descritor]...").
+     =================================================================================================================*/
+    private void srcset(final String value, final String tagId, final LinkHandler handler) throws Exception {
+
+        int length = value.length();
+
+        int i = 0;
+
+        while (i < length) {
+
+            char c;
+
+            while (i < length && (AttributeCursor.isSpace(c = value.charAt(i)) || c == ',')) i++;
+
+            int start = i;
+
+            while (i < length && !AttributeCursor.isSpace(value.charAt(i))) i++;
+
+            int end = i;
+
+            //virgulas no fim da URL separam candidatos sem descritor
+            while (end > start && value.charAt(end - 1) == ',') end--;
+
+            if (end > start) handler.link(tagId, "srcset", resolve(value.substring(start, end)));
+
+            //o descritor vai ate a proxima virgula
+            if (end == i) while (i < length && value.charAt(i) != ',') i++;
+        }
+
+    }//srcset
+
+    /*==================================================================================================================
+     * Resolve a URL da tag base em relacao a URL do documento. Retorna null se nao for possivel.
+     =================================================================================================================*/
+    private URI toUri(final String url) {
+
+        try {
+
+            URI uri = new URI(url);
+
+            return (documentUri == null) ? uri : documentUri.resolve(uri);
+        }
+        catch (URISyntaxException | IllegalArgumentException e) {
+
+            return documentUri;
+        }
+
+    }//toUri
+
+    /*==================================================================================================================
+     * Resolve uma URL em relacao a base. URLs invalidas sao retornadas como constam do documento.
+     =================================================================================================================*/
+    private String resolve(final String url) {
+
+        if (baseUri == null || url.isEmpty()) return url;
+
+        try {
+
+            return baseUri.resolve(new URI(url)).toString();
+        }
+        catch (URISyntaxException | IllegalArgumentException e) {
+
+            return url;
+        }
+
+    }//resolve
+
+/*======================================================================================================================
+ * Recebe as URLs localizadas por um LinkExtractor.
+======================================================================================================================*/
+public abstract static class LinkHandler {
+
+    /**
+     * Chamado para cada URL, na ordem em que aparecem no documento.
+     *
+     * @param tagId O nome da tag, em minusculas.
+     *
+     * @param attr O nome do atributo: "href", "src" ou "srcset".
+     *
+     * @param url A URL, decodificada e resolvida em relacao a base do documento.
+     *
+     * @throws Exception Interrompe a extracao e e relancada pelo metodo extract.
+     */
+    public abstract void link(String tagId, String attr, String url) throws Exception;
+
+}//classe LinkHandler
+
+}//classe LinkExtractor
@@ -0,0 +1,253 @@
+package toolbox.html;
+
+/***********************************************************************************************************************
+ * Estatisticas de execucao de um <code>HtmlParser</code> ou <code>XmlParser</code>.
+ *
+ * <p>A coleta e ativada passando um objeto desta classe ao metodo <code>setStats()</code> do parser. Sem ele (o
+ * default), o parser nao mede nada: o custo da instrumentacao desativada e apenas um teste de <code>null</code> por
+ * tag. Os valores se acumulam a cada execucao do metodo <code>parse()</code>, ate que {@link #reset() reset} seja
+ * chamado, e o mesmo objeto pode ser compartilhado por parsers executados em sequencia, mas nao simultaneamente.
+ *
+ * <p>O tempo do parsing e dividido entre o tempo gasto nos metodos <code>openTag</code> e <code>closeTag</code> dos
+ * objetos <code>TagParser</code> e o tempo do proprio parser (localizacao das tags, analise dos atributos e controle do
+ * aninhamento).
+ *
+ * <pre>
+ * <code>
+ * ParserStats stats = new ParserStats();
+ * HtmlParser parser = new HtmlParser(htmlContent, tagParser);
+ * parser.setStats(stats);
+ * parser.parse();
+ * System.out.println(stats);
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class ParserStats {
+
+    private int documents;
+
+    private long characters;
+
+    private long tags;
+
+    private int maxDepth;
+
+    private long capturedCharacters;
+
+    private long elapsedNanos;
+
+    private long callbackNanos;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     ******************************************************************************************************************/
+    public ParserStats() {
+
+        reset();
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Zera todas as estatisticas.
+     ******************************************************************************************************************/
+    public void reset() {
+
+        documents = 0;
+        characters = 0;
+        tags = 0;
+        maxDepth = 0;
+        capturedCharacters = 0;
+        elapsedNanos = 0;
+        callbackNanos = 0;
+
+    }//reset
+
+    /*==================================================================================================================
+     * Registra uma execucao do metodo parse() sobre um documento de length caracteres.
+     =================================================================================================================*/
+    void addDocument(final int length, final long nanos) {
+
+        documents++;
+
+        characters += length;
+
+        elapsedNanos += nanos;
+
+    }//addDocument
+
+    /*==================================================================================================================
+     * Registra uma tag (de abertura ou de fechamento) localizada pelo parser.
+     =================================================================================================================*/
+    void addTag() {
+
+        tags++;
+
+    }//addTag
+
+    /*==================================================================================================================
+     * Registra a profundidade da pilha de tags abertas.
+     =================================================================================================================*/
+    void updateDepth(final int depth) {
+
+        if (depth > maxDepth) maxDepth = depth;
+
+    }//updateDepth
+
+    /*==================================================================================================================
+     * Registra o escopo de uma tag fornecido a um TagParser.
+     =================================================================================================================*/
+    void addCaptured(final int length) {
+
+        capturedCharacters += length;
+
+    }//addCaptured
+
+    /*==================================================================================================================
+     * Registra o tempo de uma chamada a openTag() ou closeTag().
+     =================================================================================================================*/
+    void addCallback(final long nanos) {
+
+        callbackNanos += nanos;
+
+    }//addCallback
+
+    /*******************************************************************************************************************
+     * Retorna o numero de documentos analisados.
+     *
+     * @return O numero de execucoes do metodo parse().
+     ******************************************************************************************************************/
+    public int getDocuments() {
+
+        return documents;
+
+    }//getDocuments
+
+    /*******************************************************************************************************************
+     * Retorna o tamanho total dos documentos analisados, em caracteres (os documentos sao fornecidos aos parsers como
+     * String).
+     *
+     * @return O numero de caracteres.
+     ******************************************************************************************************************/
+    public long getCharacters() {
+
+        return characters;
+
+    }//getCharacters
+
+    /*******************************************************************************************************************
+     * Retorna o numero de tags localizadas, de abertura e de fechamento, inclusive as que nao foram passadas ao
+     * <code>TagParser</code> por uma projecao.
+     *
+     * @return O numero de tags.
+     ******************************************************************************************************************/
+    public long getTags() {
+
+        return tags;
+
+    }//getTags
+
+    /*******************************************************************************************************************
+     * Retorna a maior profundidade atingida pela pilha de tags abertas.
+     *
+     * @return A profundidade maxima de aninhamento.
+     ******************************************************************************************************************/
+    public int getMaxDepth() {
+
+        return maxDepth;
+
+    }//getMaxDepth
+
+    /*******************************************************************************************************************
+     * Retorna o tamanho total dos escopos das tags cujo fechamento foi notificado aos objetos <code>TagParser</code>.
+     *
+     * @return O numero de caracteres dos escopos.
+     ******************************************************************************************************************/
+    public long getCapturedCharacters() {
+
+        return capturedCharacters;
+
+    }//getCapturedCharacters
+
+    /*******************************************************************************************************************
+     * Retorna o tempo total de execucao do metodo parse().
+     *
+     * @return O tempo em nanossegundos.
+     ******************************************************************************************************************/
+    public long getElapsedNanos() {
+
+        return elapsedNanos;
+
+    }//getElapsedNanos
+
+    /*******************************************************************************************************************
+     * Retorna o tempo gasto nos metodos <code>openTag</code> e <code>closeTag</code> dos objetos
+     * <code>TagParser</code>.
+     *
+     * @return O tempo em nanossegundos.
+     ******************************************************************************************************************/
+    public long getCallbackNanos() {
+
+        return callbackNanos;
+
+    }//getCallbackNanos
+
+    /*******************************************************************************************************************
+     * Retorna o tempo gasto pelo proprio parser, fora dos objetos <code>TagParser</code>.
+     *
+     * @return O tempo em nanossegundos.
+     ******************************************************************************************************************/
+    public long getParserNanos() {
+
+        return elapsedNanos - callbackNanos;
+
+    }//getParserNanos
+
+    /*******************************************************************************************************************
+     * Retorna a vazao em caracteres por segundo.
+     *
+     * @return O numero de caracteres analisados por segundo, ou 0 se nenhum documento foi analisado.
+     ******************************************************************************************************************/
+    public double getCharactersPerSecond() {
+
+        return (elapsedNanos == 0) ? 0 : characters * 1e9 / elapsedNanos;
+
+    }//getCharactersPerSecond
+
+    /*******************************************************************************************************************
+     * Retorna a vazao em tags por segundo.
+     *
+     * @return O numero de tags localizadas por segundo, ou 0 se nenhum documento foi analisado.
+     ******************************************************************************************************************/
+    public double getTagsPerSecond() {
+
+        return (elapsedNanos == 0) ? 0 : tags * 1e9 / elapsedNanos;
+
+    }//getTagsPerSecond
+
+    @Override
+    public String toString() {
+
+        return String.format(
+            "documents=%d characters=%d tags=%d maxDepth=%d captured=%d elapsed=%.3fms parser=%.3fms " +
+            "callbacks=%.3fms (%.1f M chars/s, %.0f tags/s)",
+            documents,
+            characters,
+            tags,
+            maxDepth,
+            capturedCharacters,
+            elapsedNanos / 1e6,
+            getParserNanos() / 1e6,
+            callbackNanos / 1e6,
+            getCharactersPerSecond() / 1e6,
+            getTagsPerSecond()
+        );
+
+    }//toString
+
+}//classe ParserStats
@@ -0,0 +1,418 @@
+package toolbox.html;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/***********************************************************************************************************************
+ * Um <code>TagParser</code> que localiza, em uma unica passagem pelos eventos de um <code>XmlParser</code> (ou
+ * <code>HtmlParser</code>), as tags selecionadas por uma expressao de caminho, um subconjunto de XPath.
+ *
+ * <p>Sintaxe aceita:</p>
+ *
+ * <ul>
+ * <li><code>/a/b</code> - filhos (b filho de a, a raiz do documento);</li>
+ * <li><code>//b</code>, <code>/a//b</code> - descendentes em qualquer nivel;</li>
+ * <li><code>*</code> - qualquer tag;</li>
+ * <li><code>b[@id]</code>, <code>b[@id='x']</code> - predicados de atributo;</li>
+ * <li><code>b[2]</code> - posicao (a partir de 1) entre as tags irmas que satisfazem o nome e os predicados
+ * anteriores.</li>
+ * </ul>
+ *
+ * <p>Uma expressao sem / inicial e relativa a raiz do documento (<code>a/b</code> equivale a <code>/a/b</code>). Os
+ * nomes sao comparados em minusculas, como sao fornecidos pelos parsers, e podem incluir o prefixo de namespace
+ * (<code>/rss/channel/item/dc:creator</code>), que faz parte do nome da tag.
+ *
+ * <p>A expressao e compilada em um automato: para cada tag aberta sao mantidos apenas os passos da expressao que ela
+ * satisfaz e os contadores de posicao de suas filhas, de modo que a memoria depende da profundidade do documento e nao
+ * do seu tamanho. Cada tag selecionada e passada ao {@link MatchHandler MatchHandler} quando e fechada, com o seu
+ * conteudo disponivel em {@link Tag#getTagContent() getTagContent} (tags self-closing sao passadas imediatamente).
+ * Tags selecionadas aninhadas em outras tags selecionadas sao portanto passadas antes delas.
+ *
+ * <pre>
+ * <code>
+ * PathEvaluator evaluator = new PathEvaluator("/rss/channel/item[@lang='pt']/title", new MatchHandler() {
+ *     public void match(Tag tag) { titles.add(tag.getTagContent()); }
+ * });
+ * new XmlParser(xmlContent, evaluator).parse();
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class PathEvaluator extends TagParser {
+
+    private static final int MAX_STEPS = 64;
+
+    private final Step[] steps;
+
+    private final MatchHandler handler;
+
+    //Pilha das tags abertas. Frame 0 representa o documento
+    private Frame[] frames;
+
+    private int depth;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param expression A expressao de caminho.
+     *
+     * @param handler Recebe as tags selecionadas.
+     *
+     * @throws IllegalArgumentException Se a expressao for invalida ou tiver mais de 64 passos.
+     ******************************************************************************************************************/
+    public PathEvaluator(final String expression, final MatchHandler handler) throws IllegalArgumentException {
+
+        steps = compile(expression);
+
+        this.handler = handler;
+
+        frames = new Frame[64];
+
+        for (int i = 0; i < frames.length; i++) frames[i] = new Frame(steps.length);
+
+        reset();
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Prepara o avaliador para um novo documento. Deve ser chamado antes de reutilizar o objeto em outro parser.
+     ******************************************************************************************************************/
+    public void reset() {
+
+        depth = 0;
+
+        Frame document = frames[0];
+
+        document.clear();
+
+        if (steps[0].descendant) document.descendantSteps = 1L; else document.childSteps = 1L;
+
+    }//reset
+
+    /*==================================================================================================================
+     * Compila a expressao em uma sequencia de passos.
+     =================================================================================================================*/
+    private static Step[] compile(final String expression) {
+
+        List<Step> list = new ArrayList<>();
+
+        String s = expression.trim();
+
+        int i = 0;
+
+        int length = s.length();
+
+        if (length == 0) throw new IllegalArgumentException("empty path expression");
+
+        while (i < length) {
+
+            boolean descendant = false;
+
+            if (s.startsWith("//", i)) {
+
+                descendant = true;
+
+                i += 2;
+            }
+            else if (s.charAt(i) == '/') {
+
+                i++;
+            }
+            else if (i > 0) {
+
+                throw syntaxError(expression, i);
+            }
+
+            int nameStart = i;
+
+            while (i < length && isNameChar(s.charAt(i))) i++;
+
+            if (i == nameStart) throw syntaxError(expression, i);
+
+            Step step = new Step(descendant, s.substring(nameStart, i).toLowerCase());
+
+            while (i < length && s.charAt(i) == '[') {
+
+                int close = s.indexOf(']', i);
+
+                if (close < 0) throw syntaxError(expression, i);
+
+                predicate(step, s.substring(i + 1, close).trim(), expression, i);
+
+                i = close + 1;
+            }
+
+            list.add(step);
+        }
+
+        if (list.size() > MAX_STEPS) throw new IllegalArgumentException("more than " + MAX_STEPS + " steps");
+
+        return list.toArray(new Step[0]);
+
+    }//compile
+
+    private static boolean isNameChar(final char c) {
+
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':' || c == '*';
+
+    }//isNameChar
+
+    private static IllegalArgumentException syntaxError(final String expression, final int position) {
+
+        return new IllegalArgumentException("invalid path expression at " + position + ": " + expression);
+
+    }//syntaxError
+
+    /*==================================================================================================================
+     * Acrescenta ao passo o predicado [p]: @attr, @attr='valor' ou uma posicao.
+     =================================================================================================================*/
+    private static void predicate(final Step step, final String p, final String expression, final int position) {
+
+        if (p.isEmpty()) throw syntaxError(expression, position);
+
+        if (p.charAt(0) != '@') {
+
+            if (step.position > 0) throw syntaxError(expression, position);
+
+            try {
+
+                step.position = Integer.parseInt(p);
+            }
+            catch (NumberFormatException e) {
+
+                throw syntaxError(expression, position);
+            }
+
+            if (step.position < 1) throw syntaxError(expression, position);
+
+            step.positionAfter = step.attrNames.size();
+
+            return;
+        }
+
+        int eq = p.indexOf('=');
+
+        String name = ((eq < 0) ? p.substring(1) : p.substring(1, eq)).trim().toLowerCase();
+
+        String value = null;
+
+        if (eq >= 0) {
+
+            value = p.substring(eq + 1).trim();
+
+            if (
+                value.length() < 2 ||
+                (value.charAt(0) != '\'' && value.charAt(0) != '"') ||
+                value.charAt(value.length() - 1) != value.charAt(0)
+            ) throw syntaxError(expression, position);
+
+            value = value.substring(1, value.length() - 1);
+        }
+
+        if (name.isEmpty()) throw syntaxError(expression, position);
+
+        step.attrNames.add(name);
+
+        step.attrValues.add(value);
+
+    }//predicate
+
+    /*******************************************************************************************************************
+     * Determina os passos da expressao satisfeitos pela tag.
+     *
+     * @param tag A tag localizada pelo parser.
+     *
+     * @return Sempre <code>null</code>.
+     *
+     * @throws Exception Se o handler lancar uma excecao.
+     ******************************************************************************************************************/
+    @Override
+    public TagParser openTag(final Tag tag) throws Exception {
+
+        Frame parent = frames[depth];
+
+        long candidates = parent.childSteps | parent.descendantSteps;
+
+        long matched = 0;
+
+        boolean selected = false;
+
+        String tagId = tag.getTagId();
+
+        while (candidates != 0) {
+
+            int k = Long.numberOfTrailingZeros(candidates);
+
+            candidates &= candidates - 1;
+
+            if (steps[k].matches(tag, tagId, parent.counts, k)) {
+
+                matched |= 1L << k;
+
+                if (k == steps.length - 1) selected = true;
+            }
+        }
+
+        if (tag.isSelfClosing()) {
+
+            if (selected) handler.match(tag);
+
+            return null;
+        }
+
+        tag.notifyClosing();
+
+        if (++depth == frames.length) {
+
+            frames = Arrays.copyOf(frames, depth << 1);
+
+            for (int i = depth; i < frames.length; i++) frames[i] = new Frame(steps.length);
+        }
+
+        Frame frame = frames[depth];
+
+        frame.clear();
+
+        frame.selected = selected;
+
+        frame.descendantSteps = parent.descendantSteps;
+
+        //cada passo satisfeito habilita o passo seguinte nas filhas ou em todos os descendentes
+        while (matched != 0) {
+
+            int k = Long.numberOfTrailingZeros(matched);
+
+            matched &= matched - 1;
+
+            if (k + 1 == steps.length) continue;
+
+            if (steps[k + 1].descendant) frame.descendantSteps |= 1L << (k + 1);
+            else frame.childSteps |= 1L << (k + 1);
+        }
+
+        return null;
+
+    }//openTag
+
+    /*******************************************************************************************************************
+     * Passa a tag ao handler, se ela foi selecionada.
+     *
+     * @param tag A tag fechada.
+     *
+     * @throws Exception Se o handler lancar uma excecao.
+     ******************************************************************************************************************/
+    @Override
+    public void closeTag(final Tag tag) throws Exception {
+
+        if (depth == 0) return;
+
+        boolean selected = frames[depth--].selected;
+
+        if (selected) handler.match(tag);
+
+    }//closeTag
+
+/*======================================================================================================================
+ * Um passo da expressao: eixo, nome e predicados.
+======================================================================================================================*/
+private static final class Step {
+
+    final boolean descendant;
+
+    //null para *
+    final String name;
+
+    final List<String> attrNames = new ArrayList<>();
+
+    //null quando o predicado exige apenas a presenca do atributo
+    final List<String> attrValues = new ArrayList<>();
+
+    //0 se nao houver predicado de posicao
+    int position;
+
+    //Numero de predicados de atributo avaliados antes da posicao
+    int positionAfter;
+
+    Step(final boolean descendant, final String name) {
+
+        this.descendant = descendant;
+        this.name = name.equals("*") ? null : name;
+    }
+
+    /*
+     * Avalia o nome e os predicados. counts guarda, por passo, quantas irmas anteriores satisfizeram os predicados
+     * que precedem a posicao.
+     */
+    boolean matches(final Tag tag, final String tagId, final int[] counts, final int k) {
+
+        if (name != null && !name.equals(tagId)) return false;
+
+        int n = attrNames.size();
+
+        for (int i = 0; i < n; i++) {
+
+            if (position > 0 && i == positionAfter && ++counts[k] != position) return false;
+
+            String value = tag.getAttrMap().get(attrNames.get(i));
+
+            if (value == null || (attrValues.get(i) != null && !attrValues.get(i).equals(value))) return false;
+        }
+
+        return position == 0 || positionAfter < n || ++counts[k] == position;
+    }
+
+}//classe Step
+
+/*======================================================================================================================
+ * Estado de uma tag aberta.
+======================================================================================================================*/
+private static final class Frame {
+
+    //Passos que podem ser satisfeitos pelas filhas e por todos os descendentes
+    long childSteps;
+
+    long descendantSteps;
+
+    //Contadores de posicao das filhas, por passo
+    final int[] counts;
+
+    boolean selected;
+
+    Frame(final int steps) {
+
+        counts = new int[steps];
+    }
+
+    void clear() {
+
+        childSteps = 0;
+        descendantSteps = 0;
+        selected = false;
+        Arrays.fill(counts, 0);
+    }
+
+}//classe Frame
+
+/*======================================================================================================================
+ * Recebe as tags selecionadas por um PathEvaluator.
+======================================================================================================================*/
+public abstract static class MatchHandler {
+
+    /**
+     * Chamado para cada tag selecionada, quando ela e fechada.
+     *
+     * @param tag A tag, com o conteudo disponivel em {@link Tag#getTagContent() getTagContent}.
+     *
+     * @throws Exception Interrompe o parsing e e relancada pelo metodo parse do parser.
+     */
+    public abstract void match(Tag tag) throws Exception;
+
+}//classe MatchHandler
+
+}//classe PathEvaluator
@@ -0,0 +1,427 @@
+package toolbox.html;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/***********************************************************************************************************************
+ * Um <code>TagParser</code> que converte as tabelas de um documento HTML para CSV (RFC 4180) a partir dos eventos de
+ * um <code>HtmlParser</code>.
+ *
+ * <p>Cada linha (tr) e escrita no <code>OutputStream</code> assim que e fechada, e o texto de cada celula (td ou th) e
+ * extraido diretamente do documento, sem copia do escopo da tabela: a memoria usada depende apenas do numero de
+ * colunas, e nao do numero de linhas. O texto das celulas e obtido como em {@link HtmlTextExtractor HtmlTextExtractor}
+ * (entidades decodificadas, espacos reduzidos).
+ *
+ * <p>Celulas com colspan e rowspan ocupam varias colunas ou linhas, e o seu texto e repetido em cada posicao ocupada,
+ * de modo que todas as linhas tenham as colunas alinhadas. Tabelas aninhadas em celulas nao geram linhas: seu texto
+ * faz parte do texto da celula. As linhas de tabelas consecutivas sao separadas por uma linha vazia.
+ *
+ * <pre>
+ * <code>
+ * try (OutputStream out = Files.newOutputStream(csvPath)) {
+ *     TableExtractor extractor = new TableExtractor(htmlContent, out);
+ *     extractor.setTableIndex(2);
+ *     new HtmlParser(htmlContent, extractor).parse();
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class TableExtractor extends TagParser {
+
+    private final String source;
+
+    private final Writer writer;
+
+    private final HtmlTextExtractor textExtractor;
+
+    private final StringBuilder text;
+
+    private final AttributeCursor attributeCursor;
+
+    private char separator;
+
+    private int tableIndex;
+
+    //Numero de tabelas (nao aninhadas) abertas ate o momento
+    private int tables;
+
+    //Se a tabela corrente deve ser extraida
+    private boolean inTable;
+
+    //Tabelas abertas dentro de celulas da tabela corrente
+    private int nestedTables;
+
+    //Linhas escritas da tabela corrente, e se alguma linha ja foi escrita
+    private int tableRows;
+
+    private boolean rowsWritten;
+
+    //Celulas da linha corrente e proxima coluna livre
+    private String[] row;
+
+    private int column;
+
+    //Para cada coluna: linhas restantes ocupadas por um rowspan das linhas anteriores, e o texto da celula
+    private int[] spanRows;
+
+    private String[] spanText;
+
+    /*******************************************************************************************************************
+     * Construtor. O CSV e escrito em UTF-8.
+     *
+     * @param source O mesmo conteudo que sera passado ao parser.
+     *
+     * @param out Destino do CSV. Nao e fechado pelo extrator.
+     ******************************************************************************************************************/
+    public TableExtractor(final String source, final OutputStream out) {
+
+        this(source, out, StandardCharsets.UTF_8);
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param source O mesmo conteudo que sera passado ao parser.
+     *
+     * @param out Destino do CSV. Nao e fechado pelo extrator.
+     *
+     * @param charset O charset do CSV.
+     ******************************************************************************************************************/
+    public TableExtractor(final String source, final OutputStream out, final Charset charset) {
+
+        this.source = source;
+
+        writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+
+        textExtractor = new HtmlTextExtractor();
+
+        text = new StringBuilder();
+
+        attributeCursor = new AttributeCursor();
+
+        separator = ',';
+
+        tableIndex = -1;
+
+        tables = 0;
+
+        inTable = false;
+
+        nestedTables = 0;
+
+        tableRows = 0;
+
+        rowsWritten = false;
+
+        row = new String[16];
+
+        column = 0;
+
+        spanRows = new int[16];
+
+        spanText = new String[16];
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Restringe a extracao a uma tabela.
+     *
+     * @param tableIndex A posicao da tabela no documento (0 para a primeira), sem contar as tabelas aninhadas, ou -1
+     * para extrair todas (o default).
+     ******************************************************************************************************************/
+    public void setTableIndex(final int tableIndex) {
+
+        this.tableIndex = tableIndex;
+
+    }//setTableIndex
+
+    /*******************************************************************************************************************
+     * Define o separador dos campos.
+     *
+     * @param separator O separador. O default e a virgula.
+     ******************************************************************************************************************/
+    public void setSeparator(final char separator) {
+
+        this.separator = separator;
+
+    }//setSeparator
+
+    /*******************************************************************************************************************
+     * Inicia as tabelas, linhas e celulas.
+     *
+     * @param tag A tag localizada pelo parser.
+     *
+     * @return {@link TagParser#SKIP_SUBTREE SKIP_SUBTREE} para as tabelas que nao serao extraidas, ou
+     * <code>null</code>.
+     ******************************************************************************************************************/
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        String tagId = tag.getTagId();
+
+        if (tagId.equals("table")) {
+
+            if (inTable) {
+
+                nestedTables++;
+
+                tag.notifyClosing();
+
+                return null;
+            }
+
+            if (tableIndex >= 0 && tables++ != tableIndex) return TagParser.SKIP_SUBTREE;
+
+            inTable = true;
+
+            tableRows = 0;
+
+            tag.notifyClosing();
+
+            Arrays.fill(spanRows, 0);
+        }
+        else if (inTable && nestedTables == 0) {
+
+            if (tagId.equals("tr")) {
+
+                column = 0;
+
+                tag.notifyClosing();
+            }
+            else if (tagId.equals("td") || tagId.equals("th")) {
+
+                tag.notifyClosing();
+            }
+        }
+
+        return null;
+
+    }//openTag
+
+    /*******************************************************************************************************************
+     * Registra as celulas e escreve as linhas.
+     *
+     * @param tag A tag fechada.
+     *
+     * @throws IOException Se ocorrer erro na escrita do CSV.
+     ******************************************************************************************************************/
+    @Override
+    public void closeTag(final Tag tag) throws IOException {
+
+        String tagId = tag.getTagId();
+
+        if (tagId.equals("table")) {
+
+            if (nestedTables > 0) {
+
+                nestedTables--;
+
+                return;
+            }
+
+            inTable = false;
+
+            writer.flush();
+        }
+        else if (tagId.equals("tr")) {
+
+            endRow();
+        }
+        else {
+
+            cell(tag);
+        }
+
+    }//closeTag
+
+    /*==================================================================================================================
+     * Ocupa com o texto da celula as colunas e linhas definidas por colspan e rowspan.
+     =================================================================================================================*/
+    private void cell(final Tag tag) throws IOException {
+
+        text.setLength(0);
+
+        textExtractor.extract(source, tag.getStartTagContentIndex(), tag.getEndTagContentIndex(), text);
+
+        String value = text.toString();
+
+        int colspan = span(tag, "colspan", 1, 1000);
+
+        //rowspan="0" ocupa as linhas restantes da tabela
+        int rowspan = span(tag, "rowspan", 0, 65534);
+
+        if (rowspan == 0) rowspan = Integer.MAX_VALUE;
+
+        skipSpannedColumns();
+
+        for (int i = 0; i < colspan; i++) {
+
+            put(column, value);
+
+            if (rowspan > 1) {
+
+                spanRows[column] = rowspan - 1;
+
+                spanText[column] = value;
+            }
+
+            column++;
+        }
+
+    }//cell
+
+    /*==================================================================================================================
+     * Le um atributo numerico de span da tag de abertura no documento. Valores invalidos ou ausentes resultam em 1.
+     =================================================================================================================*/
+    private int span(final Tag tag, final String attr, final int min, final int max) {
+
+        int start = tag.getStartTagBlockIndex() + 1 + tag.getTagId().length();
+
+        attributeCursor.reset(source, start, tag.getStartTagContentIndex() - 1);
+
+        while (attributeCursor.next()) {
+
+            if (!attributeCursor.isName(attr) || !attributeCursor.hasValue()) continue;
+
+            try {
+
+                int n = Integer.parseInt(attributeCursor.getValue().trim());
+
+                return (n < min) ? 1 : Math.min(n, max);
+            }
+            catch (NumberFormatException e) {
+
+                return 1;
+            }
+        }
+
+        return 1;
+
+    }//span
+
+    /*==================================================================================================================
+     * Preenche as colunas a partir da coluna corrente que estao ocupadas por rowspans das linhas anteriores.
+     =================================================================================================================*/
+    private void skipSpannedColumns() {
+
+        while (column < spanRows.length && spanRows[column] > 0) {
+
+            put(column, spanText[column]);
+
+            spanRows[column]--;
+
+            column++;
+        }
+
+    }//skipSpannedColumns
+
+    private void put(final int col, final String value) {
+
+        if (col >= row.length) {
+
+            int capacity = Math.max(col + 1, row.length << 1);
+
+            row = Arrays.copyOf(row, capacity);
+
+            spanRows = Arrays.copyOf(spanRows, capacity);
+
+            spanText = Arrays.copyOf(spanText, capacity);
+        }
+
+        row[col] = value;
+
+    }//put
+
+    /*==================================================================================================================
+     * Completa a linha com as colunas ocupadas por rowspans e a escreve.
+     =================================================================================================================*/
+    private void endRow() throws IOException {
+
+        int width = column;
+
+        for (int i = column; i < spanRows.length; i++) {
+
+            if (spanRows[i] == 0) continue;
+
+            for (int j = width; j < i; j++) put(j, "");
+
+            put(i, spanText[i]);
+
+            spanRows[i]--;
+
+            width = i + 1;
+        }
+
+        //linhas sem celulas nao sao escritas
+        if (width == 0) return;
+
+        //uma linha vazia separa as tabelas
+        if (tableRows++ == 0 && rowsWritten) writer.write("\r\n");
+
+        rowsWritten = true;
+
+        for (int i = 0; i < width; i++) {
+
+            if (i > 0) writer.write(separator);
+
+            field(row[i]);
+
+            row[i] = null;
+        }
+
+        writer.write("\r\n");
+
+        column = 0;
+
+    }//endRow
+
+    /*==================================================================================================================
+     * Escreve um campo, entre aspas se contiver o separador, aspas ou quebras de linha.
+     =================================================================================================================*/
+    private void field(final String value) throws IOException {
+
+        boolean quoted = false;
+
+        for (int i = 0; i < value.length() && !quoted; i++) {
+
+            char c = value.charAt(i);
+
+            quoted = c == separator || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!quoted) {
+
+            writer.write(value);
+
+            return;
+        }
+
+        writer.write('"');
+
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+
+            if (c == '"') writer.write('"');
+
+            writer.write(c);
+        }
+
+        writer.write('"');
+
+    }//field
+
+}//classe TableExtractor
@@ -2,12 +2,16 @@ package toolbox.html;
 
 import java.util.HashMap;
 import java.util.Scanner;
+import java.util.Set;
 
 /***********************************************************************************************************************
  * Um objeto dessa classe armazena e fornece os dados de tags XML e HTML.
  * 
  * <p>O nome da tag, a lista de atributos (se houver) e possivelmente o conteudo do escopo da tag.
  * 
+ * <p>Se a reciclagem de tags estiver ativa no parser, o objeto so e valido durante as chamadas a openTag e closeTag
+ * referentes a ele. Veja {@link #copy() copy}.
+ * 
  * @author Pedro Reis
  * 
  * @version 1.0 
@@ -16,19 +20,38 @@ import java.util.Scanner;
  **********************************************************************************************************************/
 public final class Tag {
     
-    private final String tagName;
+    private String tagName;
+    
+    //Criado na primeira chamada a getAttrMap e reaproveitado quando o objeto e reciclado
+    private HashMap<String, String> attrMap;
+    
+    private boolean attrsParsed;
+    
+    //Trecho do documento com os atributos e filtro da projecao, para a analise tardia de attrMap
+    private String attrSource;
     
-    private final HashMap<String, String> attrMap;
+    private int attrStart;
     
-    private final int startTagBlockIndex;
+    private int attrEnd;
+    
+    private Set<String> attrFilter;
+    
+    private int startTagBlockIndex;
     
     private int endTagBlockIndex;
 
-    private final int startTagContentIndex;
+    private int startTagContentIndex;
 
     private String tagContent;
     
+    //Conteudo do documento e fim do escopo da tag, para a extracao tardia de tagContent
+    private String source;
+    
+    private int endTagContentIndex;
+    
     private boolean notifyClosing;
+    
+    private boolean selfClosing;
 
     private TagParser previousTagParser;
     
@@ -50,39 +73,172 @@ public final class Tag {
         final int startBlockIndex,
         final int startContentIndex) {
         
+        this(
+            tagName, 
+            (tagAttrs == null) ? "" : tagAttrs, 
+            0, 
+            (tagAttrs == null) ? 0 : tagAttrs.length(), 
+            startBlockIndex, 
+            startContentIndex, 
+            null
+        );
+        
+    }//construtor
+    
+    /*==================================================================================================================
+     * Construtor usado pelos parsers: os atributos sao o trecho attrStart a attrEnd de source, analisado apenas se
+     * getAttrMap for chamado. Na projecao do HtmlParser apenas os atributos em attrFilter (todos, se null) sao 
+     * mapeados.
+     =================================================================================================================*/
+    Tag(
+        final String tagName, 
+        final String source, 
+        final int attrStart,
+        final int attrEnd,
+        final int startBlockIndex,
+        final int startContentIndex,
+        final Set<String> attrFilter) {
+        
+        init(tagName, source, attrStart, attrEnd, startBlockIndex, startContentIndex, attrFilter);
+        
+    }//construtor
+    
+    /*==================================================================================================================
+     * Reinicia todos os campos, para que o objeto seja reaproveitado pelos parsers no modo de reciclagem de tags.
+     * O mapa de atributos, se ja tiver sido criado, e mantido e sera esvaziado na proxima chamada a getAttrMap.
+     =================================================================================================================*/
+    void init(
+        final String tagName, 
+        final String source, 
+        final int attrStart,
+        final int attrEnd,
+        final int startBlockIndex,
+        final int startContentIndex,
+        final Set<String> attrFilter) {
+        
         this.tagName = tagName;        
 
-        attrMap = getAttrMap(tagAttrs);
+        attrsParsed = false;
+        
+        attrSource = source;
+        
+        this.attrStart = attrStart;
+        
+        this.attrEnd = attrEnd;
+        
+        this.attrFilter = attrFilter;
         
         startTagBlockIndex = startBlockIndex;
+        
+        endTagBlockIndex = 0;
                    
         startTagContentIndex = startContentIndex;
         
         notifyClosing = false;
         
+        selfClosing = false;
+        
         tagContent = null;
         
+        this.source = null;
+        
+        endTagContentIndex = -1;
+        
         previousTagParser = null;
         
-    }//construtor
+    }//init
+    
+    /*******************************************************************************************************************
+     * Cria uma copia independente da tag. 
+     * 
+     * <p>Quando a reciclagem de tags esta ativa no parser (veja 
+     * {@link HtmlParser#setTagPooling(boolean) HtmlParser.setTagPooling}), o mesmo objeto <code>Tag</code> e 
+     * reaproveitado para outras tags do documento, e um <code>TagParser</code> que precise manter uma tag apos o 
+     * retorno de openTag (ou de closeTag, se o fechamento for notificado) deve guardar uma copia.
+     * 
+     * @return Uma nova tag com o mesmo nome, atributos, posicoes e conteudo.
+     ******************************************************************************************************************/
+    public Tag copy() {
+        
+        Tag copy = new Tag(
+            tagName, attrSource, attrStart, attrEnd, startTagBlockIndex, startTagContentIndex, attrFilter
+        );
+        
+        if (attrsParsed) {
+            
+            copy.attrMap = new HashMap<>(attrMap);
+            
+            copy.attrsParsed = true;
+        }
+        
+        copy.endTagBlockIndex = endTagBlockIndex;
+        
+        copy.tagContent = tagContent;
+        
+        copy.source = source;
+        
+        copy.endTagContentIndex = endTagContentIndex;
+        
+        copy.notifyClosing = notifyClosing;
+        
+        copy.selfClosing = selfClosing;
+        
+        return copy;
+        
+    }//copy
     
     /*==================================================================================================================
      * Cria e retorna um mapa com os pares chave/valor de todos os atributos da tag.
      =================================================================================================================*/
-    private HashMap<String, String> getAttrMap(final String tag) {
+    static HashMap<String, String> getAttrMap(final String tag) {
         
-        toolbox.regex.Regex regex = new toolbox.regex.Regex(" (.+?)=\"(.+?)\"");
+        return getAttrMap(tag, null);
         
-        regex.setTarget(tag);
+    }//getAttrMap
+    
+    /*==================================================================================================================
+     * Cria e retorna um mapa com os pares chave/valor dos atributos da tag cujos nomes estejam em filter, ou de todos
+     * se filter for null.
+     =================================================================================================================*/
+    static HashMap<String, String> getAttrMap(final String tag, final Set<String> filter) {
         
         HashMap<String, String> mapKeyValue = new HashMap<>();
         
-        while (regex.find() != null) mapKeyValue.put(regex.group(1).toLowerCase(), regex.group(2));
+        putAttrs(tag, 0, tag.length(), filter, mapKeyValue);
             
         return mapKeyValue;
         
     }//getAttrMap
     
+    /*==================================================================================================================
+     * Acrescenta ao mapa os atributos do trecho start a end de source cujos nomes estejam em filter (todos, se null).
+     * Os nomes sao convertidos para minusculas, atributos sem valor sao mapeados para "" e, como no HTML, prevalece
+     * a primeira ocorrencia de um atributo repetido.
+     =================================================================================================================*/
+    private static void putAttrs(
+        final String source,
+        final int start,
+        final int end,
+        final Set<String> filter, 
+        final HashMap<String, String> map) {
+        
+        if (filter != null && filter.isEmpty()) return;
+        
+        AttributeCursor cursor = new AttributeCursor();
+        
+        cursor.reset(source, start, end);
+        
+        while (cursor.next()) {
+            
+            String key = source.substring(cursor.getNameStart(), cursor.getNameEnd()).toLowerCase();
+            
+            if (filter != null && !filter.contains(key)) continue;
+            
+            map.putIfAbsent(key, cursor.hasValue() ? cursor.getValue() : "");
+        }
+        
+    }//putAttrs
+    
     /**
      * 
      * @param t 
@@ -150,19 +306,30 @@ public final class Tag {
      */
     public int getEndTagContentIndex() {
         
-        if (tagContent == null) return -1;
-        
-        return startTagContentIndex + tagContent.length();
+        return endTagContentIndex;
         
     }//getEndTagContentIndex
     
     /*******************************************************************************************************************
-     * Retorna o mapa com os pares chaves/valor dos atributos da tag.
+     * Retorna o mapa com os pares chaves/valor dos atributos da tag. Os atributos sao analisados na primeira chamada.
+     * 
+     * <p>Os nomes dos atributos estao em minusculas e os valores sem decodificacao das entidades. Sao reconhecidos
+     * valores entre aspas duplas, entre apostrofos e sem delimitadores, e atributos sem valor, que sao mapeados para 
+     * uma <code>String</code> vazia.
      * 
      * @return Um <code>HashMap</code> com os pares chaves/valor com os atributos da tag.
      ******************************************************************************************************************/
     public HashMap<String, String> getAttrMap() {
         
+        if (!attrsParsed) {
+            
+            if (attrMap == null) attrMap = new HashMap<>(); else attrMap.clear();
+            
+            putAttrs(attrSource, attrStart, attrEnd, attrFilter, attrMap);
+            
+            attrsParsed = true;
+        }
+        
         return attrMap;
         
     }//getAttrMap
@@ -186,7 +353,29 @@ public final class Tag {
         
         tagContent = content;
         
-    }//setTagContent    
+        source = null;
+        
+        endTagContentIndex = (content == null) ? -1 : startTagContentIndex + content.length();
+        
+    }//setTagContent 
+    
+    /*******************************************************************************************************************
+     * Define o escopo da tag sem copia-lo. A substring so e extraida de <b><i>content</i></b> na primeira chamada a
+     * {@link #getTagContent() getTagContent}.
+     * 
+     * @param content O conteudo integral do documento.
+     * 
+     * @param endContentIndex A posicao no documento do primeiro caractere apos o escopo da tag.
+     ******************************************************************************************************************/
+    protected void setTagContent(final String content, final int endContentIndex) {
+        
+        tagContent = null;
+        
+        source = content;
+        
+        endTagContentIndex = endContentIndex;
+        
+    }//setTagContent 
     
     /*******************************************************************************************************************
      * Retorna o conteudo da tag, que eh atribuido por um objeto da classe XMLParser ou HTMLParser. 
@@ -197,10 +386,44 @@ public final class Tag {
      ******************************************************************************************************************/
     public String getTagContent() {
         
+        if (tagContent == null && source != null) {
+            
+            tagContent = source.substring(startTagContentIndex, endTagContentIndex);
+            
+            source = null;
+        }
+        
         return tagContent;
         
     }//getContent
     
+    /*******************************************************************************************************************
+     * Retorna o conteudo da tag com as entidades HTML decodificadas. Veja {@link HtmlEntities#decode(java.lang.String)
+     * HtmlEntities.decode}.
+     * 
+     * @return O conteudo decodificado ou <code>null</code> se {@link #getTagContent() getTagContent} retornar 
+     * <code>null</code>.
+     ******************************************************************************************************************/
+    public String getDecodedTagContent() {
+        
+        return HtmlEntities.decode(getTagContent());
+        
+    }//getDecodedTagContent
+    
+    /*******************************************************************************************************************
+     * Retorna o valor de um atributo com as entidades HTML decodificadas. Veja 
+     * {@link HtmlEntities#decodeAttribute(java.lang.String) HtmlEntities.decodeAttribute}.
+     * 
+     * @param attr O nome do atributo.
+     * 
+     * @return O valor decodificado ou <code>null</code> se a tag nao tiver o atributo.
+     ******************************************************************************************************************/
+    public String getDecodedAttr(final String attr) {
+        
+        return HtmlEntities.decodeAttribute(getAttrMap().get(attr.toLowerCase()));
+        
+    }//getDecodedAttr
+    
     /**
      * 
      * @param attr
@@ -209,7 +432,7 @@ public final class Tag {
      */
     public boolean contains(final String attr, final String value) {
         
-        String v = attrMap.get(attr.toLowerCase());
+        String v = getAttrMap().get(attr.toLowerCase());
         
         return (value.equals(v));
         
@@ -222,7 +445,7 @@ public final class Tag {
      */
     public boolean isClass(final String clas) {
         
-        String v = attrMap.get("class");
+        String v = getAttrMap().get("class");
         
         if (v == null) return false;
         
@@ -256,6 +479,28 @@ public final class Tag {
         
     }//notifyClosing    
     
+    /*******************************************************************************************************************
+     * Para uso de objetos das classes <code>XMLParser e HTMLParser</code> apenas. Marca a tag como self-closing, 
+     * antes que ela seja passada ao metodo openTag() de um <code>TagParser</code>.
+     ******************************************************************************************************************/
+    protected void setSelfClosing() {
+        
+        selfClosing = true;
+        
+    }//setSelfClosing
+    
+    /*******************************************************************************************************************
+     * Informa se a tag e self-closing, ou seja, se nao possui escopo nem tag de fechamento. Para estas tags o metodo
+     * closeTag() de um <code>TagParser</code> nunca e executado.
+     * 
+     * @return <code>true</code> se a tag for self-closing.
+     ******************************************************************************************************************/
+    public boolean isSelfClosing() {
+        
+        return selfClosing;
+        
+    }//isSelfClosing
+    
     /*******************************************************************************************************************
      * Para uso de objetos das classes <code>XMLParser e HTMLParser</code> apenas.
      * 
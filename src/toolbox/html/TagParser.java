@@ -9,9 +9,43 @@ package toolbox.html;
  * @since 1.0 - 30 de setembro de 2024
  **********************************************************************************************************************/
 public abstract class TagParser {
+    
+    /*******************************************************************************************************************
+     * Se retornado pelo metodo openTag(), o parser nao analisa o escopo da tag: localiza diretamente a tag de 
+     * fechamento correspondente e prossegue a partir dela. Nenhuma tag do escopo e notificada, mas o fechamento da 
+     * propria tag ainda e notificado se o metodo notifyClosing() da tag tiver sido chamado. Sem efeito em tags 
+     * self-closing. Se a tag nao tiver fechamento, o escopo e analisado sem notificacoes, e o parser lanca as mesmas
+     * excecoes que lancaria sem o salto.
+     ******************************************************************************************************************/
+    public static final TagParser SKIP_SUBTREE = new Directive();
+    
+    /*******************************************************************************************************************
+     * Se retornado pelo metodo openTag(), o metodo parse() do parser retorna imediatamente, sem analisar o restante do 
+     * documento.
+     ******************************************************************************************************************/
+    public static final TagParser STOP_PARSING = new Directive();
+    
+    /*==================================================================================================================
+     * Recebe o escopo de uma tag saltada que nao tem tag de fechamento: as tags sao analisadas, para que os erros do
+     * documento sejam detectados, mas nao notificadas.
+     =================================================================================================================*/
+    static final TagParser IGNORE = new Directive();
 
     abstract public TagParser openTag(final Tag tag) throws Exception;
  
     public void closeTag(final Tag tag) throws Exception{}
+    
+/*======================================================================================================================
+ * Os objetos desta classe sao marcadores. Apenas IGNORE recebe tags, e as descarta.
+======================================================================================================================*/
+private static final class Directive extends TagParser {
+    
+    @Override
+    public TagParser openTag(final Tag tag) {
+        
+        return null;
+    }
+    
+}//classe Directive
 
 }//classe TagParser
\ No newline at end of file
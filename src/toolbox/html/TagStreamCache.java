@@ -0,0 +1,553 @@
+package toolbox.html;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/***********************************************************************************************************************
+ * Cache binario da sequencia de tags de um documento HTML ou XML, gravado ao lado do arquivo do documento.
+ *
+ * <p>Na primeira execucao o documento e analisado por um <code>HtmlParser</code> ou <code>XmlParser</code> e a
+ * sequencia de eventos (nome, posicoes da tag e dos atributos, aberturas e fechamentos) e gravada em
+ * <code>documento.tsc</code>. Nas execucoes seguintes, enquanto o tamanho e a data de modificacao do documento e o
+ * charset com que ele e lido forem os registrados no cache, os eventos sao lidos de um mapeamento em memoria do
+ * arquivo de cache e repassados ao <code>TagParser</code> sem nenhuma analise do documento, que e lido apenas para
+ * fornecer o conteudo das tags e os atributos. O <code>TagParser</code> recebe as mesmas chamadas que receberia do
+ * parser, inclusive o tratamento de <code>SKIP_SUBTREE</code>, <code>STOP_PARSING</code> e parsers internos retornados
+ * por <code>openTag</code>.
+ *
+ * <p>Formato do arquivo: cabecalho (assinatura, versao, tamanho e data do documento, tipo do documento, nome do
+ * charset), tabela dos nomes de tags e os eventos. Cada evento e um byte de tipo seguido de inteiros de tamanho
+ * variavel (7 bits por byte) com as posicoes codificadas como diferencas em relacao ao evento anterior, o que torna o
+ * cache tipicamente menor que um quinto do documento.
+ *
+ * <pre>
+ * <code>
+ * TagStreamCache cache = new TagStreamCache(path, TagStreamCache.Format.XML);
+ * cache.parse(tagParser);
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class TagStreamCache {
+
+    /**
+     * O tipo do documento, que determina o parser usado para construir o cache.
+     */
+    public enum Format {
+
+        /**
+         * Analisado por um <code>HtmlParser</code>.
+         */
+        HTML,
+
+        /**
+         * Analisado por um <code>XmlParser</code>.
+         */
+        XML
+    };
+
+    private static final int MAGIC = 0x54534331;//"TSC1"
+
+    private static final int VERSION = 2;
+
+    //Assinatura, versao, tamanho, data, tipo e o tamanho do nome do charset
+    private static final int HEADER = 27;
+
+    private static final byte OPEN = 1;
+
+    private static final byte OPEN_SELF_CLOSING = 2;
+
+    private static final byte CLOSE = 3;
+
+    private final Path source;
+
+    private final Path cacheFile;
+
+    private final Format format;
+
+    private Charset charset;
+
+    /*******************************************************************************************************************
+     * Construtor. O documento e lido com o charset default do sistema.
+     *
+     * @param source O arquivo do documento.
+     *
+     * @param format O tipo do documento.
+     ******************************************************************************************************************/
+    public TagStreamCache(final Path source, final Format format) {
+
+        this.source = source;
+
+        this.format = format;
+
+        cacheFile = source.resolveSibling(source.getFileName() + ".tsc");
+
+        charset = Charset.defaultCharset();
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Define o charset com que o documento sera lido. As posicoes registradas no cache se referem ao documento lido
+     * com um charset determinado, e um cache construido com outro charset nao e valido.
+     *
+     * @param charset O charset do documento.
+     ******************************************************************************************************************/
+    public void setCharset(final Charset charset) {
+
+        this.charset = charset;
+
+    }//setCharset
+
+    /*******************************************************************************************************************
+     * Retorna o arquivo do cache.
+     *
+     * @return O arquivo <code>documento.tsc</code> no diretorio do documento.
+     ******************************************************************************************************************/
+    public Path getCacheFile() {
+
+        return cacheFile;
+
+    }//getCacheFile
+
+    /*******************************************************************************************************************
+     * Informa se o cache existe e corresponde ao estado atual do documento e ao charset definido.
+     *
+     * @return <code>true</code> se o cache pode ser usado.
+     *
+     * @throws IOException Se ocorrer erro ao ler os atributos do documento.
+     ******************************************************************************************************************/
+    public boolean isValid() throws IOException {
+
+        if (!Files.isRegularFile(cacheFile)) return false;
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+
+            if (channel.size() < HEADER) return false;
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            return isValid(buffer);
+        }
+
+    }//isValid
+
+    /*==================================================================================================================
+     * Le o cabecalho do cache, deixando buffer posicionado na tabela de nomes.
+     =================================================================================================================*/
+    private boolean isValid(final MappedByteBuffer buffer) throws IOException {
+
+        if (
+            buffer.remaining() < HEADER ||
+            buffer.getInt() != MAGIC ||
+            buffer.getInt() != VERSION ||
+            buffer.getLong() != Files.size(source) ||
+            buffer.getLong() != Files.getLastModifiedTime(source).toMillis() ||
+            buffer.get() != format.ordinal()
+        ) return false;
+
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+
+        if (buffer.remaining() < bytes.length) return false;
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8).equals(charset.name());
+
+    }//isValid
+
+    /*******************************************************************************************************************
+     * Analisa o documento e grava o cache, substituindo o existente.
+     *
+     * @throws Exception Se o parser lancar uma excecao ou ocorrer erro de IO.
+     ******************************************************************************************************************/
+    public void build() throws Exception {
+
+        long size = Files.size(source);
+
+        long modified = Files.getLastModifiedTime(source).toMillis();
+
+        String content = Files.readString(source, charset);
+
+        Recorder recorder = new Recorder();
+
+        if (format == Format.HTML) new HtmlParser(content, recorder).parse();
+        else new XmlParser(content, recorder).parse();
+
+        Path temp = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+
+        try {
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(size);
+                out.writeLong(modified);
+                out.writeByte(format.ordinal());
+
+                byte[] charsetName = charset.name().getBytes(StandardCharsets.UTF_8);
+
+                out.writeShort(charsetName.length);
+                out.write(charsetName);
+
+                out.writeInt(recorder.names.size());
+
+                for (String name : recorder.names) {
+
+                    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+                    out.writeShort(bytes.length);
+
+                    out.write(bytes);
+                }
+
+                out.writeInt(recorder.length);
+
+                out.write(recorder.events, 0, recorder.length);
+            }
+
+            //o cache so e substituido depois de completamente gravado
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+
+            Files.deleteIfExists(temp);
+        }
+
+    }//build
+
+    /*******************************************************************************************************************
+     * Repassa os eventos do documento a um <code>TagParser</code>, a partir do cache. Se o cache nao existir ou nao
+     * corresponder ao documento, ele e reconstruido antes.
+     *
+     * @param tagParser Recebe as tags, como se fosse passado ao parser do documento.
+     *
+     * @throws Exception Se o <code>TagParser</code> ou o parser lancarem uma excecao ou ocorrer erro de IO.
+     ******************************************************************************************************************/
+    public void parse(final TagParser tagParser) throws Exception {
+
+        if (!isValid()) build();
+
+        String content = Files.readString(source, charset);
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (!isValid(buffer)) throw new IOException(cacheFile + ": the document or its charset was modified");
+
+            String[] names = new String[buffer.getInt()];
+
+            for (int i = 0; i < names.length; i++) {
+
+                byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+
+                buffer.get(bytes);
+
+                names[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int length = buffer.getInt();
+
+            new Replay(content, names, buffer, buffer.position() + length, tagParser).run();
+        }
+
+    }//parse
+
+    /*==================================================================================================================
+     * Inteiro sem sinal de tamanho variavel: 7 bits por byte, o bit mais alto indica continuacao.
+     =================================================================================================================*/
+    private static int readVarInt(final MappedByteBuffer buffer) {
+
+        int value = 0;
+
+        int shift = 0;
+
+        byte b;
+
+        do {
+
+            b = buffer.get();
+
+            value |= (b & 0x7F) << shift;
+
+            shift += 7;
+
+        } while (b < 0);
+
+        return value;
+
+    }//readVarInt
+
+    private static int readSignedVarInt(final MappedByteBuffer buffer) {
+
+        int n = readVarInt(buffer);
+
+        return (n >>> 1) ^ -(n & 1);
+
+    }//readSignedVarInt
+
+/*======================================================================================================================
+ * TagParser que registra os eventos de um parser no formato do cache.
+======================================================================================================================*/
+private static final class Recorder extends TagParser {
+
+    final List<String> names = new ArrayList<>();
+
+    final HashMap<String, Integer> nameIndex = new HashMap<>();
+
+    byte[] events = new byte[4096];
+
+    int length = 0;
+
+    //Posicao do documento registrada no ultimo evento
+    int last = 0;
+
+    @Override
+    public TagParser openTag(final Tag tag) {
+
+        Integer index = nameIndex.get(tag.getTagId());
+
+        if (index == null) {
+
+            index = names.size();
+
+            names.add(tag.getTagId());
+
+            nameIndex.put(tag.getTagId(), index);
+        }
+
+        int startBlock = tag.getStartTagBlockIndex();
+
+        int startContent = tag.getStartTagContentIndex();
+
+        //os atributos vao do fim do nome ao > (o nome fornecido pelo parser tem o tamanho do nome no documento)
+        int attrStart = startBlock + 1 + tag.getTagId().length();
+
+        int attrEnd = startContent - 1;
+
+        put(tag.isSelfClosing() ? OPEN_SELF_CLOSING : OPEN);
+        varInt(index);
+        signedVarInt(startBlock - last);
+        varInt(attrStart - startBlock);
+        varInt(attrEnd - attrStart);
+        varInt(startContent - attrEnd);
+
+        last = startContent;
+
+        if (!tag.isSelfClosing()) tag.notifyClosing();
+
+        return null;
+    }
+
+    @Override
+    public void closeTag(final Tag tag) {
+
+        put(CLOSE);
+        signedVarInt(tag.getEndTagContentIndex() - last);
+        varInt(tag.getEndTagBlockIndex() - tag.getEndTagContentIndex());
+
+        last = tag.getEndTagBlockIndex();
+    }
+
+    private void put(final int b) {
+
+        if (length == events.length) events = Arrays.copyOf(events, length << 1);
+
+        events[length++] = (byte)b;
+    }
+
+    private void varInt(final int value) {
+
+        int v = value;
+
+        while ((v & ~0x7F) != 0) {
+
+            put((v & 0x7F) | 0x80);
+
+            v >>>= 7;
+        }
+
+        put(v);
+    }
+
+    private void signedVarInt(final int value) {
+
+        varInt((value << 1) ^ (value >> 31));
+    }
+
+}//classe Recorder
+
+/*======================================================================================================================
+ * Repassa os eventos do cache a um TagParser, com a mesma semantica do metodo parse() dos parsers.
+======================================================================================================================*/
+private static final class Replay {
+
+    final String content;
+
+    final String[] names;
+
+    final MappedByteBuffer buffer;
+
+    final int end;
+
+    TagParser tagParser;
+
+    Tag[] stack = new Tag[64];
+
+    int depth = 0;
+
+    int last = 0;
+
+    Replay(
+        final String content,
+        final String[] names,
+        final MappedByteBuffer buffer,
+        final int end,
+        final TagParser tagParser) {
+
+        this.content = content;
+        this.names = names;
+        this.buffer = buffer;
+        this.end = end;
+        this.tagParser = tagParser;
+    }
+
+    void run() throws Exception {
+
+        while (buffer.position() < end) {
+
+            byte type = buffer.get();
+
+            if (type == CLOSE) {
+
+                close();
+
+                continue;
+            }
+
+            String tagId = names[readVarInt(buffer)];
+
+            int startBlock = last + readSignedVarInt(buffer);
+
+            int attrStart = startBlock + readVarInt(buffer);
+
+            int attrEnd = attrStart + readVarInt(buffer);
+
+            int startContent = attrEnd + readVarInt(buffer);
+
+            last = startContent;
+
+            Tag tag = new Tag(tagId, content, attrStart, attrEnd, startBlock, startContent, null);
+
+            if (type == OPEN_SELF_CLOSING) {
+
+                tag.setSelfClosing();
+            }
+            else {
+
+                if (depth == stack.length) stack = Arrays.copyOf(stack, depth << 1);
+
+                stack[depth++] = tag;
+            }
+
+            TagParser innerParser = tagParser.openTag(tag);
+
+            if (innerParser == TagParser.STOP_PARSING) return;
+
+            if (innerParser == TagParser.SKIP_SUBTREE) {
+
+                if (!tag.isSelfClosing()) skipSubtree();
+            }
+            else if (innerParser != null) {
+
+                tag.setPreviousParser(tagParser);
+
+                tagParser = innerParser;
+            }
+        }
+    }
+
+    /*
+     * Descarta os eventos ate o fechamento da tag do topo da pilha, e processa o fechamento.
+     */
+    void skipSubtree() throws Exception {
+
+        int level = 0;
+
+        while (buffer.position() < end) {
+
+            byte type = buffer.get();
+
+            if (type == CLOSE) {
+
+                if (level-- == 0) {
+
+                    close();
+
+                    return;
+                }
+
+                last += readSignedVarInt(buffer);
+
+                last += readVarInt(buffer);
+            }
+            else {
+
+                if (type == OPEN) level++;
+
+                readVarInt(buffer);
+
+                int startBlock = last + readSignedVarInt(buffer);
+
+                last = startBlock + readVarInt(buffer) + readVarInt(buffer) + readVarInt(buffer);
+            }
+        }
+    }
+
+    void close() throws Exception {
+
+        int endContent = last + readSignedVarInt(buffer);
+
+        int endBlock = endContent + readVarInt(buffer);
+
+        last = endBlock;
+
+        Tag tag = stack[--depth];
+
+        stack[depth] = null;
+
+        TagParser previousTagParser = tag.getPreviousParser();
+        if (previousTagParser != null) tagParser = previousTagParser;
+
+        if (tag.isNotifyClosingRequired()) {
+
+            tag.setTagContent(content, endContent);
+
+            tag.setEndTagBlockIndex(endBlock);
+
+            tagParser.closeTag(tag);
+        }
+    }
+
+}//classe Replay
+
+}//classe TagStreamCache
@@ -0,0 +1,947 @@
+package toolbox.html;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import javax.management.modelmbean.XMLParseException;
+
+/***********************************************************************************************************************
+ * Um parser XML do tipo "pull": em vez de notificar um <code>TagParser</code>, o documento e percorrido evento a evento
+ * por chamadas ao metodo {@link #next() next}, como um <code>XMLStreamReader</code> do StAX.
+ *
+ * <pre>
+ * <code>
+ * XmlCursor cursor = new XmlCursor(reader);
+ * while (cursor.next() != XmlCursor.END_DOCUMENT) {
+ *     if (cursor.getEventType() == XmlCursor.START_ELEMENT &amp;&amp; cursor.getLocalName().equals("loc")) ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>Diferentemente de um <code>XmlParser</code>, comentarios, secoes CDATA, instrucoes de processamento e a declaracao
+ * DOCTYPE sao reconhecidos como tais, e o caractere &gt; pode ocorrer nos valores de atributos entre aspas.
+ *
+ * <p>O documento e lido em blocos para um buffer que so guarda o evento corrente, de modo que documentos de varios GB
+ * sao percorridos com memoria constante. Os dados de cada evento sao validos apenas ate a proxima chamada a next().
+ * Os metodos {@link #getTextCharacters() getTextCharacters}, {@link #getTextStart() getTextStart} e
+ * {@link #getTextLength() getTextLength} dao acesso ao texto sem copia. Os nomes de elementos e atributos sao
+ * retornados a partir de um cache, e nomes repetidos nao criam novas <code>Strings</code>. Nomes e valores sao
+ * fornecidos exatamente como estao no documento: sem conversao para minusculas e sem decodificacao de entidades.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class XmlCursor {
+
+    /**
+     * Tag de abertura. Uma tag self-closing gera um evento START_ELEMENT seguido de um END_ELEMENT.
+     */
+    public static final int START_ELEMENT = 1;
+
+    /**
+     * Tag de fechamento.
+     */
+    public static final int END_ELEMENT = 2;
+
+    /**
+     * Instrucao de processamento (inclusive a declaracao &lt;?xml ...?&gt;).
+     */
+    public static final int PROCESSING_INSTRUCTION = 3;
+
+    /**
+     * Texto entre tags.
+     */
+    public static final int CHARACTERS = 4;
+
+    /**
+     * Comentario.
+     */
+    public static final int COMMENT = 5;
+
+    /**
+     * Fim do documento.
+     */
+    public static final int END_DOCUMENT = 8;
+
+    /**
+     * Declaracao DOCTYPE.
+     */
+    public static final int DTD = 11;
+
+    /**
+     * Secao CDATA.
+     */
+    public static final int CDATA = 12;
+
+    private static final int BUFFER_SIZE = 65536;
+
+    private static final int NAME_CACHE_SIZE = 256;
+
+    private final Reader reader;
+
+    private char[] buf;
+
+    //Inicio dos dados ainda nao consumidos e fim dos dados lidos no buffer
+    private int pos;
+
+    private int limit;
+
+    private boolean eof;
+
+    //Posicao no documento do primeiro caractere do buffer
+    private long base;
+
+    private int eventType;
+
+    private int tokenStart;
+
+    private int nameStart;
+
+    private int nameEnd;
+
+    private int localNameStart;
+
+    private int textStart;
+
+    private int textEnd;
+
+    private boolean emptyElement;
+
+    private boolean pendingEndElement;
+
+    private int attrCount;
+
+    private int[] attrs;
+
+    //Nomes dos elementos abertos, para conferir as tags de fechamento
+    private char[] nameStack;
+
+    private int[] nameStackOffsets;
+
+    private int depth;
+
+    private final String[] nameCache;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param reader A fonte do documento XML.
+     ******************************************************************************************************************/
+    public XmlCursor(final Reader reader) {
+
+        this.reader = reader;
+
+        buf = new char[BUFFER_SIZE];
+        pos = 0;
+        limit = 0;
+        eof = false;
+        base = 0;
+
+        eventType = 0;
+        emptyElement = false;
+        pendingEndElement = false;
+
+        attrCount = 0;
+        attrs = new int[32];
+
+        nameStack = new char[256];
+        nameStackOffsets = new int[32];
+        depth = 0;
+
+        nameCache = new String[NAME_CACHE_SIZE];
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param xmlContent O conteudo do arquivo xml.
+     ******************************************************************************************************************/
+    public XmlCursor(final String xmlContent) {
+
+        this(new StringReader(xmlContent));
+
+    }//construtor
+
+    /*==================================================================================================================
+     * Le mais dados para o buffer. Descarta o que ja foi consumido (antes de pos) ou aumenta o buffer se necessario.
+     * Retorna false no fim do documento.
+     =================================================================================================================*/
+    private boolean fill() throws IOException {
+
+        if (eof) return false;
+
+        if (pos > 0) {
+
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+
+            base += pos;
+            limit -= pos;
+            pos = 0;
+        }
+        else if (limit == buf.length) {
+
+            buf = Arrays.copyOf(buf, buf.length << 1);
+        }
+
+        int n = reader.read(buf, limit, buf.length - limit);
+
+        if (n < 0) {
+
+            eof = true;
+
+            return false;
+        }
+
+        limit += n;
+
+        return true;
+
+    }//fill
+
+    /*==================================================================================================================
+     * Garante que ha pelo menos n caracteres disponiveis a partir de pos, se o documento os tiver.
+     =================================================================================================================*/
+    private boolean available(final int n) throws IOException {
+
+        while (limit - pos < n) if (!fill()) return false;
+
+        return true;
+
+    }//available
+
+    /*==================================================================================================================
+     * Verifica se o texto a partir de pos + offset comeca com s. Requer que os caracteres ja estejam no buffer.
+     =================================================================================================================*/
+    private boolean startsWith(final int offset, final String s) {
+
+        if (limit - pos - offset < s.length()) return false;
+
+        for (int i = 0; i < s.length(); i++) if (buf[pos + offset + i] != s.charAt(i)) return false;
+
+        return true;
+
+    }//startsWith
+
+    /*==================================================================================================================
+     * Retorna a posicao, relativa a pos, do primeiro caractere apos a primeira ocorrencia de delimiter a partir de
+     * pos + from. Ou -1 se o documento terminar antes.
+     =================================================================================================================*/
+    private int skipPast(final int from, final String delimiter) throws IOException {
+
+        char first = delimiter.charAt(0);
+
+        int i = from;
+
+        while (true) {
+
+            while (pos + i < limit) {
+
+                if (buf[pos + i] == first) {
+
+                    if (!available(i + delimiter.length())) return -1;
+
+                    if (startsWith(i, delimiter)) return i + delimiter.length();
+                }
+
+                i++;
+            }
+
+            if (!fill()) return -1;
+        }
+
+    }//skipPast
+
+    /*==================================================================================================================
+     * Retorna a posicao, relativa a pos, do primeiro caractere apos o '>' que fecha uma tag ou declaracao iniciada em
+     * pos. Ignora '>' entre aspas e, em declaracoes, entre colchetes. Retorna -1 se o documento terminar antes.
+     =================================================================================================================*/
+    private int skipTag(final int from, final boolean brackets) throws IOException {
+
+        char quote = 0;
+
+        int nesting = 0;
+
+        int i = from;
+
+        while (true) {
+
+            while (pos + i < limit) {
+
+                char c = buf[pos + i++];
+
+                if (quote != 0) {
+
+                    if (c == quote) quote = 0;
+                }
+                else if (c == '"' || c == '\'') {
+
+                    quote = c;
+                }
+                else if (brackets && c == '[') {
+
+                    nesting++;
+                }
+                else if (brackets && c == ']') {
+
+                    nesting--;
+                }
+                else if (c == '>' && nesting <= 0) {
+
+                    return i;
+                }
+            }
+
+            if (!fill()) return -1;
+        }
+
+    }//skipTag
+
+    /*==================================================================================================================
+     * Retorna a posicao, relativa a pos, do proximo '<' ou do fim do documento.
+     =================================================================================================================*/
+    private int skipText() throws IOException {
+
+        int i = 0;
+
+        while (true) {
+
+            while (pos + i < limit) {
+
+                if (buf[pos + i] == '<') return i;
+
+                i++;
+            }
+
+            if (!fill()) return i;
+        }
+
+    }//skipText
+
+    /*==================================================================================================================
+     * Durante a leitura de um evento, pos ainda aponta para o inicio do evento.
+     =================================================================================================================*/
+    private XMLParseException exception(final String msg) {
+
+        return new XMLParseException(msg + " [" + (base + pos) + ']');
+
+    }//exception
+
+    /*******************************************************************************************************************
+     * Avanca para o proximo evento do documento.
+     *
+     * @return O tipo do evento. {@link #END_DOCUMENT END_DOCUMENT} quando o documento terminar, e em todas as chamadas
+     * subsequentes.
+     *
+     * @throws IOException Em caso de erro de IO.
+     *
+     * @throws XMLParseException Se uma tag de fechamento nao casar com a tag aberta, se um comentario, secao CDATA ou
+     * tag nao for terminado, ou se o documento terminar com tags abertas.
+     ******************************************************************************************************************/
+    public int next() throws IOException, XMLParseException {
+
+        if (pendingEndElement) {
+
+            pendingEndElement = false;
+
+            emptyElement = false;
+
+            attrCount = 0;
+
+            return eventType = END_ELEMENT;
+        }
+
+        if (eventType == END_DOCUMENT) return END_DOCUMENT;
+
+        attrCount = 0;
+
+        emptyElement = false;
+
+        if (!available(1)) {
+
+            tokenStart = pos;
+
+            if (depth > 0) throw exception('<' + getStackedName() + "> -> ?");
+
+            return eventType = END_DOCUMENT;
+        }
+
+        if (buf[pos] != '<') {
+
+            int end = skipText();
+
+            tokenStart = textStart = pos;
+            textEnd = pos + end;
+            pos = textEnd;
+
+            return eventType = CHARACTERS;
+        }
+
+        available(9);
+
+        int end;
+
+        if (startsWith(1, "!--")) {
+
+            if ((end = skipPast(4, "-->")) < 0) throw exception("<!--");
+
+            setText(4, end - 3, end);
+
+            eventType = COMMENT;
+        }
+        else if (startsWith(1, "![CDATA[")) {
+
+            if ((end = skipPast(9, "]]>")) < 0) throw exception("<![CDATA[");
+
+            setText(9, end - 3, end);
+
+            eventType = CDATA;
+        }
+        else if (startsWith(1, "?")) {
+
+            if ((end = skipPast(2, "?>")) < 0) throw exception("<?");
+
+            setText(2, end - 2, end);
+
+            eventType = PROCESSING_INSTRUCTION;
+        }
+        else if (startsWith(1, "!")) {
+
+            if ((end = skipTag(2, true)) < 0) throw exception("<!");
+
+            setText(2, end - 1, end);
+
+            eventType = DTD;
+        }
+        else if (startsWith(1, "/")) {
+
+            if ((end = skipTag(2, false)) < 0) throw exception("</");
+
+            tokenStart = pos;
+
+            parseName(pos + 2, pos + end - 1);
+
+            popName();
+
+            pos += end;
+
+            eventType = END_ELEMENT;
+        }
+        else {
+
+            if ((end = skipTag(1, false)) < 0) throw exception("<");
+
+            tokenStart = pos;
+
+            int tagEnd = pos + end - 1;
+
+            emptyElement = buf[tagEnd - 1] == '/';
+
+            if (emptyElement) tagEnd--;
+
+            int i = parseName(pos + 1, tagEnd);
+
+            parseAttributes(i, tagEnd);
+
+            pos += end;
+
+            if (emptyElement) pendingEndElement = true; else pushName();
+
+            eventType = START_ELEMENT;
+        }
+
+        return eventType;
+
+    }//next
+
+    /*==================================================================================================================
+     * Define o texto do evento e consome o evento. Todas as posicoes sao relativas a pos.
+     =================================================================================================================*/
+    private void setText(final int start, final int end, final int tokenEnd) {
+
+        tokenStart = pos;
+        textStart = pos + start;
+        textEnd = pos + end;
+
+        pos += tokenEnd;
+
+    }//setText
+
+    private static boolean isWhitespace(final char c) {
+
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+
+    }//isWhitespace
+
+    /*==================================================================================================================
+     * Localiza o nome da tag a partir de from. Retorna a posicao do primeiro caractere apos o nome.
+     =================================================================================================================*/
+    private int parseName(final int from, final int to) throws XMLParseException {
+
+        int i = from;
+
+        localNameStart = nameStart = from;
+
+        while (i < to && !isWhitespace(buf[i]) && buf[i] != '/') {
+
+            if (buf[i] == ':') localNameStart = i + 1;
+
+            i++;
+        }
+
+        nameEnd = i;
+
+        if (nameEnd == nameStart) throw exception("<>");
+
+        return i;
+
+    }//parseName
+
+    /*==================================================================================================================
+     * Registra as posicoes dos nomes e valores dos atributos em attrs.
+     =================================================================================================================*/
+    private void parseAttributes(int i, final int to) throws XMLParseException {
+
+        while (true) {
+
+            while (i < to && isWhitespace(buf[i])) i++;
+
+            if (i >= to) return;
+
+            int ns = i;
+
+            while (i < to && buf[i] != '=' && !isWhitespace(buf[i])) i++;
+
+            int ne = i;
+
+            while (i < to && isWhitespace(buf[i])) i++;
+
+            if (i >= to || buf[i] != '=') throw exception(new String(buf, ns, ne - ns) + " =");
+
+            i++;
+
+            while (i < to && isWhitespace(buf[i])) i++;
+
+            char quote = (i < to) ? buf[i] : 0;
+
+            if (quote != '"' && quote != '\'') throw exception(new String(buf, ns, ne - ns) + "= ?");
+
+            int vs = ++i;
+
+            while (i < to && buf[i] != quote) i++;
+
+            if (attrs.length < (attrCount + 1) * 4) attrs = Arrays.copyOf(attrs, attrs.length << 1);
+
+            int k = attrCount++ * 4;
+
+            attrs[k] = ns;
+            attrs[k + 1] = ne;
+            attrs[k + 2] = vs;
+            attrs[k + 3] = i++;
+        }
+
+    }//parseAttributes
+
+    /*==================================================================================================================
+     * Empilha o nome do elemento aberto.
+     =================================================================================================================*/
+    private void pushName() {
+
+        int offset = (depth == 0) ? 0 : nameStackOffsets[depth];
+
+        int length = nameEnd - nameStart;
+
+        if (depth + 2 > nameStackOffsets.length) nameStackOffsets = Arrays.copyOf(nameStackOffsets, (depth + 2) << 1);
+
+        while (offset + length > nameStack.length) nameStack = Arrays.copyOf(nameStack, nameStack.length << 1);
+
+        System.arraycopy(buf, nameStart, nameStack, offset, length);
+
+        nameStackOffsets[depth] = offset;
+        nameStackOffsets[++depth] = offset + length;
+
+    }//pushName
+
+    /*==================================================================================================================
+     * Desempilha o nome do elemento, conferindo se ele casa com o nome da tag de fechamento.
+     =================================================================================================================*/
+    private void popName() throws XMLParseException {
+
+        if (depth == 0) throw exception(" -> </" + getName() + '>');
+
+        int offset = nameStackOffsets[depth - 1];
+
+        int length = nameStackOffsets[depth] - offset;
+
+        boolean match = length == nameEnd - nameStart;
+
+        for (int i = 0; match && i < length; i++) match = nameStack[offset + i] == buf[nameStart + i];
+
+        if (!match) throw exception('<' + getStackedName() + "> -> </" + getName() + '>');
+
+        depth--;
+
+    }//popName
+
+    private String getStackedName() {
+
+        int offset = nameStackOffsets[depth - 1];
+
+        return new String(nameStack, offset, nameStackOffsets[depth] - offset);
+
+    }//getStackedName
+
+    /*==================================================================================================================
+     * Retorna uma String com os caracteres de buf entre start e end, reaproveitando a do cache se for igual.
+     =================================================================================================================*/
+    private String name(final int start, final int end) {
+
+        int h = 0;
+
+        for (int i = start; i < end; i++) h = 31 * h + buf[i];
+
+        int slot = (h ^ (h >>> 16)) & (NAME_CACHE_SIZE - 1);
+
+        String s = nameCache[slot];
+
+        if (s != null && s.length() == end - start) {
+
+            int i = 0;
+
+            while (i < s.length() && s.charAt(i) == buf[start + i]) i++;
+
+            if (i == s.length()) return s;
+        }
+
+        return nameCache[slot] = new String(buf, start, end - start);
+
+    }//name
+
+    private void checkElement() {
+
+        if (eventType != START_ELEMENT && eventType != END_ELEMENT) throw new IllegalStateException();
+
+    }//checkElement
+
+    private int attr(final int index) {
+
+        if (eventType != START_ELEMENT || index < 0 || index >= attrCount) throw new IndexOutOfBoundsException();
+
+        return index * 4;
+
+    }//attr
+
+    /*******************************************************************************************************************
+     * Retorna o tipo do evento corrente.
+     *
+     * @return O tipo do ultimo evento retornado por next().
+     ******************************************************************************************************************/
+    public int getEventType() {
+
+        return eventType;
+
+    }//getEventType
+
+    /*******************************************************************************************************************
+     * Retorna a posicao no documento do primeiro caractere do evento corrente.
+     *
+     * @return A posicao do evento.
+     ******************************************************************************************************************/
+    public long getOffset() {
+
+        return base + tokenStart;
+
+    }//getOffset
+
+    /*******************************************************************************************************************
+     * Retorna o numero de elementos abertos. Em um evento START_ELEMENT inclui o proprio elemento, exceto se ele for
+     * self-closing.
+     *
+     * @return A profundidade do evento corrente na arvore do documento.
+     ******************************************************************************************************************/
+    public int getDepth() {
+
+        return depth;
+
+    }//getDepth
+
+    /*******************************************************************************************************************
+     * Retorna o nome qualificado (com prefixo, se houver) do elemento em um evento START_ELEMENT ou END_ELEMENT.
+     *
+     * @return O nome da tag.
+     *
+     * @throws IllegalStateException Se o evento corrente nao for START_ELEMENT ou END_ELEMENT.
+     ******************************************************************************************************************/
+    public String getName() {
+
+        checkElement();
+
+        return name(nameStart, nameEnd);
+
+    }//getName
+
+    /*******************************************************************************************************************
+     * Retorna o nome do elemento sem o prefixo de namespace em um evento START_ELEMENT ou END_ELEMENT.
+     *
+     * @return O nome local da tag.
+     *
+     * @throws IllegalStateException Se o evento corrente nao for START_ELEMENT ou END_ELEMENT.
+     ******************************************************************************************************************/
+    public String getLocalName() {
+
+        checkElement();
+
+        return name(localNameStart, nameEnd);
+
+    }//getLocalName
+
+    /*******************************************************************************************************************
+     * Compara o nome local do elemento corrente com <b><i>localName</i></b> sem criar objetos.
+     *
+     * @param localName Um nome sem prefixo.
+     *
+     * @return <code>true</code> se o evento corrente for START_ELEMENT ou END_ELEMENT e o nome local do elemento for
+     * igual a <b><i>localName</i></b>.
+     ******************************************************************************************************************/
+    public boolean isLocalName(final String localName) {
+
+        if (eventType != START_ELEMENT && eventType != END_ELEMENT) return false;
+
+        return equals(localNameStart, nameEnd, localName);
+
+    }//isLocalName
+
+    private boolean equals(final int start, final int end, final String s) {
+
+        if (end - start != s.length()) return false;
+
+        for (int i = 0; i < s.length(); i++) if (buf[start + i] != s.charAt(i)) return false;
+
+        return true;
+
+    }//equals
+
+    /*******************************************************************************************************************
+     * Informa se o elemento do evento START_ELEMENT corrente e self-closing. O proximo evento sera o END_ELEMENT do
+     * proprio elemento.
+     *
+     * @return <code>true</code> se a tag for da forma &lt;nome ... /&gt;.
+     ******************************************************************************************************************/
+    public boolean isEmptyElement() {
+
+        return emptyElement;
+
+    }//isEmptyElement
+
+    /*******************************************************************************************************************
+     * Retorna o numero de atributos da tag de um evento START_ELEMENT.
+     *
+     * @return O numero de atributos, ou 0 se o evento corrente nao for START_ELEMENT.
+     ******************************************************************************************************************/
+    public int getAttributeCount() {
+
+        return (eventType == START_ELEMENT) ? attrCount : 0;
+
+    }//getAttributeCount
+
+    /**
+     *
+     * @param index
+     * @return
+     */
+    public String getAttributeName(final int index) {
+
+        int k = attr(index);
+
+        return name(attrs[k], attrs[k + 1]);
+
+    }//getAttributeName
+
+    /**
+     *
+     * @param index
+     * @return
+     */
+    public String getAttributeLocalName(final int index) {
+
+        int k = attr(index);
+
+        int start = attrs[k];
+
+        for (int i = attrs[k]; i < attrs[k + 1]; i++) if (buf[i] == ':') start = i + 1;
+
+        return name(start, attrs[k + 1]);
+
+    }//getAttributeLocalName
+
+    /**
+     *
+     * @param index
+     * @return
+     */
+    public String getAttributeValue(final int index) {
+
+        int k = attr(index);
+
+        return new String(buf, attrs[k + 2], attrs[k + 3] - attrs[k + 2]);
+
+    }//getAttributeValue
+
+    /*******************************************************************************************************************
+     * Retorna o valor de um atributo da tag de um evento START_ELEMENT pelo seu nome qualificado.
+     *
+     * @param name O nome do atributo, como aparece no documento.
+     *
+     * @return O valor do atributo ou <code>null</code> se a tag nao tiver este atributo.
+     ******************************************************************************************************************/
+    public String getAttributeValue(final String name) {
+
+        int count = getAttributeCount();
+
+        for (int i = 0; i < count; i++) if (equals(attrs[i * 4], attrs[i * 4 + 1], name)) return getAttributeValue(i);
+
+        return null;
+
+    }//getAttributeValue
+
+    private void checkText() {
+
+        switch (eventType) {
+
+            case CHARACTERS:
+            case COMMENT:
+            case CDATA:
+            case PROCESSING_INSTRUCTION:
+            case DTD:
+                return;
+
+            default:
+                throw new IllegalStateException();
+        }
+
+    }//checkText
+
+    /*******************************************************************************************************************
+     * Retorna o texto de um evento CHARACTERS, CDATA, COMMENT, PROCESSING_INSTRUCTION ou DTD. Para os quatro ultimos,
+     * sem os delimitadores.
+     *
+     * @return O texto do evento.
+     *
+     * @throws IllegalStateException Se o evento corrente nao tiver texto.
+     ******************************************************************************************************************/
+    public String getText() {
+
+        checkText();
+
+        return new String(buf, textStart, textEnd - textStart);
+
+    }//getText
+
+    /*******************************************************************************************************************
+     * Da acesso sem copia ao texto do evento corrente. O texto ocupa as posicoes getTextStart() ate
+     * getTextStart() + getTextLength() - 1 do array retornado, que so deve ser lido e apenas ate a proxima chamada a
+     * next().
+     *
+     * @return O buffer interno do cursor.
+     *
+     * @throws IllegalStateException Se o evento corrente nao tiver texto.
+     ******************************************************************************************************************/
+    public char[] getTextCharacters() {
+
+        checkText();
+
+        return buf;
+
+    }//getTextCharacters
+
+    /**
+     *
+     * @return
+     */
+    public int getTextStart() {
+
+        checkText();
+
+        return textStart;
+
+    }//getTextStart
+
+    /**
+     *
+     * @return
+     */
+    public int getTextLength() {
+
+        checkText();
+
+        return textEnd - textStart;
+
+    }//getTextLength
+
+    /*******************************************************************************************************************
+     * Informa se o texto de um evento CHARACTERS contem apenas espacos em branco.
+     *
+     * @return <code>true</code> se o evento for CHARACTERS e o texto so tiver espacos, tabulacoes e quebras de linha.
+     ******************************************************************************************************************/
+    public boolean isWhiteSpace() {
+
+        if (eventType != CHARACTERS) return false;
+
+        for (int i = textStart; i < textEnd; i++) if (!isWhitespace(buf[i])) return false;
+
+        return true;
+
+    }//isWhiteSpace
+
+    /*******************************************************************************************************************
+     * Retorna o alvo de uma instrucao de processamento.
+     *
+     * @return O nome que segue &lt;? ou <code>null</code> se o evento corrente nao for PROCESSING_INSTRUCTION.
+     ******************************************************************************************************************/
+    public String getPITarget() {
+
+        if (eventType != PROCESSING_INSTRUCTION) return null;
+
+        int i = textStart;
+
+        while (i < textEnd && !isWhitespace(buf[i])) i++;
+
+        return name(textStart, i);
+
+    }//getPITarget
+
+    /*******************************************************************************************************************
+     * Retorna os dados de uma instrucao de processamento.
+     *
+     * @return O texto apos o alvo ou <code>null</code> se o evento corrente nao for PROCESSING_INSTRUCTION.
+     ******************************************************************************************************************/
+    public String getPIData() {
+
+        if (eventType != PROCESSING_INSTRUCTION) return null;
+
+        int i = textStart;
+
+        while (i < textEnd && !isWhitespace(buf[i])) i++;
+
+        while (i < textEnd && isWhitespace(buf[i])) i++;
+
+        return new String(buf, i, textEnd - i);
+
+    }//getPIData
+
+    /*******************************************************************************************************************
+     * Fecha a fonte do documento.
+     *
+     * @throws IOException Em caso de erro de IO.
+     ******************************************************************************************************************/
+    public void close() throws IOException {
+
+        reader.close();
+
+    }//close
+
+}//classe XmlCursor
@@ -1,7 +1,7 @@
 package toolbox.html;
 
-import java.util.LinkedList;
-import java.util.NoSuchElementException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import javax.management.modelmbean.XMLParseException;
 
 /**
@@ -18,7 +18,18 @@ public final class XmlParser {
 
     private TagParser tagParser;
 
-    private LinkedList<Tag> stack;
+    private ArrayDeque<Tag> stack;
+
+    //null quando a instrumentacao esta desativada
+    private ParserStats stats;
+
+    //Tags recicladas, indexadas pela profundidade. null quando a reciclagem esta desativada
+    private Tag[] tagPool;
+
+    //Os nomes ja encontrados, em minusculas, em uma tabela de espalhamento com sondagem linear
+    private String[] names;
+
+    private int nameCount;
 
     /**
      * *****************************************************************************************************************
@@ -33,15 +44,199 @@ public final class XmlParser {
 
         this.xmlContent = xmlContent;
 
-        tagRegex = new toolbox.regex.Regex("</?(\\w+)([\\s\\S]*?)>");
+        //Comentarios, secoes CDATA, instrucoes de processamento e declaracoes sao localizados para serem ignorados. Os
+        //nomes incluem prefixos de namespace e os caracteres . e - (dc:creator, xhtml:link, image.loc)
+        tagRegex = new toolbox.regex.Regex(
+            "<!--[\\s\\S]*?-->|<!\\[CDATA\\[[\\s\\S]*?\\]\\]>|<\\?[\\s\\S]*?\\?>|<!(?:[^>\\[]++|\\[[\\s\\S]*?\\])*+>|" +
+            "</?(\\w[\\w:.-]*+)((?:[^>\"']++|\"[^\"]*+\"|'[^']*+')*+)>"
+        );
         tagRegex.setTarget(xmlContent);
 
-        stack = new LinkedList<>();
+        stack = new ArrayDeque<>();
+
+        stats = null;
+
+        tagPool = null;
+
+        names = new String[64];
+
+        nameCount = 0;
 
         this.tagParser = tagParser;
 
     }//construtor
 
+    /*******************************************************************************************************************
+     * Ativa a coleta de estatisticas de execucao. Veja {@link ParserStats ParserStats}.
+     *
+     * @param stats O objeto que acumulara as estatisticas, ou <code>null</code> para desativar a coleta (o default).
+     ******************************************************************************************************************/
+    public void setStats(final ParserStats stats) {
+
+        this.stats = stats;
+
+    }//setStats
+
+    /*******************************************************************************************************************
+     * Retorna o objeto que acumula as estatisticas de execucao.
+     *
+     * @return O objeto passado a {@link #setStats(ParserStats) setStats}, ou <code>null</code> se a coleta estiver
+     * desativada.
+     ******************************************************************************************************************/
+    public ParserStats getStats() {
+
+        return stats;
+
+    }//getStats
+
+    /*******************************************************************************************************************
+     * Ativa a reciclagem dos objetos <code>Tag</code>. Deve ser chamado antes do metodo parse(). Veja
+     * {@link HtmlParser#setTagPooling(boolean) HtmlParser.setTagPooling}.
+     *
+     * @param pooling <code>true</code> para reciclar as tags. O default e <code>false</code>.
+     ******************************************************************************************************************/
+    public void setTagPooling(final boolean pooling) {
+
+        if (!pooling) tagPool = null; else if (tagPool == null) tagPool = new Tag[64];
+
+    }//setTagPooling
+
+    /*==================================================================================================================
+     * Cria a tag ou, com a reciclagem ativa, reinicia a tag do nivel de profundidade corrente.
+     =================================================================================================================*/
+    private Tag newTag(final String tagId, final int attrStart, final int attrEnd, final int start, final int end) {
+
+        if (tagPool == null) return new Tag(tagId, xmlContent, attrStart, attrEnd, start, end, null);
+
+        int depth = stack.size();
+
+        if (depth >= tagPool.length) tagPool = Arrays.copyOf(tagPool, Math.max(depth + 1, tagPool.length << 1));
+
+        Tag tag = tagPool[depth];
+
+        if (tag == null) {
+
+            tag = new Tag(tagId, xmlContent, attrStart, attrEnd, start, end, null);
+
+            tagPool[depth] = tag;
+        }
+        else {
+
+            tag.init(tagId, xmlContent, attrStart, attrEnd, start, end, null);
+        }
+
+        return tag;
+
+    }//newTag
+
+    /*==================================================================================================================
+     * Retorna o nome em minusculas de xmlContent[start, end). Cada nome distinto do documento e alocado apenas uma vez:
+     * as ocorrencias seguintes sao localizadas na tabela comparando os caracteres do documento.
+     =================================================================================================================*/
+    private String name(final int start, final int end) {
+
+        int length = end - start;
+
+        //o mesmo valor de hashCode() do nome em minusculas
+        int hash = 0;
+
+        for (int i = start; i < end; i++) hash = 31 * hash + Character.toLowerCase(xmlContent.charAt(i));
+
+        int mask = names.length - 1;
+
+        int slot = (hash ^ (hash >>> 16)) & mask;
+
+        for (String name; (name = names[slot]) != null; slot = (slot + 1) & mask) {
+
+            if (name.length() == length && xmlContent.regionMatches(true, start, name, 0, length)) return name;
+        }
+
+        String name = xmlContent.substring(start, end).toLowerCase();
+
+        names[slot] = name;
+
+        if (++nameCount << 1 > names.length) {
+
+            String[] old = names;
+
+            names = new String[old.length << 1];
+
+            mask = names.length - 1;
+
+            for (String n : old) {
+
+                if (n == null) continue;
+
+                int h = n.hashCode();
+
+                for (slot = (h ^ (h >>> 16)) & mask; names[slot] != null; slot = (slot + 1) & mask);
+
+                names[slot] = n;
+            }
+        }
+
+        return name;
+
+    }//name
+
+    /*==================================================================================================================
+     * Chama o metodo openTag() do TagParser corrente, medindo seu tempo se as estatisticas estiverem ativas.
+     =================================================================================================================*/
+    private TagParser openTag(final Tag tag) throws Exception {
+
+        if (stats == null) return tagParser.openTag(tag);
+
+        long start = System.nanoTime();
+
+        try {
+
+            return tagParser.openTag(tag);
+        }
+        finally {
+
+            stats.addCallback(System.nanoTime() - start);
+        }
+
+    }//openTag
+
+    /*==================================================================================================================
+     * Restaura o TagParser anterior a abertura da tag e notifica seu fechamento, se solicitado.
+     =================================================================================================================*/
+    private void closeTag(final Tag tag, final int endContentIndex, final int endBlockIndex) throws Exception {
+        
+        TagParser previousTagParser = tag.getPreviousParser();
+        if (previousTagParser != null) tagParser = previousTagParser;                    
+
+        if (tag.isNotifyClosingRequired()) {
+
+            tag.setTagContent(xmlContent, endContentIndex);
+
+            tag.setEndTagBlockIndex(endBlockIndex);  
+
+            if (stats == null) {
+
+                tagParser.closeTag(tag);
+
+                return;
+            }
+
+            stats.addCaptured(endContentIndex - tag.getStartTagContentIndex());
+
+            long start = System.nanoTime();
+
+            try {
+
+                tagParser.closeTag(tag);
+            }
+            finally {
+
+                stats.addCallback(System.nanoTime() - start);
+            }
+
+        }
+        
+    }//closeTag
+
     /**
      * *****************************************************************************************************************
      * Realiza o parse de um arquivo XML.
@@ -52,59 +247,124 @@ public final class XmlParser {
      */
     public void parse() throws Exception {
 
-        String match;
-        Tag tag;
+        if (stats == null) {
 
-        while ((match = tagRegex.find()) != null) {
+            parseDocument();
 
-            String tagId = tagRegex.group(1).toLowerCase();
+            return;
+        }
 
-            int tagPosition = tagRegex.start();
+        long start = System.nanoTime();
 
-            if (match.charAt(1) == '/') {
+        try {
 
-                try {
+            parseDocument();
+        }
+        finally {
 
-                    tag = stack.pop();
-                    
-                } catch (NoSuchElementException e) {
+            stats.addDocument(xmlContent.length(), System.nanoTime() - start);
+        }
 
-                    throw new XMLParseException(" -> </" + tagId + '>');
-                }
+    }//parse
 
-                if (!tagId.equals(tag.getTagId())) {
-                    throw new XMLParseException('<' + tag.getTagId() + "> -> </" + tagId + '>');
+    /*==================================================================================================================
+     *
+     =================================================================================================================*/
+    private void parseDocument() throws Exception {
+
+        Tag tag;
+        
+        //Posicao onde a pesquisa deve prosseguir apos o salto de um escopo, ou -1
+        int resume = -1;
+
+        //As ocorrencias sao tratadas pelas posicoes, sem copia do texto da tag
+        while ((resume < 0) ? tagRegex.findNext() : tagRegex.findNext(resume)) {
+            
+            resume = -1;
+
+            int nameStart = tagRegex.start(1);
+            
+            if (nameStart < 0) continue;
+
+            if (stats != null) stats.addTag();
+            
+            int nameEnd = tagRegex.end(1);
+
+            int tagPosition = tagRegex.start();
+            
+            int tagEnd = tagRegex.end();
+
+            if (xmlContent.charAt(tagPosition + 1) == '/') {
+
+                //o fechamento e comparado com o topo da pilha sem a criacao de uma String
+                if (stack.isEmpty()) {
+                    throw new XMLParseException(" -> </" + xmlContent.substring(nameStart, nameEnd) + '>');
                 }
                 
-                TagParser previousTagParser = tag.getPreviousParser();
-                if (previousTagParser != null) tagParser = previousTagParser;                    
+                tag = stack.pop();
 
-                if (tag.isNotifyClosingRequired()) {
-
-                    tag.setTagContent(xmlContent.substring(tag.getStartTagContentIndex(), tagPosition));
-                    
-                    tag.setEndTagBlockIndex(tagPosition + match.length());  
-                    
-                    tagParser.closeTag(tag);
+                String topId = tag.getTagId();
 
+                if (
+                    topId.length() != nameEnd - nameStart ||
+                    !xmlContent.regionMatches(true, nameStart, topId, 0, topId.length())
+                ) {
+                    throw new XMLParseException(
+                        '<' + topId + "> -> </" + xmlContent.substring(nameStart, nameEnd).toLowerCase() + '>'
+                    );
                 }
+                
+                closeTag(tag, tagPosition, tagEnd);
 
             } else {
 
-                tag = new Tag(
+                String tagId = name(nameStart, nameEnd);
+
+                //os atributos (grupo 2) vao do fim do nome ao >, sem copia
+                tag = newTag(
                     tagId,
-                    tagRegex.group(2),
+                    nameEnd,
+                    tagEnd - 1,
                     tagPosition,
-                    tagPosition + match.length()
+                    tagEnd
                 );
 
-                if (!match.endsWith("/>")) {
+                if (xmlContent.charAt(tagEnd - 2) == '/') {
+                    tag.setSelfClosing();
+                } else {
                     stack.push(tag);
+
+                    if (stats != null) stats.updateDepth(stack.size());
                 }
 
-                TagParser innerParser = tagParser.openTag(tag);
+                TagParser innerParser = openTag(tag);
                 
-                if (innerParser != null) {
+                if (innerParser == TagParser.STOP_PARSING) return;
+                
+                if (innerParser == TagParser.SKIP_SUBTREE) {
+                    
+                    if (tag.isSelfClosing()) continue;
+                    
+                    int closeStart = 
+                        HtmlParser.indexOfClosingTag(xmlContent, tagId, tag.getStartTagContentIndex(), false, true);
+                    
+                    int closeEnd = (closeStart < 0) ? 0 : xmlContent.indexOf('>', closeStart) + 1;
+                    
+                    if (closeEnd == 0) {
+                        
+                        //sem tag de fechamento: o escopo e analisado sem notificacoes, e o documento e rejeitado
+                        //exatamente como seria sem o salto
+                        tag.setPreviousParser(tagParser);
+                        tagParser = TagParser.IGNORE;
+                        
+                        continue;
+                    }
+                    
+                    closeTag(stack.pop(), closeStart, closeEnd);
+                    
+                    resume = closeEnd;
+                }
+                else if (innerParser != null) {
                     
                     tag.setPreviousParser(tagParser);
                     tagParser = innerParser;
@@ -115,6 +375,6 @@ public final class XmlParser {
 
         }//while
 
-    }//parse
+    }//parseDocument
 
 }//classe XmlParser
@@ -0,0 +1,531 @@
+package toolbox.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/***********************************************************************************************************************
+ * Localizadores especializados para as formas mais simples de expressao regular, usados pela classe {@link Regex Regex}
+ * no lugar de <code>java.util.regex</code>, com o mesmo resultado:
+ *
+ * <ul>
+ * <li>literais (<code>abc</code>, <code>\.html</code>, ou qualquer expressao com a flag <code>LITERAL</code>):
+ * localizados com <code>String.indexOf</code>, que a JVM implementa com instrucoes vetoriais;</li>
+ * <li>alternativas de literais (<code>get|set|is</code>, <code>(?:a|b)</code>, <code>(a|b)</code>): localizadas em uma
+ * unica passagem pelo alvo com um automato de Aho-Corasick, com a mesma prioridade das alternativas que o
+ * <code>java.util.regex</code> (a ocorrencia que comeca antes e, entre as que comecam na mesma posicao, a primeira
+ * alternativa);</li>
+ * <li>sufixos (<code>.*\.html</code>, <code>^.+\.txt$</code>): apenas no metodo {@link #matches(String) matches}, que
+ * verifica o sufixo e a ausencia de quebras de linha. As pesquisas com estes padroes usam <code>java.util.regex</code>.
+ * </li>
+ * </ul>
+ *
+ * <p>Os objetos sao imutaveis e mantidos pelo {@link PatternCache PatternCache}: o estado de cada pesquisa fica no
+ * objeto <code>Regex</code>. Expressoes com flags (exceto <code>LITERAL</code>) nao sao especializadas.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+abstract class MatchEngine {
+
+    /*==================================================================================================================
+     * Informa se a expressao corresponde a totalidade de input.
+     =================================================================================================================*/
+    abstract boolean matches(String input);
+
+    /*==================================================================================================================
+     * Retorna o localizador especializado da expressao, ou null se ela so puder ser tratada por java.util.regex.
+     =================================================================================================================*/
+    static MatchEngine analyze(final String regex, final int flags) {
+
+        if (flags == Pattern.LITERAL) return regex.isEmpty() ? null : new Literal(regex, false);
+
+        if (flags != 0 || regex.isEmpty()) return null;
+
+        String literal = unescape(regex, 0, regex.length());
+
+        if (literal != null) return new Literal(literal, false);
+
+        MatchEngine engine = suffix(regex);
+
+        if (engine != null) return engine;
+
+        //(a|b), (?:a|b) ou a|b
+        int start = 0;
+
+        int end = regex.length();
+
+        boolean capturing = false;
+
+        if (regex.charAt(0) == '(' && regex.charAt(end - 1) == ')' && !isEscaped(regex, end - 1)) {
+
+            if (regex.startsWith("(?:")) {
+
+                start = 3;
+            }
+            else if (regex.length() > 1 && regex.charAt(1) != '?') {
+
+                start = 1;
+
+                capturing = true;
+            }
+            else {
+
+                return null;
+            }
+
+            end--;
+        }
+
+        List<String> alternatives = new ArrayList<>();
+
+        int from = start;
+
+        for (int i = start; i <= end; i++) {
+
+            if (i < end && regex.charAt(i) == '\\') {
+
+                i++;
+
+                continue;
+            }
+
+            if (i == end || regex.charAt(i) == '|') {
+
+                String alternative = unescape(regex, from, i);
+
+                if (alternative == null || alternative.isEmpty()) return null;
+
+                alternatives.add(alternative);
+
+                from = i + 1;
+            }
+        }
+
+        if (alternatives.size() == 1) return new Literal(alternatives.get(0), capturing);
+
+        return new Alternation(alternatives.toArray(new String[0]), capturing);
+
+    }//analyze
+
+    /*==================================================================================================================
+     * .*LITERAL, .+LITERAL, opcionalmente com ^ no inicio e $ no fim.
+     =================================================================================================================*/
+    private static MatchEngine suffix(final String regex) {
+
+        int start = regex.startsWith("^") ? 1 : 0;
+
+        if (!regex.startsWith(".*", start) && !regex.startsWith(".+", start)) return null;
+
+        boolean nonEmptyPrefix = regex.charAt(start + 1) == '+';
+
+        int end = regex.length();
+
+        if (end > start + 2 && regex.charAt(end - 1) == '$' && !isEscaped(regex, end - 1)) end--;
+
+        String literal = unescape(regex, start + 2, end);
+
+        if (literal == null || literal.isEmpty()) return null;
+
+        return new Suffix(literal, nonEmptyPrefix);
+
+    }//suffix
+
+    private static boolean isEscaped(final String regex, final int index) {
+
+        int backslashes = 0;
+
+        for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) backslashes++;
+
+        return (backslashes & 1) != 0;
+
+    }//isEscaped
+
+    /*==================================================================================================================
+     * Retorna o texto literal do trecho start a end da expressao, ou null se ele contiver algum metacaractere. Sao
+     * aceitos os escapes de caracteres que nao sao letras nem digitos (\. \\ \$ ...).
+     =================================================================================================================*/
+    private static String unescape(final String regex, final int start, final int end) {
+
+        StringBuilder sb = null;
+
+        for (int i = start; i < end; i++) {
+
+            char c = regex.charAt(i);
+
+            if (c == '\\') {
+
+                if (i + 1 >= end) return null;
+
+                char next = regex.charAt(i + 1);
+
+                if (next >= 128 || Character.isLetterOrDigit(next)) return null;
+
+                if (sb == null) sb = new StringBuilder(regex.substring(start, i));
+
+                sb.append(next);
+
+                i++;
+
+                continue;
+            }
+
+            if ("^$.|?*+()[]{}".indexOf(c) >= 0) return null;
+
+            if (sb != null) sb.append(c);
+        }
+
+        return (sb == null) ? regex.substring(start, end) : sb.toString();
+
+    }//unescape
+
+    static long pack(final int start, final int end) {
+
+        return ((long) start << 32) | end;
+
+    }//pack
+
+/*======================================================================================================================
+ * Um localizador que tambem realiza as pesquisas (literais e alternativas). Os demais especializam apenas matches.
+======================================================================================================================*/
+abstract static class Finder extends MatchEngine {
+
+    //Se a expressao inteira e um grupo de captura: o grupo 1 coincide com a ocorrencia
+    final boolean capturing;
+
+    Finder(final boolean capturing) {
+
+        this.capturing = capturing;
+    }
+
+    /*==================================================================================================================
+     * Localiza a primeira ocorrencia a partir de from. Retorna o inicio nos 32 bits altos e o fim nos 32 bits baixos,
+     * ou -1 se nao houver ocorrencia.
+     =================================================================================================================*/
+    abstract long find(String target, int from);
+
+}//classe Finder
+
+/*======================================================================================================================
+ * Um literal.
+======================================================================================================================*/
+static final class Literal extends Finder {
+
+    final String literal;
+
+    Literal(final String literal, final boolean capturing) {
+
+        super(capturing);
+
+        this.literal = literal;
+    }
+
+    @Override
+    long find(final String target, final int from) {
+
+        int i = target.indexOf(literal, from);
+
+        return (i < 0) ? -1 : pack(i, i + literal.length());
+    }
+
+    @Override
+    boolean matches(final String input) {
+
+        return input.equals(literal);
+    }
+
+}//classe Literal
+
+/*======================================================================================================================
+ * Qualquer texto sem quebras de linha seguido de um literal.
+======================================================================================================================*/
+static final class Suffix extends MatchEngine {
+
+    final String suffix;
+
+    //.+ exige ao menos um caractere antes do sufixo
+    final boolean nonEmptyPrefix;
+
+    Suffix(final String suffix, final boolean nonEmptyPrefix) {
+
+        this.suffix = suffix;
+        this.nonEmptyPrefix = nonEmptyPrefix;
+    }
+
+    @Override
+    boolean matches(final String input) {
+
+        int prefix = input.length() - suffix.length();
+
+        if (prefix < (nonEmptyPrefix ? 1 : 0) || !input.endsWith(suffix)) return false;
+
+        //o . nao corresponde aos terminadores de linha
+        for (int i = 0; i < prefix; i++) {
+
+            char c = input.charAt(i);
+
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') return false;
+        }
+
+        return true;
+    }
+
+}//classe Suffix
+
+/*======================================================================================================================
+ * Alternativas de literais, localizadas por um automato de Aho-Corasick.
+======================================================================================================================*/
+static final class Alternation extends Finder {
+
+    final String[] alternatives;
+
+    //Os caracteres das alternativas sao mapeados para classes 1..k; os demais para a classe 0
+    final byte[] asciiClass;
+
+    final char[] otherChars;
+
+    final int classes;
+
+    //Transicoes do automato deterministico: next[estado * classes + classe]
+    final int[] next;
+
+    //Para cada estado: a alternativa reconhecida nele (a de menor indice), ou -1
+    final int[] word;
+
+    //Para cada estado: o proximo estado, pelos links de falha, que reconhece uma alternativa, ou -1
+    final int[] outputLink;
+
+    //Profundidade (comprimento do prefixo) de cada estado
+    final int[] depth;
+
+    final int maxLength;
+
+    Alternation(final String[] alternatives, final boolean capturing) {
+
+        super(capturing);
+
+        this.alternatives = alternatives;
+
+        //classes de caracteres
+        byte[] ascii = new byte[128];
+
+        char[] others = new char[0];
+
+        int k = 1;
+
+        int max = 0;
+
+        for (String alternative : alternatives) {
+
+            max = Math.max(max, alternative.length());
+
+            for (int i = 0; i < alternative.length(); i++) {
+
+                char c = alternative.charAt(i);
+
+                if (c < 128) {
+
+                    if (ascii[c] == 0) ascii[c] = (byte) k++;
+                }
+                else if (Arrays.binarySearch(others, c) < 0) {
+
+                    others = Arrays.copyOf(others, others.length + 1);
+
+                    others[others.length - 1] = c;
+
+                    Arrays.sort(others);
+                }
+            }
+        }
+
+        asciiClass = ascii;
+
+        otherChars = others;
+
+        classes = k + others.length;
+
+        maxLength = max;
+
+        //trie
+        int capacity = 1;
+
+        for (String alternative : alternatives) capacity += alternative.length();
+
+        int[] trie = new int[capacity * classes];
+
+        int[] words = new int[capacity];
+
+        int[] depths = new int[capacity];
+
+        Arrays.fill(words, -1);
+
+        int states = 1;
+
+        for (int a = 0; a < alternatives.length; a++) {
+
+            int state = 0;
+
+            String alternative = alternatives[a];
+
+            for (int i = 0; i < alternative.length(); i++) {
+
+                int index = state * classes + classOf(alternative.charAt(i));
+
+                if (trie[index] == 0) {
+
+                    depths[states] = i + 1;
+
+                    trie[index] = states++;
+                }
+
+                state = trie[index];
+            }
+
+            if (words[state] < 0) words[state] = a;
+        }
+
+        //links de falha em largura, completando as transicoes ausentes
+        int[] fail = new int[states];
+
+        int[] output = new int[states];
+
+        Arrays.fill(output, -1);
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int c = 0; c < classes; c++) {
+
+            int s = trie[c];
+
+            if (s != 0) queue.add(s);
+        }
+
+        while (!queue.isEmpty()) {
+
+            int state = queue.poll();
+
+            int f = fail[state];
+
+            output[state] = (words[f] >= 0) ? f : output[f];
+
+            for (int c = 0; c < classes; c++) {
+
+                int index = state * classes + c;
+
+                int s = trie[index];
+
+                if (s == 0) {
+
+                    trie[index] = trie[f * classes + c];
+                }
+                else {
+
+                    fail[s] = trie[f * classes + c];
+
+                    queue.add(s);
+                }
+            }
+        }
+
+        next = Arrays.copyOf(trie, states * classes);
+
+        word = Arrays.copyOf(words, states);
+
+        outputLink = output;
+
+        depth = Arrays.copyOf(depths, states);
+    }
+
+    int classOf(final char c) {
+
+        if (c < 128) return asciiClass[c];
+
+        int i = Arrays.binarySearch(otherChars, c);
+
+        return (i < 0) ? 0 : classes - otherChars.length + i;
+    }
+
+    @Override
+    long find(final String target, final int from) {
+
+        int length = target.length();
+
+        int state = 0;
+
+        int bestStart = -1;
+
+        int bestEnd = -1;
+
+        int bestWord = Integer.MAX_VALUE;
+
+        for (int i = from; i < length; i++) {
+
+            //nenhuma ocorrencia que termine a partir daqui pode comecar antes da melhor ja encontrada
+            if (bestStart >= 0 && i + 1 - maxLength > bestStart) break;
+
+            state = next[state * classes + classOf(target.charAt(i))];
+
+            for (int s = (word[state] >= 0) ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+
+                int start = i + 1 - depth[s];
+
+                if (bestStart < 0 || start < bestStart || (start == bestStart && word[s] < bestWord)) {
+
+                    bestStart = start;
+
+                    bestEnd = i + 1;
+
+                    bestWord = word[s];
+                }
+            }
+        }
+
+        return (bestStart < 0) ? -1 : pack(bestStart, bestEnd);
+    }
+
+    /*
+     * Marca em found todas as alternativas que ocorrem em target, em uma unica passagem. Retorna o numero de
+     * alternativas distintas encontradas. A passagem termina assim que todas forem encontradas.
+     */
+    int scan(final String target, final boolean[] found) {
+
+        int length = target.length();
+
+        int state = 0;
+
+        int count = 0;
+
+        for (int i = 0; i < length && count < alternatives.length; i++) {
+
+            state = next[state * classes + classOf(target.charAt(i))];
+
+            for (int s = (word[state] >= 0) ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+
+                if (!found[word[s]]) {
+
+                    found[word[s]] = true;
+
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    boolean matches(final String input) {
+
+        for (String alternative : alternatives) if (alternative.equals(input)) return true;
+
+        return false;
+    }
+
+}//classe Alternation
+
+}//classe MatchEngine
@@ -0,0 +1,382 @@
+package toolbox.regex;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/***********************************************************************************************************************
+ * Cache global, de tamanho limitado, das expressoes regulares compiladas.
+ *
+ * <p>Os objetos <code>Pattern</code> sao imutaveis e podem ser compartilhados por varias threads, de modo que cada
+ * expressao (com as mesmas flags) precisa ser compilada apenas uma vez por processo. A classe {@link Regex Regex}
+ * obtem seus padroes deste cache. Quando o numero de expressoes excede o limite, a usada ha mais tempo e descartada
+ * (LRU).
+ *
+ * <p>Cada expressao ocupa uma unica entrada, que guarda o padrao compilado e, preenchidos apenas quando solicitados
+ * pela classe <code>Regex</code>, o resultado da analise que determina se ela pode ser tratada por um localizador
+ * especializado (literais, alternativas de literais e sufixos) e o programa do localizador de tempo linear (veja
+ * {@link Regex.Engine Regex.Engine}). As estatisticas contam apenas as solicitacoes de padroes compilados.
+ *
+ * <p>As consultas nao bloqueiam: o cache e um <code>ConcurrentHashMap</code> e cada entrada registra o instante do
+ * ultimo uso. Apenas a insercao de uma expressao que faz o cache exceder o limite percorre as entradas em busca da
+ * usada ha mais tempo, e essa busca e serializada. A compilacao de um padrao ausente e feita sem bloqueio: duas
+ * threads que solicitem ao mesmo tempo um padrao ainda nao compilado podem compila-lo ambas, e apenas um dos
+ * resultados e mantido.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class PatternCache {
+
+    /**
+     * O numero maximo de expressoes mantidas se {@link #setMaxSize(int) setMaxSize} nao for chamado.
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private static final AtomicLong HITS = new AtomicLong();
+
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private static final AtomicLong EVICTIONS = new AtomicLong();
+
+    //Registrado para as expressoes sem localizador especializado
+    private static final Object NO_ENGINE = new Object();
+
+    private static final ConcurrentHashMap<Key, Entry> CACHE = new ConcurrentHashMap<>(64);
+
+    //Serializa a busca pela entrada usada ha mais tempo
+    private static final Object EVICTION_LOCK = new Object();
+
+    private PatternCache() {}
+
+    /*******************************************************************************************************************
+     * Retorna o padrao compilado de uma expressao regular, compilando-o apenas se nao estiver no cache.
+     *
+     * @param regex A expressao regular.
+     *
+     * @param flags As flags de compilacao, como em {@link Pattern#compile(java.lang.String, int) Pattern.compile}.
+     *
+     * @return O padrao compilado.
+     *
+     * @throws PatternSyntaxException Se houver erro de sintaxe em <b><i>regex</i></b>. Expressoes invalidas nao sao
+     * mantidas no cache.
+     ******************************************************************************************************************/
+    public static Pattern get(final String regex, final int flags) throws PatternSyntaxException {
+
+        Key key = new Key(regex, flags);
+
+        Entry entry = CACHE.get(key);
+
+        Pattern pattern = (entry == null) ? null : entry.pattern;
+
+        if (pattern != null) {
+
+            HITS.incrementAndGet();
+
+            entry.lastUse = System.nanoTime();
+
+            return pattern;
+        }
+
+        MISSES.incrementAndGet();
+
+        pattern = Pattern.compile(regex, flags);
+
+        entry = entry(key);
+
+        if (entry.pattern == null) entry.pattern = pattern;
+
+        return entry.pattern;
+
+    }//get
+
+    /*==================================================================================================================
+     * Retorna o localizador especializado da expressao, ou null se ela so puder ser tratada por java.util.regex.
+     =================================================================================================================*/
+    static MatchEngine getEngine(final String regex, final int flags) {
+
+        Entry entry = entry(new Key(regex, flags));
+
+        Object engine = entry.engine;
+
+        if (engine == null) {
+
+            MatchEngine analyzed = MatchEngine.analyze(regex, flags);
+
+            engine = (analyzed == null) ? NO_ENGINE : analyzed;
+
+            entry.engine = engine;
+        }
+
+        return (engine == NO_ENGINE) ? null : (MatchEngine) engine;
+
+    }//getEngine
+
+    /*==================================================================================================================
+     * Retorna o programa de tempo linear da expressao, que ja deve ter sido validada por Pattern.compile. Lanca
+     * IllegalArgumentException se ela usar construcoes nao suportadas pelo PikeVM.
+     =================================================================================================================*/
+    static PikeVM getLinear(final String regex, final int flags) throws IllegalArgumentException {
+
+        Entry entry = entry(new Key(regex, flags));
+
+        //o PikeVM ou a String com o motivo pelo qual a expressao nao pode ser executada por ele
+        Object linear = entry.linear;
+
+        if (linear == null) {
+
+            try {
+
+                linear = PikeVM.compile(regex, flags);
+            }
+            catch (IllegalArgumentException e) {
+
+                linear = e.getMessage();
+            }
+
+            entry.linear = linear;
+        }
+
+        if (linear instanceof String) throw new IllegalArgumentException((String) linear);
+
+        return (PikeVM) linear;
+
+    }//getLinear
+
+    /*==================================================================================================================
+     * Retorna a entrada da expressao, inserindo uma vazia se ela nao estiver no cache, e registra o seu uso.
+     =================================================================================================================*/
+    private static Entry entry(final Key key) {
+
+        Entry entry = CACHE.get(key);
+
+        if (entry == null) {
+
+            Entry created = new Entry();
+
+            entry = CACHE.putIfAbsent(key, created);
+
+            if (entry == null) {
+
+                entry = created;
+
+                if (CACHE.size() > maxSize) evict();
+            }
+        }
+
+        entry.lastUse = System.nanoTime();
+
+        return entry;
+
+    }//entry
+
+    /*==================================================================================================================
+     * Descarta as entradas usadas ha mais tempo ate que o cache respeite o limite.
+     =================================================================================================================*/
+    private static void evict() {
+
+        synchronized (EVICTION_LOCK) {
+
+            while (CACHE.size() > maxSize) {
+
+                Map.Entry<Key, Entry> eldest = null;
+
+                for (Map.Entry<Key, Entry> e : CACHE.entrySet()) {
+
+                    if (eldest == null || e.getValue().lastUse - eldest.getValue().lastUse < 0) eldest = e;
+                }
+
+                if (eldest == null) break;
+
+                if (CACHE.remove(eldest.getKey(), eldest.getValue())) EVICTIONS.incrementAndGet();
+            }
+        }
+
+    }//evict
+
+    /*******************************************************************************************************************
+     * Retorna o padrao compilado de uma expressao regular sem flags.
+     *
+     * @param regex A expressao regular.
+     *
+     * @return O padrao compilado.
+     *
+     * @throws PatternSyntaxException Se houver erro de sintaxe em <b><i>regex</i></b>.
+     ******************************************************************************************************************/
+    public static Pattern get(final String regex) throws PatternSyntaxException {
+
+        return get(regex, 0);
+
+    }//get
+
+    /*******************************************************************************************************************
+     * Define o numero maximo de expressoes mantidas. Se o cache tiver mais expressoes, as usadas ha mais tempo sao
+     * descartadas.
+     *
+     * @param size O novo limite. Com 0 o cache e desativado.
+     *
+     * @throws IllegalArgumentException Se <b><i>size</i></b> for negativo.
+     ******************************************************************************************************************/
+    public static void setMaxSize(final int size) throws IllegalArgumentException {
+
+        if (size < 0) throw new IllegalArgumentException("size < 0");
+
+        maxSize = size;
+
+        evict();
+
+    }//setMaxSize
+
+    /**
+     *
+     * @return O numero maximo de expressoes mantidas.
+     */
+    public static int getMaxSize() {
+
+        return maxSize;
+
+    }//getMaxSize
+
+    /**
+     *
+     * @return O numero de expressoes no cache.
+     */
+    public static int size() {
+
+        return CACHE.size();
+
+    }//size
+
+    /**
+     *
+     * @return O numero de solicitacoes de padroes compilados atendidas pelo cache.
+     */
+    public static long getHits() {
+
+        return HITS.get();
+
+    }//getHits
+
+    /**
+     *
+     * @return O numero de solicitacoes que exigiram a compilacao do padrao.
+     */
+    public static long getMisses() {
+
+        return MISSES.get();
+
+    }//getMisses
+
+    /**
+     *
+     * @return O numero de expressoes descartadas por exceder o limite.
+     */
+    public static long getEvictions() {
+
+        return EVICTIONS.get();
+
+    }//getEvictions
+
+    /*******************************************************************************************************************
+     * Esvazia o cache e zera as estatisticas.
+     ******************************************************************************************************************/
+    public static void clear() {
+
+        CACHE.clear();
+
+        HITS.set(0);
+
+        MISSES.set(0);
+
+        EVICTIONS.set(0);
+
+    }//clear
+
+    /*******************************************************************************************************************
+     * Exibe as estatisticas do cache.
+     *
+     * @return O tamanho, o limite, os acertos, as falhas e os descartes.
+     ******************************************************************************************************************/
+    public static String statistics() {
+
+        long hits = getHits();
+
+        long misses = getMisses();
+
+        long total = hits + misses;
+
+        return String.format(
+            "expressions: %d/%d  hits: %d  misses: %d  evictions: %d  hit ratio: %.1f%%",
+            size(),
+            getMaxSize(),
+            hits,
+            misses,
+            getEvictions(),
+            (total == 0) ? 0.0 : 100.0 * hits / total
+        );
+
+    }//statistics
+
+/*======================================================================================================================
+ * A chave do cache: a expressao e as flags.
+======================================================================================================================*/
+private static final class Key {
+
+    final String regex;
+
+    final int flags;
+
+    final int hash;
+
+    Key(final String regex, final int flags) {
+
+        this.regex = regex;
+        this.flags = flags;
+        hash = regex.hashCode() * 31 + flags;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+
+        if (!(o instanceof Key)) return false;
+
+        Key k = (Key) o;
+
+        return hash == k.hash && flags == k.flags && regex.equals(k.regex);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return hash;
+    }
+
+}//classe Key
+
+/*======================================================================================================================
+ * Os valores mantidos para uma expressao. Os campos nulos ainda nao foram solicitados. Se duas threads preencherem o
+ * mesmo campo ao mesmo tempo, os valores sao equivalentes e qualquer um deles pode prevalecer.
+======================================================================================================================*/
+private static final class Entry {
+
+    volatile Pattern pattern;
+
+    //MatchEngine ou NO_ENGINE
+    volatile Object engine;
+
+    //PikeVM ou a String com o motivo da rejeicao
+    volatile Object linear;
+
+    //System.nanoTime() do ultimo uso
+    volatile long lastUse;
+
+}//classe Entry
+
+}//classe PatternCache
@@ -0,0 +1,1130 @@
+package toolbox.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/***********************************************************************************************************************
+ * Localizador de tempo linear para expressoes regulares: a expressao e compilada em um programa de automato nao
+ * deterministico, executado pelo algoritmo de Pike, que avanca todas as alternativas em paralelo sobre o alvo, um
+ * caractere por vez. Cada posicao do alvo e visitada uma unica vez por pesquisa, e o custo no pior caso e
+ * proporcional ao tamanho do alvo vezes o tamanho do programa, qualquer que seja a expressao ou o alvo: nao ha o
+ * retrocesso exponencial (ou polinomial) que <code>java.util.regex</code> pode apresentar em expressoes como
+ * <code>(a+)+b</code> ou <code>(.+?)="(.+?)"</code> sobre textos malformados.
+ *
+ * <p>As ocorrencias e os grupos de captura sao os mesmos de <code>java.util.regex</code>: as alternativas do
+ * automato sao mantidas em ordem de prioridade, e a ocorrencia retornada e a que comeca antes e, entre as que comecam
+ * na mesma posicao, a que o retrocesso encontraria primeiro (quantificadores gulosos e preguicosos inclusive). As
+ * classes de caracteres (<code>[a-z]</code>, <code>\w</code>, <code>\p{L}</code>, <code>.</code>) e as ancoras
+ * (<code>^</code>, <code>$</code>, <code>\b</code>, <code>\A</code>, <code>\z</code>, <code>\Z</code>) sao avaliadas
+ * pelo proprio <code>java.util.regex</code>, com as mesmas flags, de modo que tem exatamente a mesma semantica. As
+ * classes sao avaliadas uma vez para cada bloco de 256 caracteres e mantidas em tabelas de bits.
+ *
+ * <p>Nao sao suportadas as construcoes que exigem retrocesso: referencias a grupos (<code>\1</code>,
+ * <code>\k&lt;nome&gt;</code>), lookahead e lookbehind, grupos atomicos, quantificadores possessivos,
+ * <code>\G</code>, <code>\R</code>, <code>\X</code>, flags embutidas (<code>(?i)</code>), as flags
+ * <code>COMMENTS</code>, <code>UNIX_LINES</code>, <code>LITERAL</code> e <code>CANON_EQ</code>, e a repeticao de
+ * subexpressoes que podem corresponder a texto vazio (<code>(a*)*</code>). Para estas expressoes o metodo
+ * {@link #compile(String, int) compile} lanca <code>IllegalArgumentException</code>.
+ *
+ * <p>Os objetos sao imutaveis e mantidos pelo {@link PatternCache PatternCache}. O estado de cada pesquisa fica em
+ * um objeto {@link Execution Execution}, mantido pelo objeto <code>Regex</code>.
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+final class PikeVM {
+
+    //O maior programa compilado, em instrucoes: limita a expansao de repeticoes como (abc){1000}
+    static final int MAX_PROGRAM = 20000;
+
+    private static final int SUPPORTED_FLAGS =
+        Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL | Pattern.MULTILINE |
+        Pattern.UNICODE_CHARACTER_CLASS;
+
+    //Instrucoes do programa
+    private static final int CHAR = 0;
+
+    private static final int CLASS = 1;
+
+    private static final int ASSERT = 2;
+
+    private static final int SPLIT = 3;
+
+    private static final int JMP = 4;
+
+    private static final int SAVE = 5;
+
+    private static final int MATCH = 6;
+
+    private static final int INFINITE = Integer.MAX_VALUE;
+
+    //O numero de grupos de captura, sem contar o grupo 0
+    final int groupCount;
+
+    //Se a expressao tem repeticoes ilimitadas aninhadas ou mais de uma repeticao ilimitada (veja Regex.Engine.AUTO)
+    final boolean backtrackingRisk;
+
+    private final int[] op;
+
+    private final int[] arg;
+
+    private final int[] arg2;
+
+    private final CharClass[] classes;
+
+    private final Pattern[] assertions;
+
+    //Se a expressao contem caracteres suplementares: como no java.util.regex, as pesquisas nao comecam entre os dois
+    //caracteres de um par substituto
+    private final boolean supplementary;
+
+    private PikeVM(final Parser parser, final Program program) {
+
+        groupCount = parser.groups;
+
+        backtrackingRisk = parser.unbounded > 1 || parser.nestedUnbounded;
+
+        op = Arrays.copyOf(program.op, program.size);
+
+        arg = Arrays.copyOf(program.arg, program.size);
+
+        arg2 = Arrays.copyOf(program.arg2, program.size);
+
+        classes = parser.classes.toArray(new CharClass[0]);
+
+        assertions = parser.assertions.toArray(new Pattern[0]);
+
+        supplementary = parser.supplementary;
+
+    }//construtor
+
+    /*==================================================================================================================
+     * Compila a expressao, que ja deve ter sido validada por Pattern.compile. Lanca IllegalArgumentException, com a
+     * construcao nao suportada na mensagem, se a expressao nao puder ser executada em tempo linear.
+     =================================================================================================================*/
+    static PikeVM compile(final String regex, final int flags) throws IllegalArgumentException {
+
+        int unsupportedFlags = flags & ~SUPPORTED_FLAGS;
+
+        if (unsupportedFlags != 0) throw unsupported("flags " + Integer.toHexString(unsupportedFlags));
+
+        Parser parser = new Parser(regex, flags);
+
+        Node root;
+
+        try {
+
+            root = parser.parse();
+        }
+        catch (IndexOutOfBoundsException e) {
+
+            throw unsupported("syntax at " + parser.pos);
+        }
+
+        Program program = new Program();
+
+        program.add(SAVE, 0, 0);
+
+        program.emit(root);
+
+        program.add(SAVE, 1, 0);
+
+        program.add(MATCH, 0, 0);
+
+        return new PikeVM(parser, program);
+
+    }//compile
+
+    /*==================================================================================================================
+     * A excecao que informa a construcao nao suportada, para ser lancada por quem chama.
+     =================================================================================================================*/
+    private static IllegalArgumentException unsupported(final String construct) {
+
+        return new IllegalArgumentException("Not supported by the linear engine: " + construct);
+
+    }//unsupported
+
+/*======================================================================================================================
+ * Um no da arvore sintatica da expressao.
+======================================================================================================================*/
+private static final class Node {
+
+    static final int LITERAL = 0;
+
+    static final int CLASS = 1;
+
+    static final int ASSERT = 2;
+
+    static final int CONCAT = 3;
+
+    static final int ALTERNATION = 4;
+
+    static final int GROUP = 5;
+
+    static final int REPEAT = 6;
+
+    final int type;
+
+    //O caractere, o indice da classe, da ancora ou do grupo
+    final int value;
+
+    final Node[] children;
+
+    int min;
+
+    int max;
+
+    boolean greedy;
+
+    Node(final int type, final int value, final Node... children) {
+
+        this.type = type;
+        this.value = value;
+        this.children = children;
+    }
+
+    /*
+     * Se o no pode corresponder a texto vazio.
+     */
+    boolean nullable() {
+
+        switch (type) {
+
+            case LITERAL: case CLASS:
+                return false;
+
+            case CONCAT:
+                for (Node child : children) if (!child.nullable()) return false;
+                return true;
+
+            case ALTERNATION:
+                for (Node child : children) if (child.nullable()) return true;
+                return false;
+
+            case GROUP:
+                return children[0].nullable();
+
+            case REPEAT:
+                return min == 0 || children[0].nullable();
+
+            default:
+                return true;
+        }
+    }
+
+}//classe Node
+
+/*======================================================================================================================
+ * Analisador sintatico do subconjunto suportado.
+======================================================================================================================*/
+private static final class Parser {
+
+    final String regex;
+
+    final int flags;
+
+    final List<CharClass> classes;
+
+    final List<Pattern> assertions;
+
+    int pos;
+
+    int groups;
+
+    int unbounded;
+
+    boolean nestedUnbounded;
+
+    boolean supplementary;
+
+    Parser(final String regex, final int flags) {
+
+        this.regex = regex;
+        this.flags = flags;
+        classes = new ArrayList<>();
+        assertions = new ArrayList<>();
+        pos = 0;
+        groups = 0;
+
+        for (int i = 0; i < regex.length(); i++) if (Character.isSurrogate(regex.charAt(i))) supplementary = true;
+    }
+
+    Node parse() throws IllegalArgumentException {
+
+        Node root = alternation();
+
+        if (pos < regex.length()) throw unsupported("'" + regex.charAt(pos) + "' at " + pos);
+
+        return root;
+    }
+
+    private Node alternation() {
+
+        List<Node> branches = new ArrayList<>();
+
+        branches.add(concatenation());
+
+        while (pos < regex.length() && regex.charAt(pos) == '|') {
+
+            pos++;
+
+            branches.add(concatenation());
+        }
+
+        if (branches.size() == 1) return branches.get(0);
+
+        return new Node(Node.ALTERNATION, 0, branches.toArray(new Node[0]));
+    }
+
+    private Node concatenation() {
+
+        List<Node> items = new ArrayList<>();
+
+        while (pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+
+            int unboundedBefore = unbounded;
+
+            Node atom = atom();
+
+            items.add(quantifier(atom, unboundedBefore));
+        }
+
+        return new Node(Node.CONCAT, 0, items.toArray(new Node[0]));
+    }
+
+    private Node atom() {
+
+        int c = regex.codePointAt(pos);
+
+        switch (c) {
+
+            case '(':
+                return group();
+
+            case '[':
+                int close = RegexSet.skipClass(regex, pos);
+                if (close < 0 || regex.substring(pos, close).contains("\\Q")) throw unsupported("\\Q in class");
+                String source = regex.substring(pos, close + 1);
+                pos = close + 1;
+                return charClass(source);
+
+            case '.':
+                pos++;
+                return charClass(".");
+
+            case '^': case '$':
+                pos++;
+                return assertion(String.valueOf((char) c));
+
+            case '\\':
+                return escape();
+
+            case '*': case '+': case '?': case '{':
+                throw unsupported("quantifier without operand at " + pos);
+
+            default:
+                pos += Character.charCount(c);
+                return literal(c);
+        }
+    }
+
+    private Node group() {
+
+        pos++;
+
+        int capture = -1;
+
+        if (regex.startsWith("?:", pos)) {
+
+            pos += 2;
+        }
+        else if (regex.startsWith("?<", pos) && pos + 2 < regex.length() && Character.isLetter(regex.charAt(pos + 2))) {
+
+            capture = ++groups;
+
+            pos = regex.indexOf('>', pos) + 1;
+        }
+        else if (regex.startsWith("?", pos)) {
+
+            throw unsupported("(?" + ((pos + 1 < regex.length()) ? regex.charAt(pos + 1) : "") + " group");
+        }
+        else {
+
+            capture = ++groups;
+        }
+
+        Node child = alternation();
+
+        if (pos >= regex.length() || regex.charAt(pos) != ')') throw unsupported("unclosed group");
+
+        pos++;
+
+        return (capture < 0) ? child : new Node(Node.GROUP, capture, child);
+    }
+
+    private Node escape() {
+
+        if (pos + 1 >= regex.length()) throw unsupported("trailing \\");
+
+        int c = regex.codePointAt(pos + 1);
+
+        switch (c) {
+
+            case 'b':
+                if (regex.startsWith("{", pos + 2)) throw unsupported("\\b{g}");
+                pos += 2;
+                return assertion("\\b");
+
+            case 'B': case 'A': case 'z': case 'Z':
+                pos += 2;
+                return assertion("\\" + (char) c);
+
+            case 'Q':
+                return quote();
+
+            case 'G': case 'R': case 'X': case 'k':
+                throw unsupported("\\" + (char) c);
+
+            default:
+                if (c >= '1' && c <= '9') throw unsupported("backreference");
+
+                if (!(c < 128 && Character.isLetterOrDigit(c))) {
+
+                    pos += 1 + Character.charCount(c);
+
+                    return literal(c);
+                }
+
+                int end = escapeEnd(c);
+
+                String source = regex.substring(pos, end);
+
+                pos = end;
+
+                return charClass(source);
+        }
+    }
+
+    /*
+     * Posicao seguinte ao escape alfanumerico em pos, com seus argumentos, como no java.util.regex.
+     */
+    private int escapeEnd(final int c) {
+
+        int i = pos + 2;
+
+        int length = regex.length();
+
+        switch (c) {
+
+            case 'x':
+                if (regex.startsWith("{", i)) return regex.indexOf('}', i) + 1;
+                return i + 2;
+
+            case 'u':
+                char unit = (char) Integer.parseInt(regex.substring(i, i + 4), 16);
+                //um par substituto escrito como dois escapes e um unico caractere
+                if (Character.isHighSurrogate(unit) && regex.startsWith("\\u", i + 4)) return i + 10;
+                return i + 4;
+
+            case 'c':
+                return i + 1;
+
+            case 'N':
+                return regex.indexOf('}', i) + 1;
+
+            case 'p': case 'P':
+                if (regex.startsWith("{", i)) return regex.indexOf('}', i) + 1;
+                return i + 1;
+
+            case '0':
+                if (i < length && isOctal(regex.charAt(i))) {
+                    if (i + 1 < length && isOctal(regex.charAt(i + 1))) {
+                        if (i + 2 < length && isOctal(regex.charAt(i + 2)) && regex.charAt(i) <= '3') return i + 3;
+                        return i + 2;
+                    }
+                    return i + 1;
+                }
+                throw unsupported("\\0");
+
+            case 't': case 'n': case 'r': case 'f': case 'a': case 'e':
+            case 'd': case 'D': case 'w': case 'W': case 's': case 'S': case 'h': case 'H': case 'v': case 'V':
+                return i;
+
+            default:
+                throw unsupported("\\" + (char) c);
+        }
+    }
+
+    private static boolean isOctal(final char c) {
+
+        return c >= '0' && c <= '7';
+    }
+
+    /*
+     * \Q...\E: os caracteres ate \E (ou ate o fim da expressao) sao literais.
+     */
+    private Node quote() {
+
+        int start = pos + 2;
+
+        int end = regex.indexOf("\\E", start);
+
+        if (end < 0) end = regex.length();
+
+        List<Node> items = new ArrayList<>();
+
+        for (int i = start; i < end; i += Character.charCount(regex.codePointAt(i))) {
+
+            items.add(literal(regex.codePointAt(i)));
+        }
+
+        pos = Math.min(end + 2, regex.length());
+
+        //como no java.util.regex, um quantificador apos \E se aplica apenas ao ultimo caractere
+        if (items.size() == 1) return items.get(0);
+
+        if (pos < regex.length() && "*+?{".indexOf(regex.charAt(pos)) >= 0 && !items.isEmpty()) {
+
+            Node last = items.remove(items.size() - 1);
+
+            int unboundedBefore = unbounded;
+
+            items.add(quantifier(last, unboundedBefore));
+        }
+
+        return new Node(Node.CONCAT, 0, items.toArray(new Node[0]));
+    }
+
+    private Node literal(final int c) {
+
+        if ((flags & Pattern.CASE_INSENSITIVE) == 0) return new Node(Node.LITERAL, c);
+
+        //a comparacao sem distincao de maiusculas e feita pelo java.util.regex, com as mesmas flags
+        return charClass("\\x{" + Integer.toHexString(c) + "}");
+    }
+
+    private Node charClass(final String source) {
+
+        classes.add(new CharClass(Pattern.compile(source, flags)));
+
+        if (!supplementary) supplementary = startsBetweenSurrogates(source);
+
+        return new Node(Node.CLASS, classes.size() - 1);
+    }
+
+    /*
+     * O java.util.regex deixa de iniciar pesquisas entre os caracteres de um par substituto quando a expressao tem
+     * caracteres suplementares, mas tambem quando tem certas classes (\p{L}, [^a], \W e outras, conforme as flags).
+     * A classe e testada em uma expressao que so localiza ocorrencia no meio do par se a pesquisa comecar ali.
+     */
+    private boolean startsBetweenSurrogates(final String source) {
+
+        Matcher probe = Pattern.compile("\\B(?:" + source + ")?", flags).matcher("a\uD83D\uDE00b");
+
+        while (probe.find()) if (probe.start() == 2) return false;
+
+        return true;
+    }
+
+    private Node assertion(final String source) {
+
+        assertions.add(Pattern.compile(source, flags));
+
+        return new Node(Node.ASSERT, assertions.size() - 1);
+    }
+
+    private static boolean containsGroup(final Node node) {
+
+        if (node.type == Node.GROUP) return true;
+
+        if (node.children != null) for (Node child : node.children) if (containsGroup(child)) return true;
+
+        return false;
+    }
+
+    private Node quantifier(final Node atom, final int unboundedBefore) {
+
+        if (pos >= regex.length()) return atom;
+
+        int min;
+
+        int max;
+
+        char quantifier = regex.charAt(pos);
+
+        switch (quantifier) {
+
+            case '*':
+                min = 0;
+                max = INFINITE;
+                pos++;
+                break;
+
+            case '+':
+                min = 1;
+                max = INFINITE;
+                pos++;
+                break;
+
+            case '?':
+                min = 0;
+                max = 1;
+                pos++;
+                break;
+
+            case '{':
+                int close = regex.indexOf('}', pos);
+                String[] bounds = regex.substring(pos + 1, close).split(",", -1);
+                min = Integer.parseInt(bounds[0].trim());
+                if (bounds.length == 1) max = min;
+                else max = bounds[1].trim().isEmpty() ? INFINITE : Integer.parseInt(bounds[1].trim());
+                pos = close + 1;
+                break;
+
+            default:
+                return atom;
+        }
+
+        boolean greedy = true;
+
+        if (pos < regex.length() && regex.charAt(pos) == '?') {
+
+            greedy = false;
+
+            pos++;
+        }
+        else if (pos < regex.length() && regex.charAt(pos) == '+') {
+
+            throw unsupported("possessive quantifier");
+        }
+
+        if (pos < regex.length() && "*+?{".indexOf(regex.charAt(pos)) >= 0) throw unsupported("repeated quantifier");
+
+        if (atom.type == Node.ASSERT) throw unsupported("quantified anchor");
+
+        if (max > 1 && atom.nullable()) throw unsupported("repetition of a subexpression that can match empty text");
+
+        //Nas repeticoes (exceto ?) o java.util.regex nao restaura os grupos internos quando desfaz uma iteracao, e
+        //eles mantem o valor da iteracao desfeita. Apenas o grupo repetido diretamente tem o valor restaurado
+        Node body = (atom.type == Node.GROUP) ? atom.children[0] : atom;
+
+        if (quantifier != '?' && containsGroup(body)) throw unsupported("capturing group inside a repetition");
+
+        if (max == INFINITE) {
+
+            if (unbounded > unboundedBefore) nestedUnbounded = true;
+
+            unbounded++;
+        }
+
+        Node repeat = new Node(Node.REPEAT, 0, atom);
+
+        repeat.min = min;
+
+        repeat.max = max;
+
+        repeat.greedy = greedy;
+
+        return repeat;
+    }
+
+}//classe Parser
+
+/*======================================================================================================================
+ * O programa em construcao.
+======================================================================================================================*/
+private static final class Program {
+
+    int[] op = new int[64];
+
+    int[] arg = new int[64];
+
+    int[] arg2 = new int[64];
+
+    int size;
+
+    int add(final int instruction, final int a, final int b) {
+
+        if (size == MAX_PROGRAM) throw unsupported("program larger than " + MAX_PROGRAM + " instructions");
+
+        if (size == op.length) {
+
+            op = Arrays.copyOf(op, size * 2);
+            arg = Arrays.copyOf(arg, size * 2);
+            arg2 = Arrays.copyOf(arg2, size * 2);
+        }
+
+        op[size] = instruction;
+        arg[size] = a;
+        arg2[size] = b;
+
+        return size++;
+    }
+
+    void emit(final Node node) {
+
+        switch (node.type) {
+
+            case Node.LITERAL:
+                add(CHAR, node.value, 0);
+                break;
+
+            case Node.CLASS:
+                add(CLASS, node.value, 0);
+                break;
+
+            case Node.ASSERT:
+                add(ASSERT, node.value, 0);
+                break;
+
+            case Node.CONCAT:
+                for (Node child : node.children) emit(child);
+                break;
+
+            case Node.ALTERNATION:
+                alternation(node.children);
+                break;
+
+            case Node.GROUP:
+                add(SAVE, 2 * node.value, 0);
+                emit(node.children[0]);
+                add(SAVE, 2 * node.value + 1, 0);
+                break;
+
+            default:
+                repeat(node.children[0], node.min, node.max, node.greedy);
+        }
+    }
+
+    /*
+     * SPLIT prefere arg a arg2: cada alternativa tem prioridade sobre as seguintes.
+     */
+    private void alternation(final Node[] branches) {
+
+        int[] jumps = new int[branches.length - 1];
+
+        for (int i = 0; i < branches.length - 1; i++) {
+
+            int split = add(SPLIT, size + 1, 0);
+
+            emit(branches[i]);
+
+            jumps[i] = add(JMP, 0, 0);
+
+            arg2[split] = size;
+        }
+
+        emit(branches[branches.length - 1]);
+
+        for (int jump : jumps) arg[jump] = size;
+    }
+
+    /*
+     * e{min,max}: min copias de e seguidas de (max - min) copias opcionais aninhadas, ou de um laco se max for
+     * ilimitado. Nos quantificadores gulosos o SPLIT prefere repetir; nos preguicosos, prosseguir.
+     */
+    private void repeat(final Node body, final int min, final int max, final boolean greedy) {
+
+        if (max == INFINITE) {
+
+            if (min == 0) {
+
+                int split = add(SPLIT, 0, 0);
+
+                emit(body);
+
+                add(JMP, split, 0);
+
+                setSplit(split, split + 1, size, greedy);
+            }
+            else {
+
+                for (int i = 0; i < min - 1; i++) emit(body);
+
+                int loop = size;
+
+                emit(body);
+
+                int split = add(SPLIT, 0, 0);
+
+                setSplit(split, loop, size, greedy);
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < min; i++) emit(body);
+
+        int[] splits = new int[max - min];
+
+        for (int i = 0; i < splits.length; i++) {
+
+            splits[i] = add(SPLIT, 0, 0);
+
+            emit(body);
+        }
+
+        for (int split : splits) setSplit(split, split + 1, size, greedy);
+    }
+
+    private void setSplit(final int split, final int repeat, final int exit, final boolean greedy) {
+
+        arg[split] = greedy ? repeat : exit;
+
+        arg2[split] = greedy ? exit : repeat;
+    }
+
+}//classe Program
+
+/*======================================================================================================================
+ * Uma classe de caracteres avaliada pelo java.util.regex. Os resultados para os caracteres do plano basico sao
+ * mantidos em blocos de 256 bits, calculados no primeiro acesso. Os blocos sao publicados ja preenchidos, por meio de
+ * um campo final, e podem ser compartilhados por varias threads.
+======================================================================================================================*/
+private static final class CharClass {
+
+    private final Pattern pattern;
+
+    private final Block[] blocks;
+
+    CharClass(final Pattern pattern) {
+
+        this.pattern = pattern;
+        blocks = new Block[256];
+    }
+
+    boolean matches(final int c) {
+
+        if (c >= 0x10000) return pattern.matcher(new String(Character.toChars(c))).matches();
+
+        Block block = blocks[c >>> 8];
+
+        if (block == null) {
+
+            block = new Block(pattern, c & 0xFF00);
+
+            blocks[c >>> 8] = block;
+        }
+
+        return (block.bits[(c & 0xFF) >>> 6] & (1L << c)) != 0;
+    }
+
+}//classe CharClass
+
+private static final class Block {
+
+    final long[] bits;
+
+    Block(final Pattern pattern, final int first) {
+
+        long[] b = new long[4];
+
+        Matcher matcher = pattern.matcher("");
+
+        for (int i = 0; i < 256; i++) {
+
+            if (matcher.reset(String.valueOf((char) (first + i))).matches()) b[i >>> 6] |= 1L << i;
+        }
+
+        bits = b;
+    }
+
+}//classe Block
+
+/*======================================================================================================================
+ * Uma lista de linhas de execucao, em ordem de prioridade, sem repeticao de instrucoes (sparse set). Cada instrucao
+ * tem os seus registros de captura.
+======================================================================================================================*/
+private static final class ThreadList {
+
+    final int[] sparse;
+
+    final int[] dense;
+
+    final int[] captures;
+
+    int size;
+
+    ThreadList(final int program, final int slots) {
+
+        sparse = new int[program];
+        dense = new int[program];
+        captures = new int[program * slots];
+    }
+
+    boolean contains(final int pc) {
+
+        int i = sparse[pc];
+
+        return i < size && dense[i] == pc;
+    }
+
+    void add(final int pc) {
+
+        sparse[pc] = size;
+
+        dense[size++] = pc;
+    }
+
+}//classe ThreadList
+
+/*======================================================================================================================
+ * O estado das pesquisas de um programa. Nao pode ser compartilhado por varias threads.
+======================================================================================================================*/
+final class Execution {
+
+    private final int slots;
+
+    //Listas das posicoes i, i + 1 e i + 2 (apos um par substituto), em rodizio
+    private final ThreadList[] lists;
+
+    private final int[] working;
+
+    private final int[] result;
+
+    //Pares (instrucao, 0) ou (-registro - 1, valor a restaurar)
+    private final int[] stack;
+
+    private final Matcher[] assertionMatchers;
+
+    private String target;
+
+    Execution() {
+
+        slots = 2 * (groupCount + 1);
+
+        lists = new ThreadList[3];
+
+        for (int i = 0; i < 3; i++) lists[i] = new ThreadList(op.length, slots);
+
+        working = new int[slots];
+
+        result = new int[slots];
+
+        stack = new int[6 * op.length + 2];
+
+        assertionMatchers = new Matcher[assertions.length];
+
+    }//construtor
+
+    /*
+     * Localiza a primeira ocorrencia a partir de from, como Matcher.find(). Retorna o inicio nos 32 bits altos e o
+     * fim nos 32 bits baixos, ou -1.
+     */
+    long find(final String target, final int from) {
+
+        if (!run(target, from, false)) return -1;
+
+        return MatchEngine.pack(result[0], result[1]);
+
+    }//find
+
+    /*
+     * Informa se a expressao corresponde a totalidade de input, como Matcher.matches().
+     */
+    boolean matches(final String input) {
+
+        return run(input, 0, true);
+
+    }//matches
+
+    /*
+     * O inicio de um grupo na ultima ocorrencia, ou -1.
+     */
+    int start(final int group) {
+
+        return result[2 * group];
+
+    }//start
+
+    int end(final int group) {
+
+        return result[2 * group + 1];
+
+    }//end
+
+    private boolean run(final String target, final int from, final boolean whole) {
+
+        if (target != this.target) {
+
+            this.target = target;
+
+            for (Matcher matcher : assertionMatchers) if (matcher != null) matcher.reset(target);
+        }
+
+        int length = target.length();
+
+        for (ThreadList list : lists) list.size = 0;
+
+        boolean matched = false;
+
+        int nextStart = from;
+
+        for (int i = from, base = 0; i <= length; i++, base++) {
+
+            ThreadList current = lists[base % 3];
+
+            if (!matched && i == nextStart && (!whole || i == from)) {
+
+                Arrays.fill(working, -1);
+
+                add(current, 0, i, working);
+
+                nextStart = (supplementary && i < length) ? i + Character.charCount(target.codePointAt(i)) : i + 1;
+            }
+
+            if (current.size == 0) {
+
+                if ((matched || whole) && lists[(base + 1) % 3].size == 0 && lists[(base + 2) % 3].size == 0) break;
+
+                continue;
+            }
+
+            int c = (i < length) ? target.codePointAt(i) : -1;
+
+            int step = (c >= 0x10000) ? 2 : 1;
+
+            ThreadList next = lists[(base + step) % 3];
+
+            for (int t = 0; t < current.size; t++) {
+
+                int pc = current.dense[t];
+
+                boolean advance;
+
+                switch (op[pc]) {
+
+                    case MATCH:
+                        if (whole && i != length) continue;
+                        System.arraycopy(current.captures, pc * slots, result, 0, slots);
+                        matched = true;
+                        //as linhas de menor prioridade sao descartadas
+                        t = current.size;
+                        continue;
+
+                    case CHAR:
+                        advance = c == arg[pc];
+                        break;
+
+                    case CLASS:
+                        advance = c >= 0 && classes[arg[pc]].matches(c);
+                        break;
+
+                    default:
+                        continue;
+                }
+
+                if (advance) {
+
+                    System.arraycopy(current.captures, pc * slots, working, 0, slots);
+
+                    add(next, pc + 1, i + step, working);
+                }
+            }
+
+            current.size = 0;
+        }
+
+        return matched;
+
+    }//run
+
+    /*
+     * Adiciona a lista a linha de execucao em pc e as que dela decorrem sem consumir caracteres, em ordem de
+     * prioridade. captures e alterado durante a execucao e restaurado ao final.
+     */
+    private void add(final ThreadList list, final int pc0, final int position, final int[] captures) {
+
+        int sp = 0;
+
+        stack[sp++] = pc0;
+
+        stack[sp++] = 0;
+
+        while (sp > 0) {
+
+            int value = stack[--sp];
+
+            int pc = stack[--sp];
+
+            if (pc < 0) {
+
+                captures[-pc - 1] = value;
+
+                continue;
+            }
+
+            if (list.contains(pc)) continue;
+
+            list.add(pc);
+
+            switch (op[pc]) {
+
+                case JMP:
+                    stack[sp++] = arg[pc];
+                    stack[sp++] = 0;
+                    break;
+
+                case SPLIT:
+                    stack[sp++] = arg2[pc];
+                    stack[sp++] = 0;
+                    stack[sp++] = arg[pc];
+                    stack[sp++] = 0;
+                    break;
+
+                case SAVE:
+                    stack[sp++] = -arg[pc] - 1;
+                    stack[sp++] = captures[arg[pc]];
+                    captures[arg[pc]] = position;
+                    stack[sp++] = pc + 1;
+                    stack[sp++] = 0;
+                    break;
+
+                case ASSERT:
+                    if (check(arg[pc], position)) {
+                        stack[sp++] = pc + 1;
+                        stack[sp++] = 0;
+                    }
+                    break;
+
+                default:
+                    System.arraycopy(captures, 0, list.captures, pc * slots, slots);
+            }
+        }
+
+    }//add
+
+    /*
+     * Avalia a ancora na posicao, com limites transparentes e nao ancorados: o java.util.regex considera o alvo
+     * inteiro, como faria na expressao completa.
+     */
+    private boolean check(final int assertion, final int position) {
+
+        Matcher matcher = assertionMatchers[assertion];
+
+        if (matcher == null) {
+
+            matcher = assertions[assertion].matcher(target);
+
+            matcher.useTransparentBounds(true);
+
+            matcher.useAnchoringBounds(false);
+
+            assertionMatchers[assertion] = matcher;
+        }
+
+        matcher.region(position, target.length());
+
+        return matcher.lookingAt();
+
+    }//check
+
+}//classe Execution
+
+}//classe PikeVM
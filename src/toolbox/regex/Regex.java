@@ -1,5 +1,12 @@
 package toolbox.regex;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -14,9 +21,83 @@ import java.util.regex.PatternSyntaxException;
 *******************************************************************************/
 public final class Regex {
     
+    /**
+     * O mecanismo que executa as pesquisas de expressoes que nao sao tratadas por um localizador especializado.
+     */
+    public enum Engine {
+        
+        /**
+         * <code>java.util.regex</code>, que suporta todas as construcoes, mas que em algumas expressoes pode levar 
+         * tempo exponencial (<code>(a+)+b</code>) ou polinomial (<code>(.+?)="(.+?)"</code>) no tamanho do alvo.
+         */
+        BACKTRACKING,
+        
+        /**
+         * Um automato executado pelo algoritmo de Pike, com custo no pior caso proporcional ao tamanho do alvo vezes
+         * o tamanho da expressao, e com as mesmas ocorrencias e grupos de <code>java.util.regex</code>. Nao suporta 
+         * referencias a grupos, lookahead, lookbehind, grupos atomicos, quantificadores possessivos, flags embutidas, 
+         * as flags <code>COMMENTS</code>, <code>UNIX_LINES</code> e <code>CANON_EQ</code>, nem repeticoes de 
+         * subexpressoes que podem ser vazias.
+         */
+        LINEAR,
+        
+        /**
+         * <code>LINEAR</code> para as expressoes suportadas que podem exigir muito retrocesso (com repeticoes 
+         * ilimitadas aninhadas, como <code>(a+)+</code>, ou com mais de uma repeticao ilimitada, como 
+         * <code>(.+?)="(.+?)"</code>), e <code>BACKTRACKING</code> para as demais, inclusive as que usam construcoes
+         * nao suportadas por <code>LINEAR</code>. Nao garante tempo linear: veja {@link Regex#isLinear() isLinear}.
+         */
+        AUTO
+    };
+    
+    /**
+     * O numero de caracteres lidos de cada vez pelos metodos de pesquisa em fluxos, alem da sobreposicao entre os
+     * trechos.
+     */
+    public static final int STREAM_CHUNK = 64 * 1024;
+    
+    //Caracteres alem do fim da ocorrencia necessarios para avaliar as ancoras ($ antes de \r\n, \b)
+    private static final int STREAM_LOOKAHEAD = 2;
+    
+    /**
+     * O maior comprimento de ocorrencia aceito pelos metodos de pesquisa em fluxos: o trecho pesquisado, com a 
+     * sobreposicao, precisa caber em um array.
+     */
+    public static final int MAX_STREAM_MATCH_LENGTH = (Integer.MAX_VALUE - STREAM_CHUNK) / 2 - STREAM_LOOKAHEAD;
+    
+    //null quando as pesquisas sao feitas pelo localizador especializado
     private final Pattern pattern;
     
+    //O localizador especializado da expressao (veja MatchEngine), ou null
+    private final MatchEngine engine;
+    
+    //engine, se ele realizar as pesquisas; null se elas forem feitas pelo matcher ou pelo PikeVM
+    private final MatchEngine.Finder finder;
+    
+    //O programa de tempo linear, se ele realizar as pesquisas
+    private final PikeVM linear;
+    
+    //Estado das pesquisas do PikeVM, no alvo e no metodo matches
+    private PikeVM.Execution execution;
+    
+    private PikeVM.Execution inputExecution;
+    
     private Matcher matcher;    
+    
+    //Usado pelo metodo matches quando nao ha localizador especializado
+    private Matcher inputMatcher;
+    
+    private String target;
+    
+    //Se a ultima pesquisa localizou uma ocorrencia, e o estado do matcher pode ser consultado
+    private boolean matched;
+    
+    //Estado das pesquisas do localizador especializado e do PikeVM
+    private int matchStart;
+    
+    private int matchEnd;
+    
+    private int searchFrom;
    
     /***************************************************************************
     * Construtor.
@@ -28,12 +109,111 @@ public final class Regex {
     ***************************************************************************/
     public Regex(final String regex) throws PatternSyntaxException {
         
+        this(regex, 0);
+        
+    }//construtor
+    
+    /*******************************************************************************************************************
+     * Construtor. O padrao compilado e obtido do {@link PatternCache PatternCache}, de modo que cada expressao e 
+     * compilada apenas uma vez por processo.
+     * 
+     * <p>Expressoes que sao apenas um literal (<code>abc</code>, <code>\.html</code>) ou alternativas de literais 
+     * (<code>get|set|is</code>) sao localizadas sem <code>java.util.regex</code>, por <code>String.indexOf</code> e 
+     * por um automato de Aho-Corasick, e expressoes como <code>.*\.html</code> tem o metodo 
+     * {@link #matches(String) matches} especializado. Os resultados sao os mesmos de <code>java.util.regex</code>.
+     * 
+     * @param regex Uma expressao regular sintaticamente valida.
+     * 
+     * @param flags As flags de compilacao, como em {@link Pattern#compile(java.lang.String, int) Pattern.compile}.
+     * 
+     * @throws PatternSyntaxException Caso haja erro de sintaxe no argumento <b><i>regex</i></b>.
+     * 
+     * @throws IllegalArgumentException Se <b><i>flags</i></b> contiver bits que nao correspondem a nenhuma flag.
+     ******************************************************************************************************************/
+    public Regex(final String regex, final int flags) throws PatternSyntaxException, IllegalArgumentException {
+        
+        this(regex, flags, Engine.BACKTRACKING);
+        
+    }//construtor
+    
+    /*******************************************************************************************************************
+     * Construtor, com a escolha do mecanismo de pesquisa. Expressoes tratadas por um localizador especializado (veja
+     * {@link #Regex(String, int) Regex(String, int)}) ja sao localizadas em tempo linear e o usam com qualquer 
+     * mecanismo.
+     * 
+     * <p>Com <code>LINEAR</code>, um objeto <code>Regex</code> e adequado para expressoes e alvos nao confiaveis:
+     * nenhuma pesquisa leva mais que tempo linear no tamanho do alvo. Com <code>AUTO</code> nao ha essa garantia: as
+     * expressoes com construcoes nao suportadas pelo mecanismo linear (como <code>(a+)+b\1</code>) sao executadas por
+     * <code>java.util.regex</code>, sem erro. Quem usa <code>AUTO</code> com alvos nao confiaveis deve verificar
+     * {@link #isLinear() isLinear}.
+     * 
+     * @param regex Uma expressao regular sintaticamente valida.
+     * 
+     * @param flags As flags de compilacao, como em {@link Pattern#compile(java.lang.String, int) Pattern.compile}.
+     * 
+     * @param mechanism O mecanismo de pesquisa.
+     * 
+     * @throws PatternSyntaxException Caso haja erro de sintaxe no argumento <b><i>regex</i></b>.
+     * 
+     * @throws IllegalArgumentException Se <b><i>flags</i></b> contiver bits que nao correspondem a nenhuma flag, ou 
+     * se <b><i>mechanism</i></b> for <code>LINEAR</code> e a expressao usar construcoes que ele nao suporta.
+     ******************************************************************************************************************/
+    public Regex(final String regex, final int flags, final Engine mechanism) 
+        throws PatternSyntaxException, IllegalArgumentException {
+        
         matcher = null;
         
-        pattern = Pattern.compile(regex);  
+        target = null;
+        
+        inputMatcher = null;
+        
+        matched = false;
+        
+        engine = PatternCache.getEngine(regex, flags);
+        
+        finder = (engine instanceof MatchEngine.Finder) ? (MatchEngine.Finder) engine : null;
+        
+        pattern = (finder == null) ? PatternCache.get(regex, flags) : null;  
+        
+        linear = (finder == null) ? linear(regex, flags, mechanism) : null;
+        
+        execution = (linear == null) ? null : linear.new Execution();
         
     }//construtor
     
+    /*==================================================================================================================
+     * O programa de tempo linear a ser usado com o mecanismo escolhido, ou null.
+     =================================================================================================================*/
+    private static PikeVM linear(final String regex, final int flags, final Engine mechanism) {
+        
+        if (mechanism == Engine.LINEAR) return PatternCache.getLinear(regex, flags);
+        
+        if (mechanism == Engine.BACKTRACKING) return null;
+        
+        try {
+            
+            PikeVM vm = PatternCache.getLinear(regex, flags);
+            
+            return vm.backtrackingRisk ? vm : null;
+        }
+        catch (IllegalArgumentException e) {
+            
+            return null;
+        }
+        
+    }//linear
+    
+    /**
+     * 
+     * @return <code>true</code> se as pesquisas sao feitas em tempo linear no tamanho do alvo: pelo mecanismo 
+     * <code>LINEAR</code> ou por um localizador especializado.
+     */
+    public boolean isLinear() {
+        
+        return finder != null || linear != null;
+        
+    }//isLinear
+    
     /***************************************************************************
     * Define a String na qual a pesquisa será realizada.
     *
@@ -43,7 +223,16 @@ public final class Regex {
     ***************************************************************************/
     public void setTarget(final String target) throws NullPointerException {        
    
-        matcher = pattern.matcher(target);  
+        if (target == null) throw new NullPointerException("target");
+        
+        //O Matcher e reaproveitado quando o alvo e redefinido
+        if (finder != null || linear != null) searchFrom = 0; 
+        else if (matcher == null) matcher = pattern.matcher(target); 
+        else matcher.reset(target);
+        
+        this.target = target;
+        
+        matched = false;
         
     }//setTarget
     
@@ -65,10 +254,30 @@ public final class Regex {
     ***************************************************************************/
     public String find() {
         
-        if (matcher.find()) return matcher.group(); else return null;    
+        if (findNext()) return group(0); else return null;    
         
     }//find()
     
+    /***************************************************************************
+    * Reinicia a pesquisa a partir de uma posicao da String alvo e retorna a
+    * primeira substring a partir dela que corresponda ao padrao. As chamadas
+    * subsequentes ao metodo {@link #find() find()} continuam a partir desta
+    * ocorrencia.
+    *
+    * @param start A posicao da String alvo onde a pesquisa deve iniciar.
+    *
+    * @return A substring localizada, ou <code>null</code> se nao houver
+    * ocorrencia do padrao a partir de <b><i>start</i></b>.
+    *
+    * @throws IndexOutOfBoundsException Se <b><i>start</i></b> for negativo ou
+    * maior que o comprimento da String alvo.
+    ***************************************************************************/
+    public String find(final int start) throws IndexOutOfBoundsException {
+        
+        if (findNext(start)) return group(0); else return null;
+        
+    }//find(int)
+    
     /***************************************************************************
     * Obtém um grupo na <code>String</code> localizada pelo padrão.
     *
@@ -82,18 +291,18 @@ public final class Regex {
     ***************************************************************************/
     public String group(final int group) {
         
-        String s;
+        if (!matched || group < 0 || group > groupCount()) return null;
         
-        try {
+        if (finder != null) return target.substring(matchStart, matchEnd);
+        
+        if (linear != null) {
             
-            s = matcher.group(group);
-        }
-        catch (IndexOutOfBoundsException | IllegalStateException e) {
+            int start = execution.start(group);
             
-            return null;
+            return (start < 0) ? null : target.substring(start, execution.end(group));
         }
  
-        return s;
+        return matcher.group(group);
         
     }//group
     
@@ -107,8 +316,462 @@ public final class Regex {
      ******************************************************************************************************************/
     public int start() throws IllegalStateException {
         
-        return matcher.start();
+        if (finder == null && linear == null) return matcher.start();
+        
+        checkMatch(0);
+        
+        return matchStart;
+        
+    }//start
+    
+    /*******************************************************************************************************************
+     * Localiza a proxima ocorrencia do padrao sem criar a <code>String</code> correspondente. As posicoes da 
+     * ocorrencia e dos seus grupos sao obtidas com {@link #start(int) start} e {@link #end(int) end}.
+     * 
+     * @return <code>true</code> se foi localizada uma ocorrencia.
+     * 
+     * @throws IllegalStateException Se a String alvo nao foi definida.
+     ******************************************************************************************************************/
+    public boolean findNext() throws IllegalStateException {
+        
+        checkTarget();
+        
+        if (finder == null && linear == null) {
+            
+            matched = matcher.find();
+            
+            return matched;
+        }
+        
+        int from = searchFrom;
+        
+        //como no Matcher, a pesquisa seguinte a uma ocorrencia vazia comeca na posicao seguinte
+        if (matched && matchStart == matchEnd) from++;
+        
+        if (from > target.length()) {
+            
+            matched = false;
+            
+            searchFrom = from;
+            
+            return false;
+        }
+        
+        return search(from);
+        
+    }//findNext
+    
+    /*******************************************************************************************************************
+     * Reinicia a pesquisa a partir de uma posicao da String alvo e localiza a primeira ocorrencia do padrao a partir 
+     * dela, sem criar a <code>String</code> correspondente.
+     * 
+     * @param start A posicao da String alvo onde a pesquisa deve iniciar.
+     * 
+     * @return <code>true</code> se foi localizada uma ocorrencia.
+     * 
+     * @throws IndexOutOfBoundsException Se <b><i>start</i></b> for negativo ou maior que o comprimento da String 
+     * alvo.
+     * 
+     * @throws IllegalStateException Se a String alvo nao foi definida.
+     ******************************************************************************************************************/
+    public boolean findNext(final int start) throws IndexOutOfBoundsException, IllegalStateException {
+        
+        checkTarget();
+        
+        if (finder == null && linear == null) {
+            
+            matched = matcher.find(start);
+            
+            return matched;
+        }
+        
+        if (start < 0 || start > target.length()) throw new IndexOutOfBoundsException("Illegal start index");
+        
+        //como Matcher.find(int), reinicia a pesquisa
+        searchFrom = 0;
+        
+        return search(start);
+        
+    }//findNext
+    
+    /*******************************************************************************************************************
+     * Retorna a posicao do inicio de um grupo na ultima ocorrencia localizada.
+     * 
+     * @param group O indice do grupo. 0 corresponde a ocorrencia inteira.
+     * 
+     * @return A posicao na String alvo, ou -1 se o grupo nao participou da ocorrencia.
+     * 
+     * @throws IllegalStateException Se nenhuma ocorrencia foi localizada pela ultima pesquisa.
+     * 
+     * @throws IndexOutOfBoundsException Se nao existir o grupo <b><i>group</i></b>.
+     ******************************************************************************************************************/
+    public int start(final int group) throws IllegalStateException, IndexOutOfBoundsException {
+        
+        if (finder == null && linear == null) return matcher.start(group);
+        
+        checkMatch(group);
+        
+        return (linear != null) ? execution.start(group) : matchStart;
         
     }//start
     
+    /*******************************************************************************************************************
+     * Retorna a posicao seguinte ao fim da ultima ocorrencia localizada.
+     * 
+     * @return A posicao na String alvo.
+     * 
+     * @throws IllegalStateException Se nenhuma ocorrencia foi localizada pela ultima pesquisa.
+     ******************************************************************************************************************/
+    public int end() throws IllegalStateException {
+        
+        if (finder == null && linear == null) return matcher.end();
+        
+        checkMatch(0);
+        
+        return matchEnd;
+        
+    }//end
+    
+    /*******************************************************************************************************************
+     * Retorna a posicao seguinte ao fim de um grupo na ultima ocorrencia localizada.
+     * 
+     * @param group O indice do grupo. 0 corresponde a ocorrencia inteira.
+     * 
+     * @return A posicao na String alvo, ou -1 se o grupo nao participou da ocorrencia.
+     * 
+     * @throws IllegalStateException Se nenhuma ocorrencia foi localizada pela ultima pesquisa.
+     * 
+     * @throws IndexOutOfBoundsException Se nao existir o grupo <b><i>group</i></b>.
+     ******************************************************************************************************************/
+    public int end(final int group) throws IllegalStateException, IndexOutOfBoundsException {
+        
+        if (finder == null && linear == null) return matcher.end(group);
+        
+        checkMatch(group);
+        
+        return (linear != null) ? execution.end(group) : matchEnd;
+        
+    }//end
+    
+    /**
+     * 
+     * @return O numero de grupos de captura da expressao regular.
+     */
+    public int groupCount() {
+        
+        if (finder != null) return finder.capturing ? 1 : 0;
+        
+        if (linear != null) return linear.groupCount;
+        
+        return (matcher != null) ? matcher.groupCount() : pattern.matcher("").groupCount();
+        
+    }//groupCount
+    
+    /*******************************************************************************************************************
+     * Percorre todas as ocorrencias do padrao na String alvo, do inicio, passando a <b><i>consumer</i></b> as 
+     * posicoes de cada uma. Nenhum objeto e criado por ocorrencia. Durante a chamada a 
+     * {@link MatchConsumer#match(String, int, int) match}, as posicoes dos grupos podem ser obtidas com 
+     * {@link #start(int) start} e {@link #end(int) end}.
+     * 
+     * @param consumer Recebe as ocorrencias.
+     * 
+     * @return O numero de ocorrencias passadas a <b><i>consumer</i></b>.
+     * 
+     * @throws IllegalStateException Se a String alvo nao foi definida.
+     * 
+     * @throws Exception Se <b><i>consumer</i></b> lancar uma excecao.
+     ******************************************************************************************************************/
+    public int forEachMatch(final MatchConsumer consumer) throws Exception {
+        
+        checkTarget();
+        
+        if (matcher != null) {
+            
+            matcher.reset();
+        }
+        else {
+            
+            searchFrom = 0;
+            
+            matched = false;
+        }
+        
+        int count = 0;
+        
+        while (findNext()) {
+            
+            count++;
+            
+            if (!consumer.match(target, start(), end())) break;
+        }
+        
+        return count;
+        
+    }//forEachMatch
+    
+    /*******************************************************************************************************************
+     * Percorre as ocorrencias do padrao em um texto lido de <b><i>reader</i></b>, sem carrega-lo inteiro na memoria: 
+     * o texto e lido em trechos de {@link #STREAM_CHUNK STREAM_CHUNK} caracteres, e cada trecho e pesquisado junto 
+     * com o final do anterior, de modo que ocorrencias que atravessam o limite entre trechos sao localizadas. O 
+     * consumo de memoria e proporcional a <code>STREAM_CHUNK + maxMatchLength</code>, qualquer que seja o tamanho do 
+     * texto.
+     * 
+     * <p>As ocorrencias sao as mesmas que seriam localizadas com {@link #findNext() findNext} no texto inteiro, desde 
+     * que nenhuma tenha mais que <b><i>maxMatchLength</i></b> caracteres (incluidos os examinados por lookahead e 
+     * lookbehind). Ocorrencias mais longas podem ser truncadas ou divididas.
+     * 
+     * <p>Durante a chamada a {@link StreamConsumer#match(String, int, int, long) match}, as posicoes dos grupos no 
+     * trecho podem ser obtidas com {@link #start(int) start} e {@link #end(int) end}. Ao final, a String alvo passa a 
+     * ser vazia. O fluxo nao e fechado.
+     * 
+     * @param reader O fluxo com o texto a ser pesquisado.
+     * 
+     * @param maxMatchLength O comprimento maximo de uma ocorrencia, que determina a sobreposicao entre os trechos.
+     * 
+     * @param consumer Recebe as ocorrencias.
+     * 
+     * @return O numero de ocorrencias passadas a <b><i>consumer</i></b>.
+     * 
+     * @throws IllegalArgumentException Se <b><i>maxMatchLength</i></b> for menor que 1 ou maior que 
+     * {@link #MAX_STREAM_MATCH_LENGTH MAX_STREAM_MATCH_LENGTH}.
+     * 
+     * @throws IOException Em caso de erro de leitura.
+     * 
+     * @throws Exception Se <b><i>consumer</i></b> lancar uma excecao.
+     ******************************************************************************************************************/
+    public long forEachMatch(final Reader reader, final int maxMatchLength, final StreamConsumer consumer) 
+        throws IllegalArgumentException, IOException, Exception {
+        
+        if (maxMatchLength < 1) throw new IllegalArgumentException("maxMatchLength < 1");
+        
+        if (maxMatchLength > MAX_STREAM_MATCH_LENGTH) {
+            
+            throw new IllegalArgumentException("maxMatchLength > " + MAX_STREAM_MATCH_LENGTH);
+        }
+        
+        //Ocorrencias que comecam a menos de margin caracteres do fim do trecho ficam para o trecho seguinte
+        int margin = maxMatchLength + STREAM_LOOKAHEAD;
+        
+        char[] buffer = new char[STREAM_CHUNK + 2 * margin];
+        
+        //A posicao de buffer[0] no texto
+        long offset = 0;
+        
+        int length = 0;
+        
+        //A posicao no trecho onde a pesquisa deve comecar
+        int next = 0;
+        
+        long count = 0;
+        
+        boolean eof = false;
+        
+        try {
+            
+            while (true) {
+                
+                while (length < buffer.length && !eof) {
+                    
+                    int n = reader.read(buffer, length, buffer.length - length);
+                    
+                    if (n < 0) eof = true; else length += n;
+                }
+                
+                String chunk = new String(buffer, 0, length);
+                
+                int limit = eof ? length + 1 : length - margin;
+                
+                int resume = limit;
+                
+                setTarget(chunk);
+                
+                if (next <= length) {
+                    
+                    boolean found = findNext(next);
+                    
+                    while (found && start() < limit) {
+                        
+                        count++;
+                        
+                        if (!consumer.match(chunk, start(), end(), offset)) return count;
+                        
+                        resume = Math.max(limit, end());
+                        
+                        found = findNext();
+                    }
+                }
+                
+                if (eof) return count;
+                
+                //O trecho seguinte comeca com o contexto que precede a retomada, para as ancoras e o lookbehind
+                int retained = Math.max(0, resume - maxMatchLength);
+                
+                System.arraycopy(buffer, retained, buffer, 0, length - retained);
+                
+                offset += retained;
+                
+                length -= retained;
+                
+                next = resume - retained;
+            }
+        }
+        finally {
+            
+            setTarget("");
+        }
+        
+    }//forEachMatch
+    
+    /*******************************************************************************************************************
+     * Percorre as ocorrencias do padrao em um texto lido de <b><i>channel</i></b>, como 
+     * {@link #forEachMatch(Reader, int, StreamConsumer) forEachMatch(Reader, int, StreamConsumer)}. Bytes invalidos 
+     * no charset sao substituidos pelo caractere de substituicao. As posicoes passadas a <b><i>consumer</i></b> sao 
+     * contadas em caracteres (unidades UTF-16) do texto decodificado, nao em bytes. O canal nao e fechado.
+     * 
+     * @param channel O canal com o texto a ser pesquisado.
+     * 
+     * @param charset O charset do texto.
+     * 
+     * @param maxMatchLength O comprimento maximo de uma ocorrencia, que determina a sobreposicao entre os trechos.
+     * 
+     * @param consumer Recebe as ocorrencias.
+     * 
+     * @return O numero de ocorrencias passadas a <b><i>consumer</i></b>.
+     * 
+     * @throws IllegalArgumentException Se <b><i>maxMatchLength</i></b> for menor que 1 ou maior que 
+     * {@link #MAX_STREAM_MATCH_LENGTH MAX_STREAM_MATCH_LENGTH}.
+     * 
+     * @throws IOException Em caso de erro de leitura.
+     * 
+     * @throws Exception Se <b><i>consumer</i></b> lancar uma excecao.
+     ******************************************************************************************************************/
+    public long forEachMatch(
+        final ReadableByteChannel channel,
+        final Charset charset,
+        final int maxMatchLength,
+        final StreamConsumer consumer
+    ) throws IllegalArgumentException, IOException, Exception {
+        
+        //Channels.newReader(channel, charset) lancaria MalformedInputException nos bytes invalidos
+        CharsetDecoder decoder = 
+            charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        
+        return forEachMatch(Channels.newReader(channel, decoder, -1), maxMatchLength, consumer);
+        
+    }//forEachMatch
+    
+    /*******************************************************************************************************************
+     * Informa se a expressao corresponde a totalidade de <b><i>input</i></b>, como 
+     * {@link java.util.regex.Matcher#matches() Matcher.matches}. Nao altera o estado das pesquisas na String alvo.
+     * 
+     * @param input O texto a ser verificado.
+     * 
+     * @return <code>true</code> se o texto inteiro corresponder a expressao.
+     ******************************************************************************************************************/
+    public boolean matches(final String input) {
+        
+        if (engine != null) return engine.matches(input);
+        
+        if (linear != null) {
+            
+            if (inputExecution == null) inputExecution = linear.new Execution();
+            
+            return inputExecution.matches(input);
+        }
+        
+        if (inputMatcher == null) inputMatcher = pattern.matcher(input); else inputMatcher.reset(input);
+        
+        return inputMatcher.matches();
+        
+    }//matches
+    
+    /*==================================================================================================================
+     * Pesquisa do localizador especializado ou do PikeVM. Como no Matcher, a pesquisa seguinte prossegue do fim da 
+     * ultima ocorrencia localizada, ou do inicio do alvo se nenhuma foi localizada desde o ultimo reinicio.
+     =================================================================================================================*/
+    private boolean search(final int from) {
+        
+        long match = (finder != null) ? finder.find(target, from) : execution.find(target, from);
+        
+        matched = match >= 0;
+        
+        if (matched) {
+            
+            matchStart = (int) (match >>> 32);
+            
+            matchEnd = (int) match;
+            
+            searchFrom = matchEnd;
+        }
+        
+        return matched;
+        
+    }//search
+    
+    private void checkTarget() throws IllegalStateException {
+        
+        if (target == null) throw new IllegalStateException("target not set");
+        
+    }//checkTarget
+    
+    /*==================================================================================================================
+     * Mesmas excecoes de Matcher.start(int) para o localizador especializado e o PikeVM.
+     =================================================================================================================*/
+    private void checkMatch(final int group) throws IllegalStateException, IndexOutOfBoundsException {
+        
+        if (!matched) throw new IllegalStateException("No match available");
+        
+        if (group < 0 || group > groupCount()) throw new IndexOutOfBoundsException("No group " + group);
+        
+    }//checkMatch
+    
+/*======================================================================================================================
+ * Recebe as ocorrencias localizadas pelo metodo forEachMatch.
+======================================================================================================================*/
+public abstract static class MatchConsumer {
+    
+    /**
+     * Chamado para cada ocorrencia, na ordem em que aparecem na String alvo.
+     * 
+     * @param target A String alvo.
+     * 
+     * @param start A posicao do inicio da ocorrencia.
+     * 
+     * @param end A posicao seguinte ao fim da ocorrencia.
+     * 
+     * @return <code>true</code> para prosseguir a pesquisa, <code>false</code> para encerra-la.
+     * 
+     * @throws Exception Interrompe a pesquisa e e relancada pelo metodo forEachMatch.
+     */
+    public abstract boolean match(String target, int start, int end) throws Exception;
+    
+}//classe MatchConsumer
+
+/*======================================================================================================================
+ * Recebe as ocorrencias localizadas pelos metodos forEachMatch que leem o texto de um fluxo.
+======================================================================================================================*/
+public abstract static class StreamConsumer {
+    
+    /**
+     * Chamado para cada ocorrencia, na ordem em que aparecem no texto.
+     * 
+     * @param chunk O trecho do texto que contem a ocorrencia.
+     * 
+     * @param start A posicao do inicio da ocorrencia no trecho.
+     * 
+     * @param end A posicao seguinte ao fim da ocorrencia no trecho.
+     * 
+     * @param offset A posicao do inicio do trecho no texto. A ocorrencia comeca na posicao 
+     * <code>offset + start</code> do texto.
+     * 
+     * @return <code>true</code> para prosseguir a pesquisa, <code>false</code> para encerra-la.
+     * 
+     * @throws Exception Interrompe a pesquisa e e relancada pelo metodo forEachMatch.
+     */
+    public abstract boolean match(String chunk, int start, int end, long offset) throws Exception;
+    
+}//classe StreamConsumer
+    
 }//classe Regex
@@ -0,0 +1,603 @@
+package toolbox.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/***********************************************************************************************************************
+ * Um conjunto de expressoes regulares verificado contra um texto de uma so vez, para classificar linhas ou documentos
+ * contra muitos padroes.
+ *
+ * <p>Na construcao, e extraido de cada expressao um literal obrigatorio: um trecho de texto que toda ocorrencia da
+ * expressao contem (em <code>ERROR [0-9]+ in \w+\.java</code>, o literal <code>" in "</code> ou
+ * <code>"ERROR "</code>; em <code>foo\d|bar\d</code>, um literal por alternativa). Os literais de todas as expressoes
+ * sao reunidos em um unico automato de Aho-Corasick, e cada texto e percorrido uma vez por este automato para
+ * determinar quais literais ocorrem nele. Apenas as expressoes cujo literal ocorre no texto (e as expressoes das quais
+ * nao foi possivel extrair um literal) sao de fato pesquisadas, com os objetos {@link Regex Regex}
+ * correspondentes. Com centenas de padroes, a maioria e descartada sem nenhuma pesquisa.
+ *
+ * <p>O resultado e o mesmo que seria obtido pesquisando cada expressao com {@link Regex#findNext() findNext}. Os
+ * objetos desta classe mantem estado entre as pesquisas e nao devem ser compartilhados por varias threads.
+ *
+ * <pre>
+ * <code>
+ * RegexSet set = new RegexSet("timeout after \\d+ ms", "connection (refused|reset)", "OutOfMemoryError");
+ * for (String line : lines) {
+ *     for (int i : set.matching(line)) counts[i]++;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Pedro Reis
+ *
+ * @version 1.0
+ *
+ * @since 1.0 - 19 de outubro de 2026
+ **********************************************************************************************************************/
+public final class RegexSet {
+
+    private final String[] patterns;
+
+    private final Regex[] regexes;
+
+    //Automato com os literais distintos de todas as expressoes, ou null se nenhuma tiver literal
+    private final MatchEngine.Alternation prefilter;
+
+    //Para cada expressao, os indices em prefilter dos seus literais (basta um ocorrer), ou null se nao tiver literal
+    private final int[][] literals;
+
+    //Expressoes sem literal, sempre pesquisadas
+    private final int[] unfiltered;
+
+    private final boolean[] found;
+
+    private final int[] candidates;
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param regexes As expressoes regulares. O indice de cada uma identifica a expressao nos resultados.
+     *
+     * @throws PatternSyntaxException Se alguma expressao tiver erro de sintaxe.
+     ******************************************************************************************************************/
+    public RegexSet(final String... regexes) throws PatternSyntaxException {
+
+        this(Arrays.asList(regexes), 0);
+
+    }//construtor
+
+    /*******************************************************************************************************************
+     * Construtor.
+     *
+     * @param regexes As expressoes regulares. O indice de cada uma identifica a expressao nos resultados.
+     *
+     * @param flags As flags de compilacao de todas as expressoes, como em
+     * {@link java.util.regex.Pattern#compile(java.lang.String, int) Pattern.compile}. Com flags, nenhum literal e
+     * extraido e todas as expressoes sao pesquisadas.
+     *
+     * @throws PatternSyntaxException Se alguma expressao tiver erro de sintaxe.
+     ******************************************************************************************************************/
+    public RegexSet(final List<String> regexes, final int flags) throws PatternSyntaxException {
+
+        int n = regexes.size();
+
+        patterns = regexes.toArray(new String[0]);
+
+        this.regexes = new Regex[n];
+
+        literals = new int[n][];
+
+        HashMap<String, Integer> literalIndex = new HashMap<>();
+
+        List<Integer> withoutLiteral = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+
+            this.regexes[i] = new Regex(patterns[i], flags);
+
+            List<String> required = (flags == 0) ? requiredLiterals(patterns[i]) : null;
+
+            if (required == null) {
+
+                withoutLiteral.add(i);
+
+                continue;
+            }
+
+            literals[i] = new int[required.size()];
+
+            for (int j = 0; j < required.size(); j++) {
+
+                Integer index = literalIndex.get(required.get(j));
+
+                if (index == null) {
+
+                    index = literalIndex.size();
+
+                    literalIndex.put(required.get(j), index);
+                }
+
+                literals[i][j] = index;
+            }
+        }
+
+        String[] distinct = new String[literalIndex.size()];
+
+        for (String literal : literalIndex.keySet()) distinct[literalIndex.get(literal)] = literal;
+
+        prefilter = (distinct.length == 0) ? null : new MatchEngine.Alternation(distinct, false);
+
+        found = new boolean[distinct.length];
+
+        unfiltered = new int[withoutLiteral.size()];
+
+        for (int i = 0; i < unfiltered.length; i++) unfiltered[i] = withoutLiteral.get(i);
+
+        candidates = new int[n];
+
+    }//construtor
+
+    /**
+     *
+     * @return O numero de expressoes do conjunto.
+     */
+    public int size() {
+
+        return patterns.length;
+
+    }//size
+
+    /**
+     *
+     * @param index O indice da expressao.
+     *
+     * @return A expressao regular.
+     */
+    public String getPattern(final int index) {
+
+        return patterns[index];
+
+    }//getPattern
+
+    /**
+     *
+     * @return O numero de expressoes que sao pesquisadas em todos os textos, por nao ter sido possivel extrair
+     * delas um literal obrigatorio.
+     */
+    public int getUnfilteredCount() {
+
+        return unfiltered.length;
+
+    }//getUnfilteredCount
+
+    /*******************************************************************************************************************
+     * Determina as expressoes que tem ao menos uma ocorrencia em <b><i>input</i></b>.
+     *
+     * @param input O texto.
+     *
+     * @return Os indices das expressoes, em ordem crescente.
+     ******************************************************************************************************************/
+    public int[] matching(final String input) {
+
+        int count = candidates(input);
+
+        int matches = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            Regex regex = regexes[candidates[i]];
+
+            regex.setTarget(input);
+
+            if (regex.findNext()) candidates[matches++] = candidates[i];
+        }
+
+        return Arrays.copyOf(candidates, matches);
+
+    }//matching
+
+    /*******************************************************************************************************************
+     * Informa se alguma expressao tem ocorrencia em <b><i>input</i></b>.
+     *
+     * @param input O texto.
+     *
+     * @return <code>true</code> se alguma expressao ocorrer no texto.
+     ******************************************************************************************************************/
+    public boolean matchesAny(final String input) {
+
+        int count = candidates(input);
+
+        for (int i = 0; i < count; i++) {
+
+            Regex regex = regexes[candidates[i]];
+
+            regex.setTarget(input);
+
+            if (regex.findNext()) return true;
+        }
+
+        return false;
+
+    }//matchesAny
+
+    /*******************************************************************************************************************
+     * Passa a <b><i>consumer</i></b> todas as ocorrencias de todas as expressoes em <b><i>input</i></b>, em ordem de
+     * posicao (e, na mesma posicao, em ordem de indice da expressao). As ocorrencias de cada expressao sao as
+     * localizadas por {@link Regex#findNext() findNext}, sem sobreposicao entre si, mas ocorrencias de expressoes
+     * diferentes podem se sobrepor.
+     *
+     * @param input O texto.
+     *
+     * @param consumer Recebe as ocorrencias.
+     *
+     * @return O numero de ocorrencias passadas a <b><i>consumer</i></b>.
+     *
+     * @throws Exception Se <b><i>consumer</i></b> lancar uma excecao.
+     ******************************************************************************************************************/
+    public int forEachMatch(final String input, final MatchConsumer consumer) throws Exception {
+
+        int count = candidates(input);
+
+        //candidatas com ocorrencia pendente ficam nas primeiras posicoes
+        int pending = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            Regex regex = regexes[candidates[i]];
+
+            regex.setTarget(input);
+
+            if (regex.findNext()) candidates[pending++] = candidates[i];
+        }
+
+        int reported = 0;
+
+        while (pending > 0) {
+
+            int best = 0;
+
+            for (int i = 1; i < pending; i++) {
+
+                int start = regexes[candidates[i]].start();
+
+                int bestStart = regexes[candidates[best]].start();
+
+                if (start < bestStart || (start == bestStart && candidates[i] < candidates[best])) best = i;
+            }
+
+            int index = candidates[best];
+
+            Regex regex = regexes[index];
+
+            reported++;
+
+            if (!consumer.match(index, input, regex.start(), regex.end())) break;
+
+            if (!regex.findNext()) candidates[best] = candidates[--pending];
+        }
+
+        return reported;
+
+    }//forEachMatch
+
+    /*==================================================================================================================
+     * Percorre input com o automato dos literais e preenche candidates com as expressoes que devem ser pesquisadas,
+     * em ordem crescente. Retorna o numero de candidatas.
+     =================================================================================================================*/
+    private int candidates(final String input) {
+
+        if (prefilter != null) {
+
+            Arrays.fill(found, false);
+
+            prefilter.scan(input, found);
+        }
+
+        int count = 0;
+
+        int u = 0;
+
+        for (int i = 0; i < patterns.length; i++) {
+
+            if (u < unfiltered.length && unfiltered[u] == i) {
+
+                candidates[count++] = i;
+
+                u++;
+
+                continue;
+            }
+
+            for (int literal : literals[i]) {
+
+                if (found[literal]) {
+
+                    candidates[count++] = i;
+
+                    break;
+                }
+            }
+        }
+
+        return count;
+
+    }//candidates
+
+    /*==================================================================================================================
+     * Extrai os literais obrigatorios da expressao: um por alternativa de nivel superior, o mais longo trecho de texto
+     * literal fora de grupos, classes e quantificadores. Retorna null se alguma alternativa nao tiver literal ou se a
+     * expressao usar construcoes que alterem a interpretacao dos literais (flags embutidas, \Q...\E).
+     =================================================================================================================*/
+    static List<String> requiredLiterals(final String regex) {
+
+        if (regex.contains("\\Q")) return null;
+
+        List<String> result = new ArrayList<>();
+
+        StringBuilder run = new StringBuilder();
+
+        String best = "";
+
+        int length = regex.length();
+
+        int i = 0;
+
+        while (true) {
+
+            if (i >= length || regex.charAt(i) == '|') {
+
+                if (run.length() > best.length()) best = run.toString();
+
+                if (best.isEmpty()) return null;
+
+                result.add(best);
+
+                if (i >= length) return result;
+
+                best = "";
+
+                run.setLength(0);
+
+                i++;
+
+                continue;
+            }
+
+            char c = regex.charAt(i);
+
+            if (c == '(' || c == '[') {
+
+                if (c == '(' && i + 2 < length && regex.charAt(i + 1) == '?' && isInlineFlag(regex.charAt(i + 2)))
+                    return null;
+
+                int close = (c == '(') ? skipGroup(regex, i) : skipClass(regex, i);
+
+                if (close < 0) return null;
+
+                if (run.length() > best.length()) best = run.toString();
+
+                run.setLength(0);
+
+                i = close + 1;
+
+                continue;
+            }
+
+            if (c == '?' || c == '*' || c == '+' || c == '{') {
+
+                //o quantificador se aplica ao ultimo caractere do trecho, que deixa de ser obrigatorio
+                if (run.length() > 0) run.setLength(run.length() - 1);
+
+                if (run.length() > 0 && Character.isHighSurrogate(run.charAt(run.length() - 1)))
+                    run.setLength(run.length() - 1);
+
+                if (run.length() > best.length()) best = run.toString();
+
+                run.setLength(0);
+
+                if (c == '{') {
+
+                    int close = regex.indexOf('}', i);
+
+                    if (close < 0) return null;
+
+                    i = close;
+                }
+
+                i++;
+
+                continue;
+            }
+
+            if (c == '\\') {
+
+                if (i + 1 >= length) return null;
+
+                char next = regex.charAt(i + 1);
+
+                if (next < 128 && !Character.isLetterOrDigit(next)) {
+
+                    run.append(next);
+                }
+                else {
+
+                    if (run.length() > best.length()) best = run.toString();
+
+                    run.setLength(0);
+
+                    i = skipEscape(regex, i);
+
+                    if (i < 0) return null;
+
+                    continue;
+                }
+
+                i += 2;
+
+                continue;
+            }
+
+            if (c == '.' || c == '^' || c == '$') {
+
+                if (run.length() > best.length()) best = run.toString();
+
+                run.setLength(0);
+            }
+            else {
+
+                run.append(c);
+            }
+
+            i++;
+        }
+
+    }//requiredLiterals
+
+    /*==================================================================================================================
+     * Posicao seguinte ao escape alfanumerico iniciado em start, incluindo seus argumentos (\x41, \p{L}, \cX,
+     * \k<nome>, referencias e octais), ou -1 se o escape estiver incompleto.
+     =================================================================================================================*/
+    private static int skipEscape(final String regex, final int start) {
+
+        int length = regex.length();
+
+        char c = regex.charAt(start + 1);
+
+        int i = start + 2;
+
+        switch (c) {
+
+            case 'x':
+                if (i < length && regex.charAt(i) == '{') {
+                    int close = regex.indexOf('}', i);
+                    return (close < 0) ? -1 : close + 1;
+                }
+                return Math.min(i + 2, length);
+
+            case 'u':
+                return Math.min(i + 4, length);
+
+            case 'c':
+                return Math.min(i + 1, length);
+
+            case 'p': case 'P': case 'N':
+                if (i < length && regex.charAt(i) == '{') {
+                    int close = regex.indexOf('}', i);
+                    return (close < 0) ? -1 : close + 1;
+                }
+                return Math.min(i + 1, length);
+
+            case 'k':
+                int close = regex.indexOf('>', i);
+                return (close < 0) ? -1 : close + 1;
+
+            default:
+                //octal (\0nnn) ou referencia a grupo (\n): os digitos seguintes fazem parte do escape
+                if (Character.isDigit(c)) while (i < length && Character.isDigit(regex.charAt(i))) i++;
+                return i;
+        }
+
+    }//skipEscape
+
+    private static boolean isInlineFlag(final char c) {
+
+        return c == '-' || "idmsuxU".indexOf(c) >= 0;
+
+    }//isInlineFlag
+
+    /*==================================================================================================================
+     * Posicao do ) que fecha o grupo aberto em start, ou -1.
+     =================================================================================================================*/
+    private static int skipGroup(final String regex, final int start) {
+
+        int depth = 0;
+
+        for (int i = start; i < regex.length(); i++) {
+
+            char c = regex.charAt(i);
+
+            if (c == '\\') {
+
+                i++;
+            }
+            else if (c == '[') {
+
+                i = skipClass(regex, i);
+
+                if (i < 0) return -1;
+            }
+            else if (c == '(') {
+
+                depth++;
+            }
+            else if (c == ')' && --depth == 0) {
+
+                return i;
+            }
+        }
+
+        return -1;
+
+    }//skipGroup
+
+    /*==================================================================================================================
+     * Posicao do ] que fecha a classe aberta em start, ou -1. Classes podem conter classes aninhadas e um ] logo
+     * apos o [ (ou [^) e literal.
+     =================================================================================================================*/
+    static int skipClass(final String regex, final int start) {
+
+        int depth = 0;
+
+        for (int i = start; i < regex.length(); i++) {
+
+            char c = regex.charAt(i);
+
+            if (c == '\\') {
+
+                i++;
+            }
+            else if (c == '[') {
+
+                depth++;
+
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') i++;
+
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') i++;
+            }
+            else if (c == ']' && --depth == 0) {
+
+                return i;
+            }
+        }
+
+        return -1;
+
+    }//skipClass
+
+/*======================================================================================================================
+ * Recebe as ocorrencias localizadas pelo metodo forEachMatch.
+======================================================================================================================*/
+public abstract static class MatchConsumer {
+
+    /**
+     * Chamado para cada ocorrencia.
+     *
+     * @param pattern O indice da expressao.
+     *
+     * @param target O texto pesquisado.
+     *
+     * @param start A posicao do inicio da ocorrencia.
+     *
+     * @param end A posicao seguinte ao fim da ocorrencia.
+     *
+     * @return <code>true</code> para prosseguir a pesquisa, <code>false</code> para encerra-la.
+     *
+     * @throws Exception Interrompe a pesquisa e e relancada pelo metodo forEachMatch.
+     */
+    public abstract boolean match(int pattern, String target, int start, int end) throws Exception;
+
+}//classe MatchConsumer
+
+}//classe RegexSet
@@ -191,7 +191,7 @@ public final class StringTools {
             
         }//for
  
-        return new String(charArray).replaceAll("\\W", "");
+        return toolbox.regex.PatternCache.get("\\W").matcher(new String(charArray)).replaceAll("");
 
     }//normalizeToCompare 
     
@@ -507,7 +507,7 @@ public class TextFileHandler {
     public void setPattern(final String pattern) 
         throws PatternSyntaxException {
         
-        Pattern p = Pattern.compile(pattern);
+        Pattern p = toolbox.regex.PatternCache.get(pattern);
         matcher = p.matcher(content);
         
     }//setPattern